@@ -0,0 +1,135 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+import cs3500.pawnsboard.model.mock.MockPawnsBoardModel;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for CachingStrategy.
+ */
+public class CachingStrategyTest {
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+  private int decisions;
+  private Strategy counting;
+
+  @Before
+  public void setUp() {
+    redDeck = TestDecks.red(18);
+    blueDeck = TestDecks.blue(18);
+    Strategy maxRow = new MaximizeRowScoreStrategy();
+    counting = (model, player) -> {
+      decisions++;
+      return maxRow.chooseMove(model, player);
+    };
+  }
+
+  private PawnsBoardModel newGame() {
+    PawnsBoardModel model = new PawnsBoardModelImpl(7);
+    model.initGame(5, 7, redDeck, blueDeck, 5);
+    model.startGame();
+    return model;
+  }
+
+  @Test
+  public void testRepeatedPositionCostsALookup() {
+    CachingStrategy caching = new CachingStrategy(counting);
+    ReadonlyPawnsBoardModel first = newGame();
+    ReadonlyPawnsBoardModel second = newGame();
+
+    Strategy.Move move = caching.chooseMove(first, Player.RED);
+    assertEquals(move, caching.chooseMove(first, Player.RED));
+    assertEquals(move, caching.chooseMove(second, Player.RED));
+    assertEquals(1, decisions);
+    assertEquals(2, caching.getHits());
+    assertEquals(1, caching.getMisses());
+    assertEquals(2.0 / 3, caching.getHitRate(), 1e-9);
+  }
+
+  @Test
+  public void testChainedStrategyReusesSubStrategyDecisions() {
+    CachingStrategy caching = new CachingStrategy(counting);
+    Strategy chained = new ChainedStrategy(List.of(caching, new FillFirstStrategy()));
+    PawnsBoardModel model = newGame();
+    Strategy.Move move = chained.chooseMove(model, Player.RED);
+    assertEquals(move, chained.chooseMove(model, Player.RED));
+    assertEquals(1, decisions);
+  }
+
+  @Test
+  public void testLeastRecentlyUsedPositionIsEvicted() {
+    CachingStrategy caching = new CachingStrategy(counting, 2);
+    PawnsBoardModel model = newGame();
+    ReadonlyPawnsBoardModel start = model.copy();
+
+    Strategy.Move move = caching.chooseMove(model, Player.RED);
+    model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+    ReadonlyPawnsBoardModel afterRed = model.copy();
+    move = caching.chooseMove(model, Player.BLUE);
+
+    // Touch the start so the position after red's move is the oldest
+    caching.chooseMove(start, Player.RED);
+    model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+    caching.chooseMove(model, Player.RED);
+
+    assertEquals(2, caching.size());
+    assertEquals(1, caching.getEvictions());
+    caching.chooseMove(start, Player.RED);
+    assertEquals(3, decisions);
+    caching.chooseMove(afterRed, Player.BLUE);
+    assertEquals(4, decisions);
+  }
+
+  /**
+   * Builds a one-row game where RED holds the given hand and can play on the first cell.
+   */
+  private ReadonlyPawnsBoardModel withRedHand(List<Card> hand) {
+    List<List<CellContent>> content = List.of(
+            List.of(CellContent.PAWN, CellContent.EMPTY, CellContent.EMPTY));
+    List<List<Player>> owners = new ArrayList<>();
+    owners.add(new ArrayList<>(List.of(Player.RED)));
+    owners.get(0).add(null);
+    owners.get(0).add(null);
+    List<List<Integer>> pawns = List.of(List.of(1, 0, 0));
+    return new MockPawnsBoardModel(new StringBuilder(), Player.RED, 1, 3, false, null,
+            content, owners, pawns, hand, blueDeck.subList(0, 2), new int[1][2]);
+  }
+
+  @Test
+  public void testPermutedHandGetsTheWrappedStrategysMove() {
+    // Both cards improve the row equally, so the strategy plays whichever comes first
+    Card cross = new CardImp("Cross", 1, 2, TestDecks.GRIDS[0]);
+    Card diagonals = new CardImp("Diagonals", 1, 2, TestDecks.GRIDS[1]);
+    ReadonlyPawnsBoardModel first = withRedHand(List.of(cross, diagonals));
+    ReadonlyPawnsBoardModel permuted = withRedHand(List.of(diagonals, cross));
+    Strategy maxRow = new MaximizeRowScoreStrategy();
+    CachingStrategy caching = new CachingStrategy(counting);
+
+    assertEquals(maxRow.chooseMove(first, Player.RED), caching.chooseMove(first, Player.RED));
+    assertEquals(maxRow.chooseMove(permuted, Player.RED),
+            caching.chooseMove(permuted, Player.RED));
+    assertEquals(2, decisions);
+    assertEquals(maxRow.chooseMove(permuted, Player.RED),
+            caching.chooseMove(permuted, Player.RED));
+    assertEquals(1, caching.getHits());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCapacityMustBePositive() {
+    new CachingStrategy(new FillFirstStrategy(), 0);
+  }
+}
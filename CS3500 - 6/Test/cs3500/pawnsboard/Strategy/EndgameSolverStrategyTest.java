@@ -0,0 +1,162 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for EndgameSolverStrategy and the SearchState it searches.
+ */
+public class EndgameSolverStrategyTest {
+
+  /**
+   * Creates a started 3x5 game with 9-card decks, so the decks run out after a few moves.
+   */
+  private PawnsBoardModelImpl smallGame(int seed) {
+    return TestDecks.startedGame(seed, 3, 5,
+            TestDecks.deck("Red", 9, 2, 7, seed, 4, seed),
+            TestDecks.deck("Blue", 9, 2, 3, seed, 4, 1 + seed), 3);
+  }
+
+  /**
+   * Finds the best final score margin for the player to move by trying every line of play.
+   */
+  private int bruteForce(SearchState state) {
+    if (state.isGameOver()) {
+      return state.getScoreMargin();
+    }
+    Player player = state.getCurrentPlayer();
+    state.pass();
+    int best = -bruteForce(state);
+    state.undo();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getColumns(); col++) {
+        for (int slot = 0; slot < state.getSlotCount(player); slot++) {
+          if (state.canPlace(slot, row, col)) {
+            state.place(slot, row, col);
+            best = Math.max(best, -bruteForce(state));
+            state.undo();
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testUsesFallbackWhileDecksRemain() {
+    PawnsBoardModelImpl model = smallGame(0);
+    EndgameSolverStrategy solver = new EndgameSolverStrategy(new FillFirstStrategy());
+
+    Move move = solver.chooseMove(model, Player.RED);
+
+    assertFalse(solver.wasLastMoveSolved());
+    assertEquals(new FillFirstStrategy().chooseMove(model, Player.RED), move);
+    assertEquals(0, solver.getLastNodeCount());
+  }
+
+  @Test
+  public void testSolvedMarginMatchesBruteForce() {
+    int solved = 0;
+    for (int seed = 0; seed < 20; seed++) {
+      PawnsBoardModelImpl model = smallGame(seed);
+      EndgameSolverStrategy solver = new EndgameSolverStrategy(new FillFirstStrategy(), 6, 15);
+      while (!model.isGameOver()) {
+        SearchState before = SearchState.fromModel(model);
+        Move move = solver.chooseMove(model, model.getCurrentPlayer());
+        if (solver.wasLastMoveSolved()) {
+          assertEquals(bruteForce(before), solver.getLastScoreMargin());
+          assertTrue(solver.getLastNodeCount() > 0);
+          assertTrue(solver.getNodesPerSecond() > 0);
+          solved++;
+        }
+        if (move == null) {
+          model.passTurn();
+        } else {
+          assertTrue(model.isLegalMove(move.getCardIndex(), move.getRow(), move.getCol()));
+          model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+        }
+      }
+    }
+    assertTrue(solved > 0);
+  }
+
+  @Test
+  public void testSearchStateFollowsModel() {
+    PawnsBoardModelImpl model = smallGame(3);
+    Strategy strategy = new FillFirstStrategy();
+    SearchState state = SearchState.fromModel(model);
+    while (!model.isGameOver() && model.getDeckSize(model.getCurrentPlayer()) > 0) {
+      Move move = strategy.chooseMove(model, model.getCurrentPlayer());
+      if (move == null) {
+        model.passTurn();
+        state.pass();
+      } else {
+        model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+        state.place(move.getCardIndex(), move.getRow(), move.getCol());
+      }
+      for (int row = 0; row < model.getRows(); row++) {
+        for (int col = 0; col < model.getColumns(); col++) {
+          assertEquals(model.getCellContent(row, col).ordinal(), state.getContent(row, col));
+          assertEquals(model.getPawnCount(row, col), state.getPawns(row, col));
+          Player owner = model.getCellOwner(row, col);
+          assertEquals(owner == null ? -1 : owner.ordinal(), state.getOwner(row, col));
+        }
+      }
+      assertEquals(model.getTotalScore(Player.RED), state.getTotalScore(Player.RED));
+      assertEquals(model.getTotalScore(Player.BLUE), state.getTotalScore(Player.BLUE));
+      // Keep slots and hand indices in step, since the model draws and shifts its hand
+      state = SearchState.fromModel(model);
+    }
+  }
+
+  @Test
+  public void testUndoRestoresPosition() {
+    PawnsBoardModelImpl model = smallGame(5);
+    SearchState state = SearchState.fromModel(model);
+    long hash = state.getHash();
+    int margin = state.getScoreMargin();
+
+    Move move = new FillFirstStrategy().chooseMove(model, Player.RED);
+    state.place(move.getCardIndex(), move.getRow(), move.getCol());
+    state.pass();
+    assertNotEquals(hash, state.getHash());
+    state.undo();
+    state.undo();
+
+    assertEquals(hash, state.getHash());
+    assertEquals(margin, state.getScoreMargin());
+    assertEquals(Player.RED, state.getCurrentPlayer());
+    assertEquals(model.getHandSize(Player.RED), state.getHandCount(Player.RED));
+    assertEquals(0, state.getPly());
+  }
+
+  @Test
+  public void testHashesAgreeAcrossBoardSizeCache() {
+    PawnsBoardModelImpl model = TestDecks.startedGame(2, 3, 5, TestDecks.red(15),
+            TestDecks.blue(15), 5);
+    long hash = SearchState.fromModel(model).getHash();
+    // Cycle enough board sizes through the key cache to replace the 3x5 keys
+    for (int cols = 7; cols <= 37; cols += 2) {
+      SearchState.fromModel(TestDecks.startedGame(2, 3, cols, TestDecks.red(3 * cols),
+              TestDecks.blue(3 * cols), 5));
+    }
+    assertEquals(hash, SearchState.fromModel(model).getHash());
+
+    // Boards too large for the cache get keys built on every call
+    PawnsBoardModelImpl large = TestDecks.startedGame(2, 33, 33, TestDecks.red(33 * 33),
+            TestDecks.blue(33 * 33), 5);
+    assertEquals(SearchState.fromModel(large).getHash(), SearchState.fromModel(large).getHash());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalPlacementRejected() {
+    SearchState state = SearchState.fromModel(smallGame(0));
+    state.place(0, 1, 2);
+  }
+}
@@ -0,0 +1,102 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that an Evaluator kept up to date move by move matches one built from scratch.
+ */
+public class EvaluatorTest {
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    List<Card> redDeck = TestDecks.mixedRed(18, 4);
+    List<Card> blueDeck = TestDecks.mixedBlue(18, 4);
+    model = new PawnsBoardModelImpl(4);
+    model.initGame(5, 7, redDeck, blueDeck, 5);
+    model.startGame();
+  }
+
+  private void assertSameFeatures(Evaluator expected, Evaluator actual, int rows) {
+    for (Player player : Player.values()) {
+      for (int row = 0; row < rows; row++) {
+        assertEquals(expected.getRowMargin(player, row), actual.getRowMargin(player, row));
+      }
+      assertEquals(expected.getScoreMargin(player), actual.getScoreMargin(player));
+      assertEquals(expected.getPawnMass(player), actual.getPawnMass(player));
+      assertEquals(expected.getContestedCells(player), actual.getContestedCells(player));
+      assertEquals(expected.getPlayableValue(player), actual.getPlayableValue(player));
+      assertEquals(expected.evaluate(player), actual.evaluate(player));
+    }
+  }
+
+  @Test
+  public void testDeltasKeepEvaluatorCurrent() {
+    Evaluator evaluator = Evaluator.fromModel(model);
+    Strategy strategy = new ControlBoardStrategy();
+    while (!model.isGameOver()) {
+      Move move = strategy.chooseMove(model, model.getCurrentPlayer());
+      if (move == null) {
+        model.passTurn();
+      } else {
+        model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+      }
+      evaluator.apply(model.getLastDelta());
+      assertSameFeatures(Evaluator.fromModel(model), evaluator, model.getRows());
+    }
+    assertEquals(model.getTotalScore(Player.RED) - model.getTotalScore(Player.BLUE),
+            evaluator.getScoreMargin(Player.RED));
+  }
+
+  @Test
+  public void testAttachedEvaluatorFollowsMovesAndUndo() {
+    SearchState state = SearchState.fromModel(model);
+    Evaluator evaluator = state.attachEvaluator();
+    Evaluator start = Evaluator.fromState(state);
+    Random random = new Random(7);
+    for (int step = 0; step < 200; step++) {
+      Player player = state.getCurrentPlayer();
+      List<int[]> moves = new ArrayList<>();
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getColumns(); col++) {
+          for (int slot = 0; slot < state.getSlotCount(player); slot++) {
+            if (state.canPlace(slot, row, col)) {
+              moves.add(new int[] {slot, row, col});
+            }
+          }
+        }
+      }
+      if (state.getPly() > 0 && (state.isGameOver() || random.nextInt(3) == 0)) {
+        state.undo();
+      } else if (moves.isEmpty() || random.nextInt(8) == 0) {
+        state.pass();
+      } else {
+        int[] move = moves.get(random.nextInt(moves.size()));
+        state.place(move[0], move[1], move[2]);
+      }
+      assertSameFeatures(Evaluator.fromState(state), evaluator, state.getRows());
+    }
+    while (state.getPly() > 0) {
+      state.undo();
+    }
+    assertSameFeatures(start, evaluator, state.getRows());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyRejectsNull() {
+    Evaluator.fromModel(model).apply(null);
+  }
+}
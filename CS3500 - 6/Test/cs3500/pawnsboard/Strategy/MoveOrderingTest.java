@@ -0,0 +1,105 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for MoveOrdering.
+ */
+public class MoveOrderingTest {
+  private SearchState state;
+  private MoveOrdering ordering;
+
+  @Before
+  public void setUp() {
+    String[][] grids = {
+        {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"},
+        {"XXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"},
+        {"XXXXX", "XXXXX", "XXCII", "XXXXX", "XXXXX"},
+    };
+    List<Card> redDeck = new ArrayList<>();
+    List<Card> blueDeck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      redDeck.add(new CardImp("Red" + i, 1, 1 + i % 5, grids[i % 3]));
+      blueDeck.add(new CardImp("Blue" + i, 1, 1 + i % 5, grids[i % 3]));
+    }
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(2);
+    model.initGame(3, 5, redDeck, blueDeck, 5);
+    model.startGame();
+    state = SearchState.fromModel(model);
+    ordering = new MoveOrdering(state);
+  }
+
+  private Set<Integer> legalMoves() {
+    Set<Integer> legal = new HashSet<>();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getColumns(); col++) {
+        for (int slot = 0; slot < state.getSlotCount(state.getCurrentPlayer()); slot++) {
+          if (state.canPlace(slot, row, col)) {
+            legal.add((row * state.getColumns() + col) << 6 | slot);
+          }
+        }
+      }
+    }
+    return legal;
+  }
+
+  @Test
+  public void testGeneratesEveryLegalMoveOnce() {
+    for (int ply = 0; ply < 4; ply++) {
+      int count = ordering.order(state, ply, MoveOrdering.PASS);
+      Set<Integer> generated = new HashSet<>();
+      for (int i = 0; i < count; i++) {
+        generated.add(ordering.getMove(ply, i));
+      }
+      assertEquals(count, generated.size());
+      assertEquals(legalMoves(), generated);
+
+      int move = ordering.getMove(ply, count - 1);
+      int cols = state.getColumns();
+      state.place(move & 63, (move >> 6) / cols, (move >> 6) % cols);
+    }
+  }
+
+  @Test
+  public void testHashMoveThenKillersComeFirst() {
+    int count = ordering.order(state, 0, MoveOrdering.PASS);
+    int last = ordering.getMove(0, count - 1);
+    int secondLast = ordering.getMove(0, count - 2);
+    int third = ordering.getMove(0, count - 3);
+
+    ordering.recordCutoff(state, 0, secondLast, 2);
+    ordering.recordCutoff(state, 0, last, 2);
+    ordering.order(state, 0, third);
+
+    assertEquals(third, ordering.getMove(0, 0));
+    assertEquals(last, ordering.getMove(0, 1));
+    assertEquals(secondLast, ordering.getMove(0, 2));
+    assertEquals(4, ordering.getHistory(Player.RED, last));
+
+    ordering.clear();
+    assertEquals(0, ordering.getHistory(Player.RED, last));
+  }
+
+  @Test
+  public void testPrefersMovesThatWinRows() {
+    // Nothing can be taken over on the first move, so the most valuable card comes first
+    int count = ordering.order(state, 0, MoveOrdering.PASS);
+    int bestValue = state.getCardValue(Player.RED, ordering.getMove(0, 0) & 63);
+    for (int i = 0; i < count; i++) {
+      assertTrue(bestValue >= state.getCardValue(Player.RED, ordering.getMove(0, i) & 63));
+    }
+  }
+}
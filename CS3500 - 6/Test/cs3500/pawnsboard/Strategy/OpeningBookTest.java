@@ -0,0 +1,107 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+import cs3500.pawnsboard.tournament.OpeningBookBuilder;
+import cs3500.pawnsboard.tournament.TournamentRunner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for building, storing and playing from an OpeningBook.
+ */
+public class OpeningBookTest {
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+
+  @Before
+  public void setUp() {
+    redDeck = TestDecks.red(18);
+    blueDeck = TestDecks.blue(18);
+  }
+
+  private Path buildBook() throws IOException {
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+    OpeningBookBuilder builder = new OpeningBookBuilder(4, 1);
+    runner.setMoveListener(builder);
+    runner.play(new MaximizeRowScoreStrategy(), new ControlBoardStrategy(), 20, 0);
+
+    Path path = Files.createTempFile("opening", ".book");
+    path.toFile().deleteOnExit();
+    builder.write(path);
+    return path;
+  }
+
+  @Test
+  public void testBookRoundTrip() throws IOException {
+    Path path = Files.createTempFile("opening", ".book");
+    path.toFile().deleteOnExit();
+    List<OpeningBook.Entry> entries = new ArrayList<>();
+    entries.add(new OpeningBook.Entry(42, 2, 7, 0x1F, 3, 4, 10, 2.5f));
+    entries.add(new OpeningBook.Entry(-5, 1, 200, 0, 0, 6, 3, -1f));
+    entries.add(new OpeningBook.Entry(7, 3, 1, 1 << 24, 1, 1, 1, 0f));
+    OpeningBook.write(path, entries);
+
+    OpeningBook book = OpeningBook.open(path);
+    assertEquals(3, book.size());
+    OpeningBook.Entry entry = book.lookup(-5);
+    assertEquals(1, entry.getCardCost());
+    assertEquals(200, entry.getCardValue());
+    assertEquals(6, entry.getCol());
+    assertEquals(-1f, entry.getAverageMargin(), 0);
+    assertEquals(1 << 24, book.lookup(7).getCardMask());
+    assertEquals(4, book.lookup(42).getCol());
+    assertNull(book.lookup(8));
+  }
+
+  @Test
+  public void testBookMovesReplaySelfPlay() throws IOException {
+    OpeningBook book = OpeningBook.open(buildBook());
+    assertTrue(book.size() > 0);
+
+    // Every game starts from a position the book was built from
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(3);
+    model.initGame(5, 7, redDeck, blueDeck, 5);
+    model.startGame();
+    OpeningBookStrategy strategy = new OpeningBookStrategy(book, new FillFirstStrategy());
+    Strategy.Move move = strategy.chooseMove(model, Player.RED);
+
+    assertEquals(1, strategy.getHits());
+    assertEquals(new MaximizeRowScoreStrategy().chooseMove(model, Player.RED), move);
+  }
+
+  @Test
+  public void testMissFallsBack() throws IOException {
+    OpeningBook book = OpeningBook.open(buildBook());
+
+    // A board size the book was not built for
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(3);
+    model.initGame(3, 5, redDeck, blueDeck, 5);
+    model.startGame();
+    OpeningBookStrategy strategy = new OpeningBookStrategy(book, new FillFirstStrategy());
+
+    assertEquals(new FillFirstStrategy().chooseMove(model, Player.RED),
+            strategy.chooseMove(model, Player.RED));
+    assertEquals(0, strategy.getHits());
+    assertEquals(1, strategy.getMisses());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOpenRejectsOtherFiles() throws IOException {
+    Path path = Files.createTempFile("opening", ".book");
+    path.toFile().deleteOnExit();
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+    OpeningBook.open(path);
+  }
+}
@@ -0,0 +1,135 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for ParallelMinMaxStrategy.
+ */
+public class ParallelMinMaxStrategyTest {
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+  private ForkJoinPool single;
+  private ForkJoinPool quad;
+
+  @Before
+  public void setUp() {
+    redDeck = TestDecks.mixedRed(18, 4);
+    blueDeck = TestDecks.mixedBlue(18, 4);
+    single = new ForkJoinPool(1);
+    quad = new ForkJoinPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    single.shutdown();
+    quad.shutdown();
+  }
+
+  /**
+   * Scores a position for the player to move by searching every line to a fixed depth.
+   */
+  private int minimax(SearchState state, Evaluator evaluator, int depth) {
+    if (state.isGameOver()) {
+      return Evaluator.SCORE_WEIGHT * state.getScoreMargin();
+    }
+    Player player = state.getCurrentPlayer();
+    if (depth == 0) {
+      return evaluator.evaluate(player);
+    }
+    state.pass();
+    int best = -minimax(state, evaluator, depth - 1);
+    state.undo();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getColumns(); col++) {
+        for (int slot = 0; slot < state.getSlotCount(player); slot++) {
+          if (state.canPlace(slot, row, col)) {
+            state.place(slot, row, col);
+            best = Math.max(best, -minimax(state, evaluator, depth - 1));
+            state.undo();
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Picks the best placement by plain minimax, ties going to the upper-left, then card index.
+   */
+  private Move referenceMove(SearchState state, int depth) {
+    Evaluator evaluator = state.attachEvaluator();
+    Player player = state.getCurrentPlayer();
+    Move best = null;
+    int bestScore = Integer.MIN_VALUE;
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getColumns(); col++) {
+        for (int slot = 0; slot < state.getSlotCount(player); slot++) {
+          if (state.canPlace(slot, row, col)) {
+            state.place(slot, row, col);
+            int score = -minimax(state, evaluator, depth - 1);
+            state.undo();
+            if (score > bestScore) {
+              bestScore = score;
+              best = new Move(slot, row, col);
+            }
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testMatchesPlainMinimaxWithAnyThreadCount() {
+    Strategy singleThreaded = new ParallelMinMaxStrategy(3, single);
+    Strategy fourThreads = new ParallelMinMaxStrategy(3, quad);
+    for (int seed = 0; seed < 4; seed++) {
+      PawnsBoardModelImpl model = new PawnsBoardModelImpl(seed);
+      model.initGame(5, 7, redDeck, blueDeck, 5);
+      model.startGame();
+      for (int turn = 0; turn < 10 && !model.isGameOver(); turn++) {
+        Player player = model.getCurrentPlayer();
+        Move expected = referenceMove(SearchState.fromModel(model), 3);
+        Move move = fourThreads.chooseMove(model, player);
+        assertEquals(expected, move);
+        assertEquals(expected, singleThreaded.chooseMove(model, player));
+        if (move == null) {
+          model.passTurn();
+        } else {
+          model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCountsNodes() {
+    ParallelMinMaxStrategy strategy = new ParallelMinMaxStrategy(2, quad);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(1);
+    model.initGame(5, 7, redDeck, blueDeck, 5);
+    model.startGame();
+
+    Move move = strategy.chooseMove(model, Player.RED);
+
+    assertTrue(model.isLegalMove(move.getCardIndex(), move.getRow(), move.getCol()));
+    assertTrue(strategy.getNodeCount() > 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsNonPositiveDepth() {
+    new ParallelMinMaxStrategy(0);
+  }
+}
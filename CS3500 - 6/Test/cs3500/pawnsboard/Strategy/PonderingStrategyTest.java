@@ -0,0 +1,99 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for PonderingStrategy.
+ */
+public class PonderingStrategyTest {
+  private PawnsBoardModel model;
+  private PonderingStrategy pondering;
+
+  @Before
+  public void setUp() {
+    List<Card> redDeck = TestDecks.red(18);
+    List<Card> blueDeck = TestDecks.blue(18);
+    model = new PawnsBoardModelImpl(3);
+    model.initGame(5, 7, redDeck, blueDeck, 5);
+    model.startGame();
+    pondering = new PonderingStrategy(new MinMaxStrategy(),
+            List.of(new MaximizeRowScoreStrategy(), new FillFirstStrategy()));
+  }
+
+  @After
+  public void tearDown() {
+    pondering.close();
+  }
+
+  @Test
+  public void testPreparedReplyForPredictedMove() {
+    // RED is the human and plays what the first predictor would
+    pondering.ponder(model);
+    pondering.awaitPondering();
+    Strategy.Move human = new MaximizeRowScoreStrategy().chooseMove(model, Player.RED);
+    model.placeCard(human.getCardIndex(), human.getRow(), human.getCol());
+
+    Strategy.Move reply = pondering.chooseMove(model, Player.BLUE);
+    assertEquals(1, pondering.getHits());
+    assertEquals(0, pondering.getMisses());
+    assertEquals(new MinMaxStrategy().chooseMove(model, Player.BLUE), reply);
+  }
+
+  @Test
+  public void testUnpredictedMoveIsComputedOnTheSpot() {
+    pondering.ponder(model);
+    Strategy.Move first = new MaximizeRowScoreStrategy().chooseMove(model, Player.RED);
+    Strategy.Move second = new FillFirstStrategy().chooseMove(model, Player.RED);
+
+    // Find a legal move neither predictor would play
+    Strategy.Move human = null;
+    for (int card = 0; card < 5 && human == null; card++) {
+      for (int row = 0; row < 5 && human == null; row++) {
+        Strategy.Move candidate = new Strategy.Move(card, row, 0);
+        if (model.isLegalMove(card, row, 0) && !candidate.equals(first)
+                && !candidate.equals(second)) {
+          human = candidate;
+        }
+      }
+    }
+    assertNotNull(human);
+    pondering.awaitPondering();
+    model.placeCard(human.getCardIndex(), human.getRow(), human.getCol());
+
+    Strategy.Move reply = pondering.chooseMove(model, Player.BLUE);
+    assertEquals(0, pondering.getHits());
+    assertEquals(1, pondering.getMisses());
+    assertEquals(new MinMaxStrategy().chooseMove(model, Player.BLUE), reply);
+  }
+
+  @Test
+  public void testClosedStrategyStopsPondering() {
+    pondering.close();
+    pondering.close();
+    pondering.ponder(model);
+    Strategy.Move human = new MaximizeRowScoreStrategy().chooseMove(model, Player.RED);
+    model.placeCard(human.getCardIndex(), human.getRow(), human.getCol());
+
+    assertEquals(new MinMaxStrategy().chooseMove(model, Player.BLUE),
+            pondering.chooseMove(model, Player.BLUE));
+    assertEquals(0, pondering.getHits());
+    assertEquals(1, pondering.getMisses());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongTurn() {
+    pondering.chooseMove(model, Player.BLUE);
+  }
+}
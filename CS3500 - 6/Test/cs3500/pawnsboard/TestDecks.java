@@ -0,0 +1,115 @@
+package cs3500.pawnsboard;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decks and games shared by the tests. Cards cycle through a few influence grids, costs and
+ * values, so games built from these decks have a mix of cheap and expensive, short and wide
+ * cards without depending on the deck files.
+ */
+public final class TestDecks {
+  /**
+   * The influence grids decks cycle through: a cross, the four diagonals, a wide cross and a
+   * pair of cells to the right.
+   */
+  public static final String[][] GRIDS = {
+      {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"},
+      {"XXXXX", "XIXIX", "XXCXX", "XIXIX", "XXXXX"},
+      {"XXIXX", "XXXXX", "IXCXI", "XXXXX", "XXIXX"},
+      {"XXXXX", "XXXXX", "XXCII", "XXXXX", "XXXXX"},
+  };
+
+  private TestDecks() {
+  }
+
+  /**
+   * Creates a deck whose card i is named prefix + i, costs 1 + i % costs, is worth
+   * 1 + (i * valueStep + valueOffset) % 5 and has grid (i + gridOffset) % grids.
+   *
+   * @param prefix the start of every card name
+   * @param size the number of cards
+   * @param costs how many different costs to cycle through, from 1
+   * @param valueStep how far the value moves from one card to the next
+   * @param valueOffset the value step of the first card
+   * @param grids how many of the {@link #GRIDS} to cycle through
+   * @param gridOffset the grid of the first card
+   * @return the deck
+   */
+  public static List<Card> deck(String prefix, int size, int costs, int valueStep,
+                                int valueOffset, int grids, int gridOffset) {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      deck.add(new CardImp(prefix + i, 1 + i % costs, 1 + (i * valueStep + valueOffset) % 5,
+              GRIDS[(i + gridOffset) % grids]));
+    }
+    return deck;
+  }
+
+  /**
+   * Creates a red deck cycling through costs 1 to 3, values 1 to 5 and the first three grids.
+   *
+   * @param size the number of cards
+   * @return the deck
+   */
+  public static List<Card> red(int size) {
+    return deck("Red", size, 3, 1, 0, 3, 0);
+  }
+
+  /**
+   * Creates the blue counterpart of {@link #red(int)}.
+   *
+   * @param size the number of cards
+   * @return the deck
+   */
+  public static List<Card> blue(int size) {
+    return deck("Blue", size, 3, 1, 0, 3, 0);
+  }
+
+  /**
+   * Creates a red deck whose values and grids do not line up with the blue one of
+   * {@link #mixedBlue(int, int)}.
+   *
+   * @param size the number of cards
+   * @param grids how many of the {@link #GRIDS} to cycle through
+   * @return the deck
+   */
+  public static List<Card> mixedRed(int size, int grids) {
+    return deck("Red", size, 3, 7, 0, grids, 0);
+  }
+
+  /**
+   * Creates the blue counterpart of {@link #mixedRed(int, int)}.
+   *
+   * @param size the number of cards
+   * @param grids how many of the {@link #GRIDS} to cycle through
+   * @return the deck
+   */
+  public static List<Card> mixedBlue(int size, int grids) {
+    return deck("Blue", size, 3, 3, 0, grids, 1);
+  }
+
+  /**
+   * Creates and starts a game.
+   *
+   * @param seed the seed for dealing
+   * @param rows the number of rows
+   * @param cols the number of columns
+   * @param redDeck RED's deck
+   * @param blueDeck BLUE's deck
+   * @param handSize the starting hand size
+   * @return the started game
+   */
+  public static PawnsBoardModelImpl startedGame(long seed, int rows, int cols,
+                                                List<Card> redDeck, List<Card> blueDeck,
+                                                int handSize) {
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(seed);
+    model.initGame(rows, cols, redDeck, blueDeck, handSize);
+    model.startGame();
+    return model;
+  }
+}
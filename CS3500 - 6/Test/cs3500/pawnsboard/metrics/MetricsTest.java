@@ -0,0 +1,96 @@
+package cs3500.pawnsboard.metrics;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for Metrics, Counter and Histogram.
+ */
+public class MetricsTest {
+
+  @Test
+  public void testBucketsCoverEveryValue() {
+    long previous = -1;
+    for (int bucket = 0; bucket <= Histogram.bucketOf(Long.MAX_VALUE); bucket++) {
+      long highest = Histogram.highestValueOf(bucket);
+      assertEquals(bucket, Histogram.bucketOf(previous + 1));
+      assertEquals(bucket, Histogram.bucketOf(highest));
+      assertTrue(highest > previous);
+      previous = highest;
+    }
+    assertEquals(Long.MAX_VALUE, previous);
+  }
+
+  @Test
+  public void testPercentilesWithinBucketWidth() {
+    Histogram histogram = new Metrics().histogram("latency");
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value);
+    }
+    assertEquals(100_000, histogram.getCount());
+    assertEquals(50_000.5, histogram.getMean(), 1e-9);
+    assertEquals(100_000, histogram.getMax());
+    for (double percentile : new double[] {50, 90, 99}) {
+      long exact = (long) (percentile * 1000);
+      long reported = histogram.getPercentile(percentile);
+      assertTrue(reported >= exact);
+      assertTrue(reported <= exact * 1.07);
+    }
+    assertEquals(0, new Metrics().histogram("empty").getPercentile(99));
+  }
+
+  @Test
+  public void testConcurrentRecordingLosesNothing() throws InterruptedException {
+    Metrics metrics = new Metrics();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          metrics.counter("events").increment();
+          metrics.histogram("sizes").record(i % 7);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40_000, metrics.counter("events").get());
+    assertEquals(40_000, metrics.histogram("sizes").getCount());
+    assertSame(metrics.chooseMoveLatency(String.class),
+            metrics.histogram(Metrics.CHOOSE_MOVE + "String"));
+    assertTrue(metrics.dump().startsWith("events count=40000"));
+  }
+
+  @Test
+  public void testModelRecordsPlacements() {
+    String[] grid = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new CardImp("Card" + i, 1, 1, grid));
+    }
+    Histogram placements = Metrics.global().histogram(Metrics.PLACE_CARD);
+    Histogram cells = Metrics.global().histogram(Metrics.INFLUENCE_CELLS);
+    Counter draws = Metrics.global().counter(Metrics.DECK_DRAWS);
+    long placed = placements.getCount();
+    long drawn = draws.get();
+
+    PawnsBoardModel model = new PawnsBoardModelImpl(1);
+    model.initGame(3, 5, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+    model.placeCard(0, 0, 0);
+
+    assertEquals(placed + 1, placements.getCount());
+    assertEquals(drawn + 11, draws.get());
+    assertTrue(cells.getMax() >= 2);
+  }
+}
@@ -0,0 +1,213 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the move deltas reported by PawnsBoardModelImpl.
+ */
+public class BoardDeltaTest {
+
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    List<Card> redDeck = TestDecks.deck("Red", 30, 2, 1, 0, 3, 0);
+    List<Card> blueDeck = TestDecks.deck("Blue", 30, 2, 1, 0, 3, 0);
+
+    model = new PawnsBoardModelImpl(42);
+    model.initGame(3, 5, redDeck, blueDeck, 5);
+    model.startGame();
+  }
+
+  /**
+   * Test that no delta is reported before the first move.
+   */
+  @Test
+  public void testNoDeltaBeforeFirstMove() {
+    assertNull(model.getLastDelta());
+  }
+
+  /**
+   * Test that a pass changes no cells and keeps the scores.
+   */
+  @Test
+  public void testPassDelta() {
+    model.passTurn();
+    BoardDelta delta = model.getLastDelta();
+
+    assertTrue(delta.isPass());
+    assertEquals(Player.RED, delta.getPlayer());
+    assertEquals(0, delta.getChangedCellCount());
+    assertNull(delta.getDrawnCard());
+  }
+
+  /**
+   * Test that applying every delta to a shadow board reproduces the model's board.
+   */
+  @Test
+  public void testDeltasReproduceBoard() {
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    CellContent[][] contents = new CellContent[rows][cols];
+    Player[][] owners = new Player[rows][cols];
+    int[][] pawns = new int[rows][cols];
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        contents[r][c] = model.getCellContent(r, c);
+        owners[r][c] = model.getCellOwner(r, c);
+        pawns[r][c] = model.getPawnCount(r, c);
+      }
+    }
+
+    int placements = 0;
+    while (!model.isGameOver() && placements < 20) {
+      int[] move = firstLegalMove();
+      if (move == null) {
+        model.passTurn();
+        continue;
+      }
+      Player mover = model.getCurrentPlayer();
+      int handSizeBefore = model.getPlayerHand(mover).size();
+      model.placeCard(move[0], move[1], move[2]);
+      placements++;
+
+      BoardDelta delta = model.getLastDelta();
+      assertEquals(mover, delta.getPlayer());
+      assertEquals(move[0], delta.getPlayedCardIndex());
+      assertTrue(delta.getChangedCellCount() <= 25);
+      for (int i = 0; i < delta.getChangedCellCount(); i++) {
+        int r = delta.getChangedRow(i);
+        int c = delta.getChangedCol(i);
+        assertTrue(Math.abs(r - move[1]) <= 2 && Math.abs(c - move[2]) <= 2);
+        contents[r][c] = delta.getChangedContent(i);
+        owners[r][c] = delta.getChangedOwner(i);
+        pawns[r][c] = delta.getChangedPawnCount(i);
+      }
+
+      int expectedHandSize = handSizeBefore - 1 + (delta.getDrawnCard() == null ? 0 : 1);
+      assertEquals(expectedHandSize, model.getPlayerHand(mover).size());
+      assertEquals(model.getTotalScore(Player.RED), delta.getTotalScore(Player.RED));
+      assertEquals(model.getTotalScore(Player.BLUE), delta.getTotalScore(Player.BLUE));
+      assertEquals(model.getRowScore(mover, move[1]), delta.getRowScore(mover));
+
+      for (int r = 0; r < rows; r++) {
+        for (int c = 0; c < cols; c++) {
+          assertEquals(model.getCellContent(r, c), contents[r][c]);
+          assertEquals(model.getCellOwner(r, c), owners[r][c]);
+          assertEquals(model.getPawnCount(r, c), pawns[r][c]);
+        }
+      }
+    }
+    assertTrue(placements > 0);
+  }
+
+  /**
+   * Test that a delta survives a round trip through its binary form.
+   */
+  @Test
+  public void testSerializationRoundTrip() throws IOException {
+    int[] move = firstLegalMove();
+    model.placeCard(move[0], move[1], move[2]);
+    BoardDelta delta = model.getLastDelta();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    delta.writeTo(new DataOutputStream(bytes));
+    BoardDelta read = BoardDelta.readFrom(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    assertEquals(delta.getPlayer(), read.getPlayer());
+    assertEquals(delta.getPlayedCardIndex(), read.getPlayedCardIndex());
+    assertEquals(delta.getChangedCellCount(), read.getChangedCellCount());
+    for (int i = 0; i < delta.getChangedCellCount(); i++) {
+      assertEquals(delta.getChangedRow(i), read.getChangedRow(i));
+      assertEquals(delta.getChangedCol(i), read.getChangedCol(i));
+      assertEquals(delta.getChangedContent(i), read.getChangedContent(i));
+      assertEquals(delta.getChangedOwner(i), read.getChangedOwner(i));
+      assertEquals(delta.getChangedPawnCount(i), read.getChangedPawnCount(i));
+    }
+    assertEquals(delta.getDrawnCard(), read.getDrawnCard());
+    assertEquals(delta.getTotalScore(Player.RED), read.getTotalScore(Player.RED));
+  }
+
+  private BoardDelta deltaAt(int cardIndex, int row, int col, int changedRow, int changedCol) {
+    return new BoardDelta(Player.RED, cardIndex, row, col, 1, new int[] {changedRow},
+            new int[] {changedCol}, new byte[] {(byte) CellContent.PAWN.ordinal()},
+            new byte[] {(byte) Player.RED.ordinal()}, new byte[] {1}, null, 0, 0, 0, 0);
+  }
+
+  /**
+   * Test that the largest rows and columns the binary form holds survive a round trip.
+   */
+  @Test
+  public void testLargestCellsRoundTrip() throws IOException {
+    BoardDelta delta = deltaAt(Byte.MAX_VALUE, Short.MAX_VALUE, 0, 0, Short.MAX_VALUE);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    delta.writeTo(new DataOutputStream(bytes));
+    BoardDelta read = BoardDelta.readFrom(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    assertEquals(Byte.MAX_VALUE, read.getPlayedCardIndex());
+    assertEquals(Short.MAX_VALUE, read.getRow());
+    assertEquals(Short.MAX_VALUE, read.getChangedCol(0));
+  }
+
+  /**
+   * Test that a placement row too large for a short is rejected before anything is written.
+   */
+  @Test
+  public void testRowTooLargeToWrite() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      deltaAt(0, Short.MAX_VALUE + 1, 0, 0, 0).writeTo(new DataOutputStream(bytes));
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertEquals(0, bytes.size());
+    }
+  }
+
+  /**
+   * Test that a changed column too large for a short is rejected.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testChangedColumnTooLargeToWrite() throws IOException {
+    deltaAt(0, 0, 0, 0, Short.MAX_VALUE + 1).writeTo(
+            new DataOutputStream(new ByteArrayOutputStream()));
+  }
+
+  /**
+   * Test that a card index too large for a byte is rejected.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testCardIndexTooLargeToWrite() throws IOException {
+    deltaAt(Byte.MAX_VALUE + 1, 0, 0, 0, 0).writeTo(
+            new DataOutputStream(new ByteArrayOutputStream()));
+  }
+
+  private int[] firstLegalMove() {
+    int handSize = model.getPlayerHand(model.getCurrentPlayer()).size();
+    for (int card = 0; card < handSize; card++) {
+      for (int r = 0; r < model.getRows(); r++) {
+        for (int c = 0; c < model.getColumns(); c++) {
+          if (model.isLegalMove(card, r, c)) {
+            return new int[] {card, r, c};
+          }
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -329,6 +329,26 @@ public class CardImpTest {
     Card card = new CardImp("TestCard", 2, 3, influenceGrid);
     card.hasInfluenceAt(0, 3);
   }
+
+  @Test
+  public void testInfluenceMaskMatchesGrid() {
+    String[] influenceGrid = {
+            "IXXXX",
+            "XXIXX",
+            "XICIX",
+            "XXIXX",
+            "XXXXI"
+    };
+
+    Card card = new CardImp("TestCard", 2, 3, influenceGrid);
+    for (int relRow = -2; relRow <= 2; relRow++) {
+      for (int relCol = -2; relCol <= 2; relCol++) {
+        int bit = 1 << ((relRow + 2) * 5 + relCol + 2);
+        assertEquals(card.hasInfluenceAt(relRow, relCol), (card.getInfluenceMask() & bit) != 0);
+      }
+    }
+    assertEquals(6, Integer.bitCount(card.getInfluenceMask()));
+  }
   /**
    * Test if the game correctly identifies when it has ended.
    */
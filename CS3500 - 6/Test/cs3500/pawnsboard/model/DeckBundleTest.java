@@ -0,0 +1,104 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for DeckBundle and the deck cache of DeckConfigReader.
+ */
+public class DeckBundleTest {
+
+  private Path tempFile(String suffix) throws IOException {
+    Path path = Files.createTempFile("deck", suffix);
+    path.toFile().deleteOnExit();
+    return path;
+  }
+
+  @Test
+  public void testBundleRoundTrip() throws IOException {
+    List<Card> red = DeckConfigReader.readDeck("docs/red_deck.txt");
+    List<Card> blue = DeckConfigReader.readDeck("docs/blue_deck.txt");
+    Map<String, List<Card>> decks = new LinkedHashMap<>();
+    decks.put("red", red);
+    decks.put("blue", blue);
+    Path path = tempFile(".bundle");
+    DeckBundle.write(path, decks);
+
+    DeckBundle bundle = DeckBundle.read(path);
+    assertEquals(List.of("red", "blue"), List.copyOf(bundle.getDeckNames()));
+    assertEquals(red, bundle.getDeck("red"));
+    assertEquals(blue, bundle.getDeck("blue"));
+    for (int i = 0; i < red.size(); i++) {
+      assertEquals(red.get(i).getInfluenceMask(),
+              bundle.getDeck("red").get(i).getInfluenceMask());
+    }
+    assertTrue(bundle.getCardCount() <= red.size() + blue.size());
+  }
+
+  @Test
+  public void testCachedDeckIsReusedUntilFileChanges() throws IOException {
+    Path path = tempFile(".txt");
+    String card = "Solo 1 1\nXXXXX\nXXXXX\nXXCIX\nXXXXX\nXXXXX\n";
+    Files.write(path, card.getBytes(StandardCharsets.US_ASCII));
+
+    List<Card> first = DeckConfigReader.readDeckCached(path.toString());
+    assertSame(first, DeckConfigReader.readDeckCached(path.toString()));
+    assertEquals(1, first.size());
+
+    Files.write(path, (card + card.replace("Solo", "Duo")).getBytes(StandardCharsets.US_ASCII));
+    List<Card> second = DeckConfigReader.readDeckCached(path.toString());
+    assertNotSame(first, second);
+    assertEquals(2, second.size());
+  }
+
+  @Test
+  public void testSameSizeRewriteIsNotServedFromCache() throws IOException {
+    Path path = tempFile(".txt");
+    String card = "Solo 1 1\nXXXXX\nXXXXX\nXXCIX\nXXXXX\nXXXXX\n";
+    Files.write(path, card.getBytes(StandardCharsets.US_ASCII));
+    FileTime modified = Files.getLastModifiedTime(path);
+    List<Card> first = DeckConfigReader.readDeckCached(path.toString());
+
+    // Same size and modification time, as for a rewrite within one clock tick
+    Files.write(path, card.replace("Solo 1 1", "Solo 2 3").getBytes(StandardCharsets.US_ASCII));
+    Files.setLastModifiedTime(path, modified);
+    List<Card> second = DeckConfigReader.readDeckCached(path.toString());
+    assertNotSame(first, second);
+    assertEquals(2, second.get(0).getCost());
+    assertEquals(3, second.get(0).getValueScore());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriteRejectsCostsAboveAByte() throws IOException {
+    Card expensive = new CardImp("Expensive", 1, 1,
+            new String[] {"XXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"}) {
+      @Override
+      public int getCost() {
+        return 256;
+      }
+    };
+    DeckBundle.write(tempFile(".bundle"), Map.of("deck", List.of(expensive)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCachedDeckCannotBeModified() {
+    DeckConfigReader.readDeckCached("docs/red_deck.txt").clear();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadRejectsOtherFiles() throws IOException {
+    Path path = tempFile(".bundle");
+    Files.write(path, "not a bundle".getBytes(StandardCharsets.US_ASCII));
+    DeckBundle.read(path);
+  }
+}
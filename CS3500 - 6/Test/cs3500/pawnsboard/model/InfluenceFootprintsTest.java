@@ -0,0 +1,92 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for InfluenceFootprints.
+ */
+public class InfluenceFootprintsTest {
+
+  /**
+   * Lists the cells a card influences by walking its influence grid.
+   */
+  private List<Integer> walkGrid(Card card, Player player, int rows, int cols, int row,
+                                 int col) {
+    List<Integer> cells = new ArrayList<>();
+    for (int relRow = -2; relRow <= 2; relRow++) {
+      for (int relCol = -2; relCol <= 2; relCol++) {
+        int absRow = row + relRow;
+        int absCol = player == Player.RED ? col + relCol : col - relCol;
+        if (card.hasInfluenceAt(relRow, relCol) && absRow >= 0 && absRow < rows
+                && absCol >= 0 && absCol < cols) {
+          cells.add(absRow * cols + absCol);
+        }
+      }
+    }
+    return cells;
+  }
+
+  @Test
+  public void testMatchesInfluenceGrid() {
+    Card card = new CardImp("Lopsided", 1, 1,
+            new String[] {"IXXXX", "XIIXX", "XXCXI", "XXXXX", "XXIXI"});
+    int[][] sizes = {{1, 3}, {3, 5}, {5, 7}, {2, 9}};
+    for (int[] size : sizes) {
+      for (Player player : Player.values()) {
+        InfluenceFootprints.Table table = InfluenceFootprints.get(size[0], size[1],
+                card.getInfluenceMask(), player);
+        for (int row = 0; row < size[0]; row++) {
+          for (int col = 0; col < size[1]; col++) {
+            int cell = row * size[1] + col;
+            List<Integer> targets = new ArrayList<>();
+            for (int i = table.start(cell); i < table.end(cell); i++) {
+              targets.add(table.target(i));
+            }
+            assertEquals(walkGrid(card, player, size[0], size[1], row, col), targets);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTablesAreCachedUpToLimit() {
+    InfluenceFootprints.Table table = InfluenceFootprints.get(5, 7, 0x1F, Player.BLUE);
+    assertSame(table, InfluenceFootprints.get(5, 7, 0x1F, Player.BLUE));
+    assertNotSame(table, InfluenceFootprints.get(5, 7, 0x1F, Player.RED));
+    assertNull(InfluenceFootprints.get(33, 33, 0x1F, Player.RED));
+
+    InfluenceFootprints.Table large = InfluenceFootprints.build(33, 33, 1 << 13, Player.RED);
+    assertEquals(1, large.end(0) - large.start(0));
+    assertEquals(1, large.target(large.start(0)));
+  }
+
+  @Test
+  public void testTablesSharingASetStayCached() {
+    int first = 0x1F;
+    int second = first + 1;
+    int set = InfluenceFootprints.setOf(5, 7, first, Player.RED);
+    while (InfluenceFootprints.setOf(5, 7, second, Player.RED) != set) {
+      second++;
+    }
+
+    InfluenceFootprints.Table firstTable = InfluenceFootprints.get(5, 7, first, Player.RED);
+    InfluenceFootprints.Table secondTable = InfluenceFootprints.get(5, 7, second, Player.RED);
+    for (int i = 0; i < 3; i++) {
+      assertSame(firstTable, InfluenceFootprints.get(5, 7, first, Player.RED));
+      assertSame(secondTable, InfluenceFootprints.get(5, 7, second, Player.RED));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsEmptyBoard() {
+    InfluenceFootprints.get(0, 5, 0x1F, Player.RED);
+  }
+}
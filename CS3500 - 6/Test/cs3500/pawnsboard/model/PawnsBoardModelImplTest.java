@@ -0,0 +1,151 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the hand accessors and bulk row reads of PawnsBoardModelImpl.
+ */
+public class PawnsBoardModelImplTest {
+
+  /**
+   * Plays a few turns so the board holds cards and pawns of both players next to empty cells.
+   */
+  private PawnsBoardModelImpl mixedGame(int rows, int cols) {
+    PawnsBoardModelImpl model = TestDecks.startedGame(4, rows, cols,
+            TestDecks.mixedRed(rows * cols, 3), TestDecks.mixedBlue(rows * cols, 3), 5);
+    Strategy strategy = new MaximizeRowScoreStrategy();
+    for (int turn = 0; turn < 8 && !model.isGameOver(); turn++) {
+      Strategy.Move move = strategy.chooseMove(model, model.getCurrentPlayer());
+      if (move == null) {
+        model.passTurn();
+      } else {
+        model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+      }
+    }
+    return model;
+  }
+
+  /**
+   * Checks every row read in bulk against the per-cell queries.
+   */
+  private void assertRowsMatchCells(PawnsBoardModelImpl model) {
+    int cols = model.getColumns();
+    int[] content = new int[cols];
+    int[] owner = new int[cols];
+    int[] pawns = new int[cols];
+    Set<CellContent> contents = EnumSet.noneOf(CellContent.class);
+    Set<Player> owners = EnumSet.noneOf(Player.class);
+
+    for (int r = 0; r < model.getRows(); r++) {
+      model.readRow(r, content, owner, pawns);
+      for (int c = 0; c < cols; c++) {
+        CellContent cellContent = model.getCellContent(r, c);
+        Player cellOwner = model.getCellOwner(r, c);
+        assertEquals(cellContent.ordinal(), content[c]);
+        assertEquals(cellOwner == null ? -1 : cellOwner.ordinal(), owner[c]);
+        assertEquals(model.getPawnCount(r, c), pawns[c]);
+        contents.add(cellContent);
+        if (cellOwner != null) {
+          owners.add(cellOwner);
+        }
+      }
+    }
+    assertEquals(EnumSet.allOf(CellContent.class), contents);
+    assertEquals(EnumSet.allOf(Player.class), owners);
+  }
+
+  @Test
+  public void testReadRowMatchesCellsOnDenseBoard() {
+    assertRowsMatchCells(mixedGame(5, 7));
+  }
+
+  @Test
+  public void testReadRowMatchesCellsOnTiledBoard() {
+    // Past the dense cell limit, so the board is stored in tiles
+    assertRowsMatchCells(mixedGame(11, 401));
+  }
+
+  @Test
+  public void testReadRowAcceptsLongerArrays() {
+    PawnsBoardModelImpl model = mixedGame(5, 7);
+    int[] content = new int[10];
+    int[] owner = new int[10];
+    int[] pawns = new int[10];
+    owner[9] = 42;
+    model.readRow(0, content, owner, pawns);
+    assertEquals(Player.RED.ordinal(), owner[0]);
+    assertEquals(42, owner[9]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadRowRejectsInvalidRow() {
+    PawnsBoardModelImpl model = mixedGame(5, 7);
+    model.readRow(5, new int[7], new int[7], new int[7]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadRowRejectsShortArrays() {
+    PawnsBoardModelImpl model = mixedGame(5, 7);
+    model.readRow(0, new int[7], new int[6], new int[7]);
+  }
+
+  /**
+   * Test that the hand accessors match the cards in each hand.
+   */
+  @Test
+  public void testHandAccessorsMatchHand() {
+    PawnsBoardModelImpl model = TestDecks.startedGame(1, 3, 5,
+            TestDecks.mixedRed(15, 3), TestDecks.mixedBlue(15, 3), 5);
+    for (Player player : Player.values()) {
+      List<Card> hand = model.getPlayerHand(player);
+      assertEquals(hand.size(), model.getHandSize(player));
+      for (int i = 0; i < hand.size(); i++) {
+        assertEquals(hand.get(i).getCost(), model.getHandCardCost(player, i));
+        assertEquals(hand.get(i).getValueScore(), model.getHandCardValue(player, i));
+        assertEquals(hand.get(i).getInfluenceMask(), model.getHandCardMask(player, i));
+      }
+    }
+  }
+
+  /**
+   * Test that a card index past the end of the hand is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardCostIndexTooLarge() {
+    PawnsBoardModelImpl model = TestDecks.startedGame(1, 3, 5,
+            TestDecks.red(15), TestDecks.blue(15), 5);
+    model.getHandCardCost(Player.RED, 5);
+  }
+
+  /**
+   * Test that a negative card index is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardValueNegativeIndex() {
+    PawnsBoardModelImpl model = TestDecks.startedGame(1, 3, 5,
+            TestDecks.red(15), TestDecks.blue(15), 5);
+    model.getHandCardValue(Player.BLUE, -1);
+  }
+
+  /**
+   * Test that hand queries are rejected before the game starts.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testHandSizeBeforeStart() {
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(1);
+    model.initGame(3, 5, TestDecks.red(15), TestDecks.blue(15), 5);
+    model.getHandSize(Player.RED);
+  }
+}
@@ -0,0 +1,105 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for TiledBoardStorage.
+ */
+public class TiledBoardStorageTest {
+
+  /**
+   * Test that cells on either side of a tile boundary are stored separately.
+   */
+  @Test
+  public void testTileBoundaryCells() {
+    BoardStorage storage = new TiledBoardStorage(16, 16);
+    int[][] corners = {{7, 7}, {7, 8}, {8, 7}, {8, 8}, {0, 0}, {15, 15}};
+    for (int i = 0; i < corners.length; i++) {
+      storage.getOrCreate(corners[i][0], corners[i][1]).pawnCount = i + 1;
+    }
+
+    for (int i = 0; i < corners.length; i++) {
+      assertEquals(i + 1, storage.get(corners[i][0], corners[i][1]).pawnCount);
+    }
+    // Neighbours in allocated tiles were never written, so they still have no storage
+    assertNull(storage.get(6, 7));
+    assertNull(storage.get(8, 9));
+    assertNull(storage.get(0, 8));
+  }
+
+  /**
+   * Test that every cell of a board whose sides are not multiples of the tile size is
+   * reachable, including the last row and column in the partial tiles.
+   */
+  @Test
+  public void testSizeNotAMultipleOfTheTile() {
+    int rows = 13;
+    int cols = 11;
+    BoardStorage storage = new TiledBoardStorage(rows, cols);
+    assertNull(storage.get(rows - 1, cols - 1));
+
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        storage.getOrCreate(r, c).pawnCount = r * cols + c;
+      }
+    }
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        assertEquals(r * cols + c, storage.get(r, c).pawnCount);
+      }
+    }
+  }
+
+  /**
+   * Test that a board smaller than one tile still works.
+   */
+  @Test
+  public void testBoardSmallerThanATile() {
+    BoardStorage storage = new TiledBoardStorage(1, 3);
+    assertNull(storage.get(0, 2));
+    Cell cell = storage.getOrCreate(0, 2);
+    assertEquals(CellContent.EMPTY, cell.content);
+    assertSame(cell, storage.getOrCreate(0, 2));
+    assertSame(cell, storage.get(0, 2));
+    assertNull(storage.get(0, 1));
+  }
+
+  /**
+   * Test that a copy and its original can be changed independently.
+   */
+  @Test
+  public void testCopyIsIndependent() {
+    BoardStorage original = new TiledBoardStorage(20, 20);
+    Cell placed = original.getOrCreate(3, 9);
+    placed.content = CellContent.CARD;
+    placed.owner = Player.RED;
+    placed.card = TestDecks.red(1).get(0);
+    original.getOrCreate(17, 2).pawnCount = 2;
+
+    BoardStorage copy = original.copy();
+    Cell copied = copy.get(3, 9);
+    assertNotSame(placed, copied);
+    assertEquals(CellContent.CARD, copied.content);
+    assertEquals(Player.RED, copied.owner);
+    assertEquals(placed.card, copied.card);
+    assertNotSame(placed.card, copied.card);
+
+    // Changes to the original do not reach the copy
+    original.getOrCreate(17, 2).pawnCount = 3;
+    original.getOrCreate(12, 12).pawnCount = 1;
+    assertEquals(2, copy.get(17, 2).pawnCount);
+    assertNull(copy.get(12, 12));
+
+    // Nor do changes to the copy reach the original, even in tiles the original never used
+    copy.getOrCreate(3, 9).owner = Player.BLUE;
+    copy.getOrCreate(0, 19).pawnCount = 1;
+    assertEquals(Player.RED, original.get(3, 9).owner);
+    assertNull(original.get(0, 19));
+  }
+}
@@ -0,0 +1,98 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+import cs3500.pawnsboard.model.TracingPawnsBoardModel.Query;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for TracingPawnsBoardModel.
+ */
+public class TracingPawnsBoardModelTest {
+  private PawnsBoardModel model;
+
+  @Before
+  public void setUp() {
+    String[] grid = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new CardImp("Card" + i, 1 + i % 2, 1, grid));
+    }
+    model = new PawnsBoardModelImpl(3);
+    model.initGame(3, 5, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+  }
+
+  @Test
+  public void testForwardsAndCountsQueries() {
+    TracingPawnsBoardModel tracing = new TracingPawnsBoardModel(model);
+    assertEquals(model.getRows(), tracing.getRows());
+    assertEquals(model.getCellContent(0, 0), tracing.getCellContent(0, 0));
+    assertEquals(model.getCellContent(1, 1), tracing.getCellContent(1, 1));
+    assertEquals(model.getPlayerHand(Player.RED), tracing.getPlayerHand(Player.RED));
+
+    assertEquals(1, tracing.getCount(Query.GET_ROWS));
+    assertEquals(2, tracing.getCount(Query.GET_CELL_CONTENT));
+    assertEquals(1, tracing.getCount(Query.GET_PLAYER_HAND));
+    assertEquals(0, tracing.getCount(Query.GET_PAWN_COUNT));
+    assertEquals(4, tracing.getTotalCount());
+    assertTrue(tracing.report().startsWith("4 queries"));
+
+    tracing.reset();
+    assertEquals(0, tracing.getTotalCount());
+    assertEquals(0, tracing.getCount(Query.GET_CELL_CONTENT));
+  }
+
+  @Test
+  public void testTraceKeepsMostRecentSampledCalls() {
+    TracingPawnsBoardModel tracing = new TracingPawnsBoardModel(model, 4, 3);
+    Strategy.Move move = new FillFirstStrategy().chooseMove(tracing, Player.RED);
+    assertNotNull(move);
+
+    long calls = tracing.getTotalCount();
+    assertEquals(Math.min(4, calls / 3), tracing.getTraceSize());
+    for (int i = 0; i < tracing.getTraceSize(); i++) {
+      assertEquals(2, tracing.getTraceCall(i) % 3);
+      assertTrue(tracing.getTraceNanos(i) >= 0);
+    }
+    int last = tracing.getTraceSize() - 1;
+    assertTrue(tracing.getTraceCall(last) >= calls - 3);
+    assertEquals(tracing.getTraceSize(), tracing.formatTrace().split("\n").length);
+  }
+
+  @Test
+  public void testThrowingSampledCallDoesNotLeakIntoTheNextCall() {
+    TracingPawnsBoardModel tracing = new TracingPawnsBoardModel(model, 4, 2);
+    tracing.getRows();
+    try {
+      // The second call is sampled and fails in the delegate
+      tracing.getHandCardCost(Player.RED, 99);
+      fail("Expected the delegate to reject the card index");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    tracing.getRows();
+    assertEquals(0, tracing.getTraceSize());
+
+    tracing.getColumns();
+    assertEquals(1, tracing.getTraceSize());
+    assertEquals(Query.GET_COLUMNS, tracing.getTraceQuery(0));
+    assertEquals(3, tracing.getTraceCall(0));
+    assertTrue(tracing.getTraceNanos(0) < 1_000_000_000L);
+    assertEquals(1, tracing.getCount(Query.GET_HAND_CARD_COST));
+    assertTrue(Double.isNaN(tracing.getMeanNanos(Query.GET_ROWS)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsOutOfRangeTraceIndex() {
+    new TracingPawnsBoardModel(model).getTraceQuery(0);
+  }
+}
@@ -0,0 +1,71 @@
+package cs3500.pawnsboard.model.mock;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.Card;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player.BLUE;
+import static cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player.RED;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the hand accessors of MockPawnsBoardModel.
+ */
+public class MockPawnsBoardModelTest {
+
+  /**
+   * Builds a mock game whose hands hold the given cards.
+   */
+  private MockPawnsBoardModel mockWithHands(List<Card> redHand, List<Card> blueHand) {
+    return new MockPawnsBoardModel(new StringBuilder(), RED, 5, 5, false, null,
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+            redHand, blueHand, new int[5][2]);
+  }
+
+  /**
+   * Test that the hand accessors match the cards the mock was given.
+   */
+  @Test
+  public void testHandAccessorsMatchHand() {
+    List<Card> redHand = TestDecks.mixedRed(3, 3);
+    List<Card> blueHand = TestDecks.mixedBlue(2, 3);
+    MockPawnsBoardModel mock = mockWithHands(redHand, blueHand);
+
+    assertEquals(3, mock.getHandSize(RED));
+    assertEquals(2, mock.getHandSize(BLUE));
+    for (int i = 0; i < blueHand.size(); i++) {
+      assertEquals(blueHand.get(i).getCost(), mock.getHandCardCost(BLUE, i));
+      assertEquals(blueHand.get(i).getValueScore(), mock.getHandCardValue(BLUE, i));
+      assertEquals(blueHand.get(i).getInfluenceMask(), mock.getHandCardMask(BLUE, i));
+    }
+    assertEquals(redHand.get(2).getInfluenceMask(), mock.getHandCardMask(RED, 2));
+  }
+
+  /**
+   * Test that a card index past the end of the hand is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardMaskIndexTooLarge() {
+    mockWithHands(TestDecks.red(3), TestDecks.blue(3)).getHandCardMask(RED, 3);
+  }
+
+  /**
+   * Test that a negative card index is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardCostNegativeIndex() {
+    mockWithHands(TestDecks.red(3), TestDecks.blue(3)).getHandCardCost(BLUE, -1);
+  }
+
+  /**
+   * Test that any index into an empty hand is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardValueEmptyHand() {
+    mockWithHands(TestDecks.red(3), new ArrayList<>()).getHandCardValue(BLUE, 0);
+  }
+}
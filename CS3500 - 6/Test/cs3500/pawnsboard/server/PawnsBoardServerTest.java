@@ -0,0 +1,282 @@
+package cs3500.pawnsboard.server;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for PawnsBoardServer, talking to it over a loopback socket.
+ */
+public class PawnsBoardServerTest {
+  private PawnsBoardServer server;
+  private Socket socket;
+  private DataInputStream in;
+  private OutputStream out;
+  private ByteBuffer pending;
+  private int nextRequestId;
+
+  @Before
+  public void setUp() throws IOException {
+    // Every card costs one pawn, so any card can be played on a player's starting column
+    server = new PawnsBoardServer(0, TestDecks.deck("Red", 15, 1, 1, 0, 3, 0),
+            TestDecks.deck("Blue", 15, 1, 1, 0, 3, 0));
+    server.start();
+    socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    socket.setSoTimeout(5000);
+    in = new DataInputStream(socket.getInputStream());
+    out = socket.getOutputStream();
+    pending = ByteBuffer.allocate(1024);
+    nextRequestId = 1;
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    socket.close();
+    server.close();
+  }
+
+  private void send(byte op, Consumer<ByteBuffer> payload) {
+    int start = WireProtocol.beginFrame(pending, op, nextRequestId++);
+    payload.accept(pending);
+    WireProtocol.endFrame(pending, start);
+  }
+
+  private byte[] takePending() {
+    byte[] bytes = Arrays.copyOf(pending.array(), pending.position());
+    pending.clear();
+    return bytes;
+  }
+
+  private void flush() throws IOException {
+    out.write(takePending());
+    out.flush();
+  }
+
+  private void sendInit(int rows, int cols) {
+    send(WireProtocol.OP_INIT, buffer -> {
+      buffer.putShort((short) rows);
+      buffer.putShort((short) cols);
+      buffer.put((byte) 5);
+    });
+  }
+
+  /**
+   * Reads the next frame and checks its op and request id.
+   *
+   * @return the payload of the frame
+   */
+  private ByteBuffer read(byte op, int requestId) throws IOException {
+    byte[] frame = new byte[in.readInt()];
+    in.readFully(frame);
+    ByteBuffer buffer = ByteBuffer.wrap(frame);
+    assertEquals(op, buffer.get());
+    assertEquals(requestId, buffer.getInt());
+    return buffer;
+  }
+
+  private ByteBuffer readOk(byte op, int requestId) throws IOException {
+    ByteBuffer payload = read(op, requestId);
+    assertEquals(WireProtocol.STATUS_OK, payload.get());
+    return payload;
+  }
+
+  @Test
+  public void testMoveExchange() throws IOException {
+    // The whole exchange is pipelined in a single write
+    sendInit(3, 5);
+    send(WireProtocol.OP_START, buffer -> { });
+    send(WireProtocol.OP_HAND, buffer -> buffer.put((byte) Player.RED.ordinal()));
+    send(WireProtocol.OP_PLACE, buffer -> {
+      buffer.put((byte) 0);
+      buffer.putShort((short) 1);
+      buffer.putShort((short) 0);
+    });
+    send(WireProtocol.OP_STATE, buffer -> { });
+    flush();
+
+    readOk(WireProtocol.OP_INIT, 1);
+    readOk(WireProtocol.OP_START, 2);
+    ByteBuffer hand = readOk(WireProtocol.OP_HAND, 3);
+    assertEquals(5, hand.get());
+    String played = WireProtocol.getString(hand);
+    assertTrue(played.startsWith("Red"));
+
+    readOk(WireProtocol.OP_PLACE, 4);
+    ByteBuffer diff = read(WireProtocol.PUSH_DIFF, 0);
+    int changed = diff.getShort();
+    boolean placed = false;
+    for (int i = 0; i < changed; i++) {
+      int row = diff.getShort();
+      int col = diff.getShort();
+      byte content = diff.get();
+      byte owner = diff.get();
+      diff.get();
+      if (row == 1 && col == 0) {
+        placed = content == CellContent.CARD.ordinal() && owner == Player.RED.ordinal();
+      }
+    }
+    assertTrue(placed);
+    assertEquals(Player.BLUE.ordinal(), diff.get());
+    assertEquals(0, diff.get());
+    assertTrue(diff.getInt() > 0);
+    assertEquals(0, diff.getInt());
+
+    ByteBuffer state = readOk(WireProtocol.OP_STATE, 5);
+    int rows = state.getShort();
+    int cols = state.getShort();
+    assertEquals(3, rows);
+    assertEquals(5, cols);
+    // Skip the status header and the first row
+    state.position(state.position() + 10 + 3 * cols);
+    assertEquals(CellContent.CARD.ordinal(), state.get());
+    assertEquals(Player.RED.ordinal(), state.get());
+    assertEquals(1, server.getSessions().getSessions().size());
+  }
+
+  @Test
+  public void testFrameSplitAcrossWrites() throws IOException, InterruptedException {
+    sendInit(3, 5);
+    byte[] frame = takePending();
+    // Cut inside the length field, then inside the payload
+    out.write(frame, 0, 2);
+    out.flush();
+    Thread.sleep(50);
+    out.write(frame, 2, 9);
+    out.flush();
+    Thread.sleep(50);
+    out.write(frame, 11, frame.length - 11);
+    out.flush();
+    readOk(WireProtocol.OP_INIT, 1);
+  }
+
+  @Test
+  public void testErrorsAreAnsweredInRequestOrder() throws IOException {
+    send(WireProtocol.OP_STATE, buffer -> { });
+    sendInit(3, 5);
+    send(WireProtocol.OP_PASS, buffer -> { });
+    send(WireProtocol.OP_START, buffer -> { });
+    flush();
+
+    ByteBuffer error = read(WireProtocol.OP_STATE, 1);
+    assertEquals(WireProtocol.STATUS_ERROR, error.get());
+    assertEquals("Game has not been initialized", WireProtocol.getString(error));
+    readOk(WireProtocol.OP_INIT, 2);
+    error = read(WireProtocol.OP_PASS, 3);
+    assertEquals(WireProtocol.STATUS_ERROR, error.get());
+    assertEquals("Game has not started", WireProtocol.getString(error));
+    readOk(WireProtocol.OP_START, 4);
+  }
+
+  @Test
+  public void testInitRejectsBoardsTooLargeToSend() throws IOException {
+    // The state of a board this size would not fit in one frame
+    sendInit(4095, 4095);
+    sendInit(3, 5);
+    flush();
+    ByteBuffer error = read(WireProtocol.OP_INIT, 1);
+    assertEquals(WireProtocol.STATUS_ERROR, error.get());
+    assertEquals("Board too large to send: 4095x4095", WireProtocol.getString(error));
+    readOk(WireProtocol.OP_INIT, 2);
+  }
+
+  @Test
+  public void testResponsesLeftUnreadHoldBackLaterRequests() throws Exception {
+    int requests = 200_000;
+    sendInit(3, 5);
+    flush();
+    readOk(WireProtocol.OP_INIT, 1);
+
+    // Far more state responses than the server keeps pending, sent before any is read
+    Thread writer = new Thread(() -> {
+      try {
+        for (int i = 0; i < requests; i++) {
+          send(WireProtocol.OP_STATE, buffer -> { });
+          if (pending.remaining() < WireProtocol.HEADER_SIZE) {
+            flush();
+          }
+        }
+        flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    writer.start();
+    Thread.sleep(500);
+
+    in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    for (int i = 0; i < requests; i++) {
+      ByteBuffer state = readOk(WireProtocol.OP_STATE, i + 2);
+      assertEquals(3, state.getShort());
+    }
+    writer.join();
+  }
+
+  @Test
+  public void testOversizedFrameClosesTheConnection() throws IOException {
+    pending.putInt(WireProtocol.MAX_FRAME_SIZE + 1);
+    pending.put(WireProtocol.OP_STATE);
+    pending.putInt(1);
+    flush();
+    try {
+      assertEquals(-1, in.read());
+    } catch (SocketException e) {
+      // A reset is as good as an orderly close
+    }
+  }
+
+  @Test
+  public void testConnectionsPlaySeparateGames() throws IOException {
+    sendInit(3, 5);
+    send(WireProtocol.OP_START, buffer -> { });
+    flush();
+    readOk(WireProtocol.OP_INIT, 1);
+    readOk(WireProtocol.OP_START, 2);
+
+    try (Socket other = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+      other.setSoTimeout(5000);
+      sendInit(3, 7);
+      send(WireProtocol.OP_START, buffer -> { });
+      send(WireProtocol.OP_STATE, buffer -> { });
+      other.getOutputStream().write(takePending());
+      DataInputStream otherIn = new DataInputStream(other.getInputStream());
+      for (int response = 0; response < 2; response++) {
+        otherIn.readFully(new byte[otherIn.readInt()]);
+      }
+      byte[] frame = new byte[otherIn.readInt()];
+      otherIn.readFully(frame);
+      // Skip the op, request id and status
+      ByteBuffer state = ByteBuffer.wrap(frame).position(6);
+      assertEquals(3, state.getShort());
+      assertEquals(7, state.getShort());
+      assertEquals(2, server.getSessions().getSessions().size());
+    }
+  }
+
+  @Test
+  public void testClosingTheServerDropsConnections() throws IOException {
+    server.close();
+    try {
+      assertEquals(-1, in.read());
+    } catch (SocketException e) {
+      // A reset is as good as an orderly close
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package cs3500.pawnsboard.server;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for WireProtocol.
+ */
+public class WireProtocolTest {
+
+  @Test
+  public void testFrameRoundTrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    int start = WireProtocol.beginFrame(buffer, WireProtocol.OP_PLACE, 42);
+    buffer.put((byte) 3);
+    buffer.putShort((short) 4);
+    buffer.putShort((short) 5);
+    WireProtocol.endFrame(buffer, start);
+    buffer.flip();
+
+    assertEquals(WireProtocol.HEADER_SIZE + 5, buffer.remaining());
+    ByteBuffer frame = WireProtocol.nextFrame(buffer);
+    assertNotNull(frame);
+    assertEquals(WireProtocol.OP_PLACE, frame.get());
+    assertEquals(42, frame.getInt());
+    assertEquals(3, frame.get());
+    assertEquals(4, frame.getShort());
+    assertEquals(5, frame.getShort());
+    assertFalse(frame.hasRemaining());
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void testPipelinedFramesAreTakenInOrder() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    for (int id = 1; id <= 3; id++) {
+      WireProtocol.endFrame(buffer, WireProtocol.beginFrame(buffer, WireProtocol.OP_STATE, id));
+    }
+    buffer.flip();
+    for (int id = 1; id <= 3; id++) {
+      ByteBuffer frame = WireProtocol.nextFrame(buffer);
+      assertEquals(WireProtocol.OP_STATE, frame.get());
+      assertEquals(id, frame.getInt());
+    }
+    assertNull(WireProtocol.nextFrame(buffer));
+  }
+
+  @Test
+  public void testPartialFrameIsLeftInPlace() {
+    ByteBuffer whole = ByteBuffer.allocate(64);
+    int start = WireProtocol.beginFrame(whole, WireProtocol.OP_HAND, 7);
+    whole.put((byte) 1);
+    WireProtocol.endFrame(whole, start);
+    whole.flip();
+
+    // Every proper prefix of the frame, including one cut inside the length field
+    for (int received = 0; received < whole.limit(); received++) {
+      ByteBuffer partial = whole.duplicate().limit(received);
+      assertNull(WireProtocol.nextFrame(partial));
+      assertEquals(0, partial.position());
+    }
+
+    ByteBuffer frame = WireProtocol.nextFrame(whole);
+    assertEquals(WireProtocol.OP_HAND, frame.get());
+    assertEquals(7, frame.getInt());
+    assertEquals(1, frame.get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOversizedFrameIsRejected() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    buffer.putInt(WireProtocol.MAX_FRAME_SIZE + 1);
+    buffer.flip();
+    WireProtocol.nextFrame(buffer);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFrameShorterThanItsHeaderIsRejected() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    buffer.putInt(WireProtocol.HEADER_SIZE - Integer.BYTES - 1);
+    buffer.flip();
+    WireProtocol.nextFrame(buffer);
+  }
+
+  @Test
+  public void testStringRoundTrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    WireProtocol.putString(buffer, "Sécurité");
+    WireProtocol.putString(buffer, "");
+    buffer.flip();
+    assertEquals("Sécurité", WireProtocol.getString(buffer));
+    assertEquals("", WireProtocol.getString(buffer));
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void testCellRoundTrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(6);
+    WireProtocol.putCell(buffer, CellContent.PAWN, Player.BLUE, 3);
+    WireProtocol.putCell(buffer, CellContent.EMPTY, null, 0);
+    buffer.flip();
+    assertEquals(CellContent.PAWN.ordinal(), buffer.get());
+    assertEquals(Player.BLUE.ordinal(), buffer.get());
+    assertEquals(3, buffer.get());
+    assertEquals(CellContent.EMPTY.ordinal(), buffer.get());
+    assertEquals(-1, buffer.get());
+    assertEquals(0, buffer.get());
+  }
+
+  @Test
+  public void testHandRoundTrip() {
+    List<Card> hand = TestDecks.red(4);
+    ByteBuffer buffer = ByteBuffer.allocate(WireProtocol.handSize(hand));
+    WireProtocol.putHand(buffer, hand);
+    assertFalse(buffer.hasRemaining());
+    buffer.flip();
+
+    assertEquals(hand.size(), buffer.get());
+    for (Card card : hand) {
+      assertEquals(card.getName(), WireProtocol.getString(buffer));
+      assertEquals(card.getCost(), buffer.get());
+      assertEquals(card.getValueScore(), buffer.get());
+      assertEquals(card.getInfluenceMask(), buffer.getInt());
+    }
+  }
+
+  @Test
+  public void testStatusRoundTrip() {
+    PawnsBoardModelImpl model = TestDecks.startedGame(1, 3, 5, TestDecks.red(15),
+            TestDecks.blue(15), 5);
+    model.passTurn();
+
+    ByteBuffer buffer = ByteBuffer.allocate(10);
+    WireProtocol.putStatus(buffer, model);
+    buffer.flip();
+    assertEquals(Player.BLUE.ordinal(), buffer.get());
+    assertEquals(2, buffer.get());
+    assertEquals(model.getTotalScore(Player.RED), buffer.getInt());
+    assertEquals(model.getTotalScore(Player.BLUE), buffer.getInt());
+  }
+}
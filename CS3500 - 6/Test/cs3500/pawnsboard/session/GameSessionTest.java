@@ -0,0 +1,173 @@
+package cs3500.pawnsboard.session;
+
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for GameSession and GameSessionManager.
+ */
+public class GameSessionTest {
+  private ExecutorService executor;
+  private GameSessionManager manager;
+  private CountDownLatch thinking;
+  private CountDownLatch decide;
+  private Strategy slow;
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    manager = new GameSessionManager(executor);
+    redDeck = DeckConfigReader.readDeck("docs/red_deck.txt");
+    blueDeck = DeckConfigReader.readDeck("docs/blue_deck.txt");
+    thinking = new CountDownLatch(1);
+    decide = new CountDownLatch(1);
+    Strategy fillFirst = new FillFirstStrategy();
+    slow = (model, player) -> {
+      thinking.countDown();
+      try {
+        decide.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return fillFirst.chooseMove(model, player);
+    };
+  }
+
+  @After
+  public void tearDown() {
+    decide.countDown();
+    manager.close();
+  }
+
+  private PawnsBoardModel newModel() {
+    PawnsBoardModel model = new PawnsBoardModelImpl(1);
+    model.initGame(3, 5, redDeck, blueDeck, 5);
+    return model;
+  }
+
+  @Test
+  public void testQueriesAreAnsweredWhileTheComputerThinks() throws Exception {
+    GameSession session = manager.createSession(newModel(), slow, null);
+    session.start();
+    assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+    // Another client reads the game while RED's strategy is still deciding
+    Player current = CompletableFuture.supplyAsync(
+        () -> session.query(ReadonlyPawnsBoardModel::getCurrentPlayer))
+            .get(1, TimeUnit.SECONDS);
+    assertEquals(Player.RED, current);
+
+    decide.countDown();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (session.query(ReadonlyPawnsBoardModel::getCurrentPlayer) == Player.RED
+            && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(Player.BLUE, session.query(ReadonlyPawnsBoardModel::getCurrentPlayer));
+    assertEquals(1, session.getMoveLatency().getMoveCount());
+  }
+
+  @Test
+  public void testCloseDropsTheMoveBeingDecided() throws Exception {
+    GameSession session = manager.createSession(newModel(), slow, null);
+    session.start();
+    assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+    session.close();
+    decide.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+    assertTrue(session.isClosed());
+    assertTrue(session.onGameOver().isCancelled());
+    assertEquals(Player.RED, session.query(ReadonlyPawnsBoardModel::getCurrentPlayer));
+    assertEquals(0, session.getMoveLatency().getMoveCount());
+  }
+
+  /**
+   * A strategy that counts how often it was closed.
+   */
+  private static class ClosingStrategy extends FillFirstStrategy implements AutoCloseable {
+    private int closes;
+
+    @Override
+    public void close() {
+      closes++;
+    }
+  }
+
+  @Test
+  public void testClosingTheSessionClosesItsStrategies() {
+    ClosingStrategy blue = new ClosingStrategy();
+    GameSession session = manager.createSession(newModel(), null, blue);
+    session.start();
+    session.close();
+    session.close();
+    assertEquals(1, blue.closes);
+  }
+
+  @Test
+  public void testTurnsAreNotScheduledOnAStoppedExecutor() {
+    GameSession session = manager.createSession(newModel(), new FillFirstStrategy(), null);
+    executor.shutdown();
+
+    // Starting must not throw even though the executor rejects the first computer turn
+    session.start();
+    assertTrue(session.isClosed());
+    assertTrue(session.onGameOver().isCancelled());
+  }
+
+  @Test
+  public void testManagerCloseClosesSessionsAndExecutor() {
+    GameSession session = manager.createSession(newModel(), null, null);
+    manager.close();
+
+    assertTrue(session.isClosed());
+    assertTrue(executor.isShutdown());
+    assertTrue(manager.getSessions().isEmpty());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testNoSessionsAfterClose() {
+    manager.close();
+    manager.createSession(newModel(), null, null);
+  }
+
+  @Test
+  public void testManagerHostsNewGamesAfterOthersEnd() throws Exception {
+    for (int game = 0; game < 3; game++) {
+      GameSession session = manager.createSession(newModel(),
+              new MaximizeRowScoreStrategy(), new FillFirstStrategy());
+      session.start();
+      session.onGameOver().get(10, TimeUnit.SECONDS);
+      assertTrue(session.query(ReadonlyPawnsBoardModel::isGameOver));
+
+      manager.removeSession(session.getId());
+      assertTrue(session.isClosed());
+      assertFalse(session.onGameOver().isCancelled());
+    }
+    assertTrue(manager.getSessions().isEmpty());
+  }
+}
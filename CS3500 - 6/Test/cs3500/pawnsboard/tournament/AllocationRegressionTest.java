@@ -0,0 +1,71 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.MinMaxStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Allocation regression thresholds for the model and strategy hot paths.
+ * The thresholds are roughly twice the measured averages, so a change that makes a hot path
+ * allocate noticeably more per call fails here.
+ */
+public class AllocationRegressionTest {
+
+  private TournamentRunner runner;
+
+  @Before
+  public void setUp() {
+    List<Card> redDeck = TestDecks.red(30);
+    List<Card> blueDeck = TestDecks.blue(30);
+    runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+  }
+
+  /**
+   * Plays warm-up games without profiling, then profiles a fixed set of games.
+   */
+  private AllocationProfile profile(Strategy strategy) {
+    runner.play(strategy, new FillFirstStrategy(), 50, 1000);
+    runner.setAllocationProfiling(true);
+    runner.play(strategy, new FillFirstStrategy(), 50, 0);
+    AllocationProfile profile = runner.getAllocationProfile();
+    runner.setAllocationProfiling(false);
+    return profile;
+  }
+
+  @Test
+  public void testFillFirstAllocation() {
+    AllocationProfile profile = profile(new FillFirstStrategy());
+    assertTrue(profile.report(), profile.getBytesPerCall(FillFirstStrategy.class) <= 48);
+    assertTrue(profile.report(), profile.getBytesPerMove() <= 640);
+  }
+
+  @Test
+  public void testMaximizeRowScoreAllocation() {
+    AllocationProfile profile = profile(new MaximizeRowScoreStrategy());
+    assertTrue(profile.report(),
+            profile.getBytesPerCall(MaximizeRowScoreStrategy.class) <= 64);
+  }
+
+  @Test
+  public void testControlBoardAllocation() {
+    AllocationProfile profile = profile(new ControlBoardStrategy());
+    assertTrue(profile.report(), profile.getBytesPerCall(ControlBoardStrategy.class) <= 96);
+  }
+
+  @Test
+  public void testMinMaxAllocation() {
+    AllocationProfile profile = profile(new MinMaxStrategy());
+    assertTrue(profile.report(), profile.getBytesPerCall(MinMaxStrategy.class) <= 1536);
+  }
+}
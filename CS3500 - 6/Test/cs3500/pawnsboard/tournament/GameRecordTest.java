@@ -0,0 +1,179 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for GameRecordWriter and GameRecordReader.
+ */
+public class GameRecordTest {
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    redDeck = TestDecks.mixedRed(30, 3);
+    blueDeck = TestDecks.mixedBlue(30, 3);
+    path = Files.createTempFile("games", ".pbgr");
+    path.toFile().deleteOnExit();
+  }
+
+  /**
+   * Describes a ply the way the reader reports it, so recorded and read plies can be compared.
+   */
+  private static String describe(int game, Player player, int row, int col, int redScore,
+                                 int blueScore, String position) {
+    return game + " " + player + " " + row + "," + col + " " + redScore + "-" + blueScore
+            + " " + position;
+  }
+
+  @Test
+  public void testRecordMatchesPlayedGames() throws IOException {
+    List<String> expected = new ArrayList<>();
+    List<Player> winners = new ArrayList<>();
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 3, 5, 5);
+    // Seven plies of a 3x5 board per chunk
+    GameRecordWriter writer = new GameRecordWriter(path, 3, 5,
+            7 * (GameRecordWriter.PLY_FIXED_BYTES + 15));
+    runner.setMoveListener(new TournamentRunner.MoveListener() {
+      private int game = -1;
+
+      @Override
+      public void onGameStart(ReadonlyPawnsBoardModel model, Strategy red, Strategy blue) {
+        game++;
+        writer.onGameStart(model, red, blue);
+      }
+
+      @Override
+      public void onMove(ReadonlyPawnsBoardModel model, Player player, Move move) {
+        StringBuilder position = new StringBuilder();
+        for (int row = 0; row < model.getRows(); row++) {
+          for (int col = 0; col < model.getColumns(); col++) {
+            position.append(model.getCellContent(row, col).ordinal())
+                    .append(model.getCellOwner(row, col))
+                    .append(model.getPawnCount(row, col));
+          }
+        }
+        expected.add(describe(game, player, move == null ? -1 : move.getRow(),
+                move == null ? -1 : move.getCol(), model.getTotalScore(Player.RED),
+                model.getTotalScore(Player.BLUE), position.toString()));
+        writer.onMove(model, player, move);
+      }
+
+      @Override
+      public void onGameOver(ReadonlyPawnsBoardModel model) {
+        winners.add(model.getWinner());
+        writer.onGameOver(model);
+      }
+    });
+    runner.play(new MaximizeRowScoreStrategy(), new ControlBoardStrategy(), 12, 3);
+    writer.close();
+
+    GameRecordReader reader = GameRecordReader.open(path);
+    assertEquals(expected.size(), reader.getPlyCount());
+    assertEquals(12, reader.getGameCount());
+    assertEquals(List.of("MaximizeRowScoreStrategy", "ControlBoardStrategy"),
+            reader.getStrategyNames());
+    for (int game = 0; game < 12; game++) {
+      assertEquals(winners.get(game), reader.getWinner(game));
+    }
+
+    List<String> actual = new ArrayList<>();
+    reader.scan(ply -> {
+      StringBuilder position = new StringBuilder();
+      for (int row = 0; row < reader.getRows(); row++) {
+        for (int col = 0; col < reader.getColumns(); col++) {
+          position.append(ply.getContent(row, col).ordinal())
+                  .append(ply.getOwner(row, col))
+                  .append(ply.getPawns(row, col));
+        }
+      }
+      assertEquals(ply.getPlayer() == Player.RED ? "MaximizeRowScoreStrategy"
+              : "ControlBoardStrategy", ply.getStrategy());
+      assertEquals(ply.isPass(), ply.getCardCost() == 0);
+      actual.add(describe(ply.getGame(), ply.getPlayer(), ply.getRow(), ply.getCol(),
+              ply.getScore(Player.RED), ply.getScore(Player.BLUE), position.toString()));
+    });
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testWinRateByFeature() throws IOException {
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 3, 5, 5);
+    try (GameRecordWriter writer = new GameRecordWriter(path, 3, 5)) {
+      runner.setMoveListener(writer);
+      runner.play(new MaximizeRowScoreStrategy(), new ControlBoardStrategy(), 10, 5);
+    }
+
+    GameRecordReader reader = GameRecordReader.open(path);
+    long[] wins = new long[2];
+    long[] totals = new long[2];
+    reader.scan(ply -> {
+      totals[ply.getPlayer().ordinal()]++;
+      if (ply.moverWon()) {
+        wins[ply.getPlayer().ordinal()]++;
+      }
+    });
+    double[] rates = reader.winRateBy(ply -> ply.getPlayer().ordinal(), 3);
+    assertEquals((double) wins[0] / totals[0], rates[0], 1e-9);
+    assertEquals((double) wins[1] / totals[1], rates[1], 1e-9);
+    assertTrue(Double.isNaN(rates[2]));
+  }
+
+  /**
+   * A strategy whose name takes more bytes than a one-ply chunk of a 3x5 board.
+   */
+  private static class StrategyWhoseNameIsLongerThanAWholeChunkOfSingleMovePlies
+          extends MaximizeRowScoreStrategy {
+  }
+
+  @Test
+  public void testLongStrategyNameWithOnePlyChunks() throws IOException {
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 3, 5, 5);
+    try (GameRecordWriter writer = new GameRecordWriter(path, 3, 5, 1)) {
+      runner.setMoveListener(writer);
+      runner.play(new StrategyWhoseNameIsLongerThanAWholeChunkOfSingleMovePlies(),
+              new ControlBoardStrategy(), 2, 1);
+    }
+
+    GameRecordReader reader = GameRecordReader.open(path);
+    assertEquals(List.of("StrategyWhoseNameIsLongerThanAWholeChunkOfSingleMovePlies",
+            "ControlBoardStrategy"), reader.getStrategyNames());
+    assertEquals(2, reader.getGameCount());
+    long[] plies = new long[1];
+    reader.scan(ply -> plies[0]++);
+    assertEquals(reader.getPlyCount(), plies[0]);
+    assertTrue(plies[0] > 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWriterRejectsBoardsTooLargeForAChunk() {
+    // A single ply of this board would take more than 2 GiB
+    new GameRecordWriter(path, 50_001, 50_001);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOpenRejectsOtherFiles() throws IOException {
+    Files.write(path, "not a game record".getBytes(StandardCharsets.US_ASCII));
+    GameRecordReader.open(path);
+  }
+}
@@ -0,0 +1,84 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.EndgameSolverStrategy;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.MinMaxStrategy;
+import cs3500.pawnsboard.Strategy.ParallelMinMaxStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.TracingPawnsBoardModel.Query;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for QueryProfiler, including the query budget of every built-in strategy. A budget
+ * is twice the queries per decision the strategy issued when the budget was set, so a change
+ * that doubles a strategy's queries fails here; lower the baseline when a strategy gets
+ * cheaper.
+ */
+public class QueryProfilerTest {
+  private QueryProfiler profiler;
+
+  @Before
+  public void setUp() {
+    List<Card> redDeck = TestDecks.mixedRed(30, 3);
+    List<Card> blueDeck = TestDecks.mixedBlue(30, 3);
+    profiler = new QueryProfiler(redDeck, blueDeck, 5, 7, 5);
+  }
+
+  private void assertWithinBudget(Strategy strategy, double baseline) {
+    QueryProfiler.QueryProfile profile = profiler.profile(strategy, new FillFirstStrategy(),
+            10, 0);
+    assertTrue(profile.getDecisions() > 0);
+    assertTrue(profile.getStrategy() + " issued " + profile.getQueriesPerDecision()
+                    + " queries per decision, budget " + 2 * baseline,
+            profile.getQueriesPerDecision() < 2 * baseline);
+  }
+
+  @Test
+  public void testFillFirstWithinBudget() {
+    assertWithinBudget(new FillFirstStrategy(), 22.6);
+  }
+
+  @Test
+  public void testMaximizeRowScoreWithinBudget() {
+    assertWithinBudget(new MaximizeRowScoreStrategy(), 52.6);
+  }
+
+  @Test
+  public void testControlBoardWithinBudget() {
+    assertWithinBudget(new ControlBoardStrategy(), 194.5);
+  }
+
+  @Test
+  public void testMinMaxWithinBudget() {
+    assertWithinBudget(new MinMaxStrategy(), 249.2);
+  }
+
+  @Test
+  public void testSearchesWithinBudget() {
+    assertWithinBudget(new EndgameSolverStrategy(new MaximizeRowScoreStrategy()), 54.6);
+    assertWithinBudget(new ParallelMinMaxStrategy(2), 54.0);
+  }
+
+  @Test
+  public void testCountsOnlyTheProfiledStrategy() {
+    QueryProfiler.QueryProfile profile = profiler.profile(new FillFirstStrategy(),
+            new MinMaxStrategy(), 4, 1);
+    long total = 0;
+    for (Query query : Query.values()) {
+      total += profile.getCount(query);
+    }
+    assertEquals(profile.getQueries(), total);
+    assertTrue(profile.getMaxQueriesPerDecision() >= profile.getQueriesPerDecision());
+    assertEquals(0, profile.getCount(Query.GET_ROW_SCORE));
+  }
+}
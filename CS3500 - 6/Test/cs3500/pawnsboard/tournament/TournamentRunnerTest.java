@@ -0,0 +1,79 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that games dealt from split random streams are reproducible.
+ */
+public class TournamentRunnerTest {
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+
+  @Before
+  public void setUp() {
+    redDeck = TestDecks.mixedRed(30, 3);
+    blueDeck = TestDecks.mixedBlue(30, 3);
+  }
+
+  @Test
+  public void testParallelGamesMatchSequentialGames() {
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+    TournamentRunner.TournamentResult sequential = runner.play(
+            new MaximizeRowScoreStrategy(), new ControlBoardStrategy(), 40,
+            new SplittableRandom(42));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      TournamentRunner.TournamentResult parallel = runner.playParallel(
+              MaximizeRowScoreStrategy::new, ControlBoardStrategy::new, 40,
+              new SplittableRandom(42), pool);
+      assertEquals(sequential.toString(), parallel.toString());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testCopiesDealFromReproducibleStreams() {
+    PawnsBoardModel first = new PawnsBoardModelImpl(new SplittableRandom(7));
+    PawnsBoardModel second = new PawnsBoardModelImpl(new SplittableRandom(7));
+    first.initGame(5, 7, redDeck, blueDeck, 5);
+    second.initGame(5, 7, redDeck, blueDeck, 5);
+    first.startGame();
+    second.startGame();
+
+    PawnsBoardModel firstCopy = (PawnsBoardModel) first.copy();
+    PawnsBoardModel secondCopy = (PawnsBoardModel) second.copy();
+    Strategy.Move move = new FillFirstStrategy().chooseMove(first, Player.RED);
+    for (PawnsBoardModel model : List.of(first, second, firstCopy, secondCopy)) {
+      model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+    }
+
+    assertEquals(first.getPlayerHand(Player.RED), second.getPlayerHand(Player.RED));
+    assertEquals(firstCopy.getPlayerHand(Player.RED), secondCopy.getPlayerHand(Player.RED));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testParallelGamesCannotBeProfiled() {
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+    runner.setAllocationProfiling(true);
+    runner.playParallel(MaximizeRowScoreStrategy::new, ControlBoardStrategy::new, 2,
+            new SplittableRandom(1), ForkJoinPool.commonPool());
+  }
+}
@@ -0,0 +1,75 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.TracingPawnsBoardModel;
+
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for BoardPainter's culling and level of detail. These run without a display.
+ */
+public class BoardPainterTest {
+
+  private PawnsBoardModel board(int rows, int cols) {
+    String[] grid = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < (rows * cols + 1) / 2; i++) {
+      deck.add(new CardImp("Card" + i, 1, 1, grid));
+    }
+    PawnsBoardModel model = new PawnsBoardModelImpl(0);
+    model.initGame(rows, cols, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+    return model;
+  }
+
+  private long queriesToPaint(PawnsBoardModel model, int cellSize) {
+    TracingPawnsBoardModel traced = new TracingPawnsBoardModel(model);
+    BufferedImage image = new BufferedImage(200, 160, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    g2d.setClip(0, 0, 200, 160);
+    BoardPainter.paintCells(g2d, traced, cellSize, cellSize, -1, -1);
+    BoardPainter.paintRowScores(g2d, traced, cellSize, 5, 185);
+    g2d.dispose();
+    return traced.getTotalCount();
+  }
+
+  @Test
+  public void testPaintingDependsOnTheClipNotTheBoard() {
+    PawnsBoardModel large = board(51, 101);
+    PawnsBoardModel huge = board(101, 201);
+
+    // Zoomed out, summary colors only
+    assertEquals(queriesToPaint(large, 4), queriesToPaint(huge, 4));
+    assertTrue(queriesToPaint(huge, 4) < 4 * 50 * 40);
+
+    // Zoomed in, full detail
+    assertEquals(queriesToPaint(large, 40), queriesToPaint(huge, 40));
+    assertTrue(queriesToPaint(huge, 40) < 10 * 5 * 4);
+  }
+
+  @Test
+  public void testZoomedOutPaintsSummaryColors() {
+    PawnsBoardModel model = board(51, 101);
+    BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    g2d.setClip(0, 0, 100, 100);
+    g2d.translate(-400, 0);
+    BoardPainter.paintCells(g2d, model, 4, 4, 1, 100);
+    g2d.dispose();
+
+    // Only the last column, with blue's starting pawns, is left in view
+    assertEquals(0xD2D2FF, image.getRGB(1, 1) & 0xFFFFFF);
+    assertEquals(0x00FFFF, image.getRGB(1, 5) & 0xFFFFFF);
+    assertEquals(0x000000, image.getRGB(5, 1) & 0xFFFFFF);
+  }
+}
@@ -0,0 +1,126 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for HeadlessBoardRenderer. These run without a display.
+ */
+public class HeadlessBoardRendererTest {
+
+  private PawnsBoardModel playedModel(long seed, int moves) {
+    String[] grid = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new CardImp("Card" + i, 1, 1 + i % 3, grid));
+    }
+    PawnsBoardModel model = new PawnsBoardModelImpl(seed);
+    model.initGame(3, 5, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+    Strategy strategy = new FillFirstStrategy();
+    for (int i = 0; i < moves && !model.isGameOver(); i++) {
+      Strategy.Move move = strategy.chooseMove(model, model.getCurrentPlayer());
+      if (move == null) {
+        model.passTurn();
+      } else {
+        model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+      }
+    }
+    return model;
+  }
+
+  private static int[] pixels(BufferedImage image) {
+    return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+  }
+
+  @Test
+  public void testRendersBoardAndHand() {
+    HeadlessBoardRenderer renderer = new HeadlessBoardRenderer(500, 300, true);
+    BufferedImage image = renderer.render(playedModel(1, 1));
+    assertEquals(500, image.getWidth());
+    assertEquals(300 + BoardPainter.HAND_HEIGHT, image.getHeight());
+
+    // Red's first card sits in the top-left cell, drawn in the red card color
+    assertEquals(0xFFC8C8, image.getRGB(50, 30) & 0xFFFFFF);
+    // The hand area is light gray between the cards
+    assertEquals(0xC0C0C0, image.getRGB(499, 300 + BoardPainter.HAND_HEIGHT - 1) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testParallelBatchMatchesSingleRenders() throws IOException {
+    List<PawnsBoardModel> positions = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      positions.add(playedModel(i, i));
+    }
+    Path dir = Files.createTempDirectory("thumbnails");
+    HeadlessBoardRenderer renderer = new HeadlessBoardRenderer(400, 240, false);
+    List<Path> files = renderer.writeAll(positions, dir, "pos", 4);
+
+    assertEquals(positions.size(), files.size());
+    for (int i = 0; i < files.size(); i++) {
+      BufferedImage written = ImageIO.read(files.get(i).toFile());
+      assertArrayEquals(pixels(renderer.render(positions.get(i))), pixels(written));
+      Files.delete(files.get(i));
+    }
+    Files.delete(dir);
+  }
+
+  @Test
+  public void testBatchThreadsEndWithTheBatch() throws IOException, InterruptedException {
+    Path dir = Files.createTempDirectory("thumbnails");
+    List<Path> files = new HeadlessBoardRenderer(200, 120, false).writeAll(
+            List.of(playedModel(1, 2), playedModel(2, 3)), dir, "pos", 2);
+
+    // The batch's pool is shut down, so its threads and their images go away
+    long deadline = System.currentTimeMillis() + 5000;
+    while (renderThreads() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, renderThreads());
+    for (Path file : files) {
+      Files.delete(file);
+    }
+    Files.delete(dir);
+  }
+
+  private static long renderThreads() {
+    return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("headless-render-"))
+            .count();
+  }
+
+  @Test
+  public void testReleaseDropsTheThreadsImage() {
+    HeadlessBoardRenderer renderer = new HeadlessBoardRenderer(200, 120, false);
+    PawnsBoardModel model = playedModel(1, 1);
+    BufferedImage first = renderer.render(model);
+    assertSame(first, renderer.render(model));
+
+    renderer.release();
+    renderer.release();
+    BufferedImage second = renderer.render(model);
+    assertNotSame(first, second);
+    assertArrayEquals(pixels(first), pixels(second));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParallelismMustBePositive() {
+    new HeadlessBoardRenderer(200, 120, false).writeAll(List.of(), Path.of("unused"), "pos", 0);
+  }
+}
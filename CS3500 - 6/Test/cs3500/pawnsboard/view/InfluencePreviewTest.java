@@ -0,0 +1,163 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.TestDecks;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.InfluenceFootprints;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for InfluencePreview. These run without a display.
+ */
+public class InfluencePreviewTest {
+  private PawnsBoardModel model;
+
+  @Before
+  public void setUp() {
+    List<Card> deck = TestDecks.deck("Card", 15, 1, 1, 0, 3, 0);
+    model = new PawnsBoardModelImpl(5);
+    model.initGame(3, 5, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+  }
+
+  @Test
+  public void testPreviewMatchesPlacement() {
+    assertPreviewsMatchPlacements(model);
+  }
+
+  @Test
+  public void testPreviewMatchesPlacementOnLargeBoard() {
+    // Past the footprint cache limit, so previews walk the card's mask themselves
+    int rows = 11;
+    int cols = 101;
+    assertTrue(rows * cols > InfluenceFootprints.MAX_CACHED_CELLS);
+    List<Card> deck = TestDecks.deck("Card", rows * cols, 1, 1, 0, 3, 0);
+    PawnsBoardModel large = new PawnsBoardModelImpl(5);
+    large.initGame(rows, cols, deck, new ArrayList<>(deck), 5);
+    large.startGame();
+    assertPreviewsMatchPlacements(large);
+  }
+
+  /**
+   * Plays a few turns, checking before each placement that its preview names exactly the
+   * cells the placement then changes.
+   */
+  private static void assertPreviewsMatchPlacements(PawnsBoardModel model) {
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    Strategy strategy = new FillFirstStrategy();
+    for (int turn = 0; turn < 6 && !model.isGameOver(); turn++) {
+      Player player = model.getCurrentPlayer();
+      Strategy.Move move = strategy.chooseMove(model, player);
+      if (move == null) {
+        model.passTurn();
+        continue;
+      }
+      InfluencePreview previews = new InfluencePreview(model, 0, () -> { });
+      InfluencePreview.Preview preview = previews.compute(
+              previews.snapshot(move.getCardIndex(), move.getRow(), move.getCol()));
+
+      CellContent[][] contents = new CellContent[rows][cols];
+      Player[][] owners = new Player[rows][cols];
+      int[][] pawns = new int[rows][cols];
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          contents[row][col] = model.getCellContent(row, col);
+          owners[row][col] = model.getCellOwner(row, col);
+          pawns[row][col] = model.getPawnCount(row, col);
+        }
+      }
+      model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+
+      int changed = 0;
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          if (row == move.getRow() && col == move.getCol()) {
+            continue;
+          }
+          boolean tookOver = owners[row][col] != model.getCellOwner(row, col);
+          boolean added = pawns[row][col] != model.getPawnCount(row, col)
+                  || contents[row][col] != model.getCellContent(row, col);
+          if (tookOver || added) {
+            changed++;
+            assertEquals(tookOver && contents[row][col] == CellContent.PAWN
+                            ? InfluencePreview.TAKE_OVER : InfluencePreview.ADD_PAWN,
+                    effectAt(preview, row, col));
+          }
+        }
+      }
+      assertEquals(changed, preview.size());
+      previews.shutdown();
+    }
+  }
+
+  @Test
+  public void testSnapshotIsIndependentOfLaterMoves() {
+    InfluencePreview previews = new InfluencePreview(model, 0, () -> { });
+    Strategy.Move move = new FillFirstStrategy().chooseMove(model, Player.RED);
+    InfluencePreview.Snapshot snapshot = previews.snapshot(move.getCardIndex(), move.getRow(),
+            move.getCol());
+    InfluencePreview.Preview before = previews.compute(snapshot);
+    assertTrue(before.size() > 0);
+
+    // The model moves on; the snapshot still describes the position it was taken in
+    model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+    InfluencePreview.Preview after = previews.compute(snapshot);
+    assertArrayEquals(before.rows, after.rows);
+    assertArrayEquals(before.cols, after.cols);
+    assertArrayEquals(before.effects, after.effects);
+    assertEquals(0, previews.compute(previews.snapshot(move.getCardIndex(), move.getRow(),
+            move.getCol())).size());
+    previews.shutdown();
+  }
+
+  private static byte effectAt(InfluencePreview.Preview preview, int row, int col) {
+    for (int i = 0; i < preview.size(); i++) {
+      if (preview.rows[i] == row && preview.cols[i] == col) {
+        return preview.effects[i];
+      }
+    }
+    return 0;
+  }
+
+  @Test
+  public void testHoversAreDebounced() throws Exception {
+    AtomicInteger ready = new AtomicInteger();
+    InfluencePreview[] preview = new InfluencePreview[1];
+    Strategy.Move move = new FillFirstStrategy().chooseMove(model, Player.RED);
+    SwingUtilities.invokeAndWait(() -> {
+      preview[0] = new InfluencePreview(model, 50, ready::incrementAndGet);
+      // Sweep across the row, ending on the cell of a legal move
+      for (int i = 1; i <= 5; i++) {
+        preview[0].request(move.getCardIndex(), move.getRow(), (move.getCol() + i) % 5);
+      }
+    });
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (ready.get() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(100);
+    SwingUtilities.invokeAndWait(() -> {
+      InfluencePreview.Preview current = preview[0].getCurrent();
+      assertNotNull(current);
+      assertEquals(move.getCol(), current.col);
+      preview[0].shutdown();
+    });
+    assertEquals(1, ready.get());
+  }
+}
@@ -0,0 +1,80 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CardImp;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for PawnsBoardTextualView.
+ */
+public class PawnsBoardTextualViewTest {
+  private PawnsBoardModel model;
+  private PawnsBoardTextualView view;
+
+  @Before
+  public void setUp() {
+    String[] grid = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      deck.add(new CardImp("Card" + i, 1, 2, grid));
+    }
+    model = new PawnsBoardModelImpl(0);
+    model.initGame(3, 5, deck, new ArrayList<>(deck), 5);
+    model.startGame();
+    view = new PawnsBoardTextualView(model);
+  }
+
+  @Test
+  public void testRendersWholeBoard() {
+    assertEquals("RED to play, score 0 0\n"
+            + "0 r1 .. .. .. b1 0\n"
+            + "0 r1 .. .. .. b1 0\n"
+            + "0 r1 .. .. .. b1 0\n", view.toString());
+
+    model.placeCard(0, 0, 0);
+    assertEquals("BLUE to play, score 2 0\n"
+            + "2 R2 r1 .. .. b1 0\n"
+            + "0 r2 .. .. .. b1 0\n"
+            + "0 r1 .. .. .. b1 0\n", view.toString());
+  }
+
+  @Test
+  public void testDiffListsOnlyChangedCells() {
+    assertEquals("RED to play, score 0 0: 0,0=r1 0,4=b1 1,0=r1 1,4=b1 2,0=r1 2,4=b1\n",
+            view.renderDiff().toString());
+    assertEquals("RED to play, score 0 0:\n", view.renderDiff().toString());
+
+    model.placeCard(0, 0, 0);
+    assertEquals("BLUE to play, score 2 0: 0,0=R2 0,1=r1 1,0=r2\n",
+            view.renderDiff().toString());
+
+    // A full render also moves the snapshot on
+    model.passTurn();
+    view.render();
+    assertEquals("RED to play, score 2 0:\n", view.renderDiff().toString());
+  }
+
+  @Test
+  public void testWritesToAppendable() throws IOException {
+    model.placeCard(0, 1, 0);
+    StringWriter writer = new StringWriter();
+    view.render(writer);
+    assertEquals(view.render().toString(), writer.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModel() {
+    new PawnsBoardTextualView(null);
+  }
+}
@@ -29,8 +29,8 @@ public final class PawnsBoardGame {
 
     try {
       // Read the deck configurations
-      List<Card> redDeck = DeckConfigReader.readDeck(redDeckPath);
-      List<Card> blueDeck = DeckConfigReader.readDeck(blueDeckPath);
+      List<Card> redDeck = DeckConfigReader.readDeckCached(redDeckPath);
+      List<Card> blueDeck = DeckConfigReader.readDeckCached(blueDeckPath);
 
       // Initialize and start the game
       model.initGame(5, 7, redDeck, blueDeck, 3);
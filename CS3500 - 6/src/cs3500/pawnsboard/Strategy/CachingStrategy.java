@@ -0,0 +1,153 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A strategy that remembers the moves another strategy chose, so a position that comes up
+ * again, in a later game of a tournament or as a repeated question from a
+ * {@link ChainedStrategy}, costs a lookup instead of a decision. The wrapped strategy must
+ * choose the same move whenever it sees the same position.
+ *
+ * <p>Positions are keyed by {@link PositionHash#fullOrdered(ReadonlyPawnsBoardModel)} and
+ * the player asked about. The key covers the order of both hands, since strategies break
+ * ties by hand index and the same cards in another order can lead to another card being
+ * played; a remembered move therefore keeps its card index. At most a fixed number of
+ * positions are remembered; the one used least recently is forgotten first.</p>
+ *
+ * <p>Calls may come from several threads. The cache is locked only around lookups and
+ * inserts, never while the wrapped strategy decides, so it is up to the wrapped strategy
+ * whether concurrent decisions are safe.</p>
+ */
+public class CachingStrategy implements Strategy {
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private static final long BLUE_ASKED = 0x5BE0CD19137E2179L;
+
+  // Stands for a remembered pass
+  private static final Move PASS = new Move(-1, -1, -1);
+
+  private final Strategy inner;
+  private final int capacity;
+  private final LinkedHashMap<Long, Move> cache;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * Constructs a caching strategy that remembers {@link #DEFAULT_CAPACITY} positions.
+   *
+   * @param inner the strategy whose moves to remember
+   * @throws IllegalArgumentException if the strategy is null
+   */
+  public CachingStrategy(Strategy inner) {
+    this(inner, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a caching strategy.
+   *
+   * @param inner the strategy whose moves to remember
+   * @param capacity the most positions to remember
+   * @throws IllegalArgumentException if the strategy is null or the capacity is not positive
+   */
+  public CachingStrategy(Strategy inner, int capacity) {
+    if (inner == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.inner = inner;
+    this.capacity = capacity;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Move> eldest) {
+        if (size() > CachingStrategy.this.capacity) {
+          evictions++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  @Override
+  public Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
+    long key = PositionHash.fullOrdered(model) ^ (player == Player.BLUE ? BLUE_ASKED : 0);
+    Move cached;
+    synchronized (this) {
+      cached = cache.get(key);
+    }
+    // A hash collision could name a move that is not legal here
+    if (cached == PASS || cached != null
+            && model.isLegalMove(cached.getCardIndex(), cached.getRow(), cached.getCol())) {
+      synchronized (this) {
+        hits++;
+      }
+      return cached == PASS ? null : cached;
+    }
+
+    Move move = inner.chooseMove(model, player);
+    synchronized (this) {
+      misses++;
+      cache.put(key, move == null ? PASS : move);
+    }
+    return move;
+  }
+
+  /**
+   * Gets the number of decisions answered from the cache.
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of decisions the wrapped strategy made.
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the share of decisions answered from the cache.
+   *
+   * @return the hit rate between 0 and 1, or 0 if nothing was asked yet
+   */
+  public synchronized double getHitRate() {
+    long total = hits + misses;
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  /**
+   * Gets the number of positions forgotten to make room for new ones.
+   *
+   * @return the number of evictions
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Gets the number of positions remembered.
+   *
+   * @return the cache size
+   */
+  public synchronized int size() {
+    return cache.size();
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("CachingStrategy{hits=%d, misses=%d, hitRate=%.3f, size=%d/%d, "
+            + "evictions=%d}", hits, misses, getHitRate(), cache.size(), capacity, evictions);
+  }
+}
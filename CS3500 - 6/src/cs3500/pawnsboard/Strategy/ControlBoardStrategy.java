@@ -1,17 +1,15 @@
 package cs3500.pawnsboard.Strategy;
 
-import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
 
-import java.util.List;
-
 /**
  * A "Control the Board" strategy for the Pawns Board game.
  * This strategy chooses a move that maximizes the player's ownership of cells.
  */
 public class ControlBoardStrategy implements Strategy {
+  /** Mask bit of the card's own cell, which the influence mask leaves out. */
+  private static final int CENTER_BIT = 1 << 12;
 
   @Override
   public Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
@@ -19,19 +17,29 @@ public class ControlBoardStrategy implements Strategy {
       throw new IllegalArgumentException("It is not " + player + "'s turn");
     }
 
-    List<Card> hand = model.getPlayerHand(player);
+    int handSize = model.getHandSize(player);
+
+    // With no cards in hand there is nothing to place
+    if (handSize == 0) {
+      return null;
+    }
+
     Move bestMove = null;
     int maxCellsOwned = 0;
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    RowBuffer cells = RowBuffer.forColumns(cols);
+    cells.readOwners(model, rows, cols);
 
     // Iterate through all board positions
-    for (int row = 0; row < model.getRows(); row++) {
-      for (int col = 0; col < model.getColumns(); col++) {
-        for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-          Card card = hand.get(cardIndex);
-
+    for (int row = 0; row < rows; row++) {
+      cells.read(model, row);
+      for (int col = 0; col < cols; col++) {
+        for (int cardIndex = 0; cardIndex < handSize; cardIndex++) {
           // Check if this move is valid
-          if (isValidMove(model, player, card, row, col)) {
-            int cellsOwned = simulateMove(model, player, card, row, col);
+          if (cells.canPlace(col, player, model.getHandCardCost(player, cardIndex))) {
+            int cellsOwned = simulateMove(cells.boardOwners, rows, cols, player,
+                    model.getHandCardMask(player, cardIndex), row, col);
 
             // Choose the move that maximizes cells owned
             if (cellsOwned > maxCellsOwned ||
@@ -50,26 +58,21 @@ public class ControlBoardStrategy implements Strategy {
   /**
    * Simulates placing a card and counts how many cells the player would own after the move.
    */
-  private int simulateMove(ReadonlyPawnsBoardModel model, Player player, Card card, int row, int col) {
+  private int simulateMove(int[] owners, int rows, int cols, Player player, int influenceMask,
+                           int row, int col) {
     int ownedCells = 0;
-    int rows = model.getRows();
-    int cols = model.getColumns();
-    String[] influenceGrid = card.getInfluenceGrid();
-    int center = influenceGrid.length / 2; // Center index of the grid
 
-    for (int i = 0; i < influenceGrid.length; i++) {
-      for (int j = 0; j < influenceGrid[i].length(); j++) {
-        int targetRow = row + (i - center);
-        int targetCol = col + (j - center);
+    // Visit the card's own cell and every cell it influences
+    for (int bits = influenceMask | CENTER_BIT; bits != 0; bits &= bits - 1) {
+      int bit = Integer.numberOfTrailingZeros(bits);
+      int targetRow = row + bit / 5 - 2;
+      int targetCol = col + bit % 5 - 2;
 
-        // Ensure within board bounds
-        if (targetRow >= 0 && targetRow < rows && targetCol >= 0 && targetCol < cols) {
-          if (influenceGrid[i].charAt(j) == 'I' || influenceGrid[i].charAt(j) == 'C') {
-            // If the target cell is already owned by the player, count it
-            if (model.getCellOwner(targetRow, targetCol) == player) {
-              ownedCells++;
-            }
-          }
+      // Ensure within board bounds
+      if (targetRow >= 0 && targetRow < rows && targetCol >= 0 && targetCol < cols) {
+        // If the target cell is already owned by the player, count it
+        if (owners[targetRow * cols + targetCol] == player.ordinal()) {
+          ownedCells++;
         }
       }
     }
@@ -77,15 +80,6 @@ public class ControlBoardStrategy implements Strategy {
     return ownedCells;
   }
 
-  /**
-   * Checks if a move is valid.
-   */
-  private boolean isValidMove(ReadonlyPawnsBoardModel model, Player player, Card card, int row, int col) {
-    return model.getCellContent(row, col) == CellContent.PAWN &&
-        model.getCellOwner(row, col) == player &&
-        model.getPawnCount(row, col) >= card.getCost();
-  }
-
   /**
    * Determines if (row, col) is upper-left compared to a previous best move.
    */
@@ -0,0 +1,264 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.Arrays;
+
+/**
+ * A strategy that plays perfectly once the game is small enough to search to the end.
+ * When both decks are empty and few cards and pawn cells remain, it searches every line of
+ * play with alpha-beta pruning and a transposition table, and picks the move with the best
+ * final score margin under the real row-winning rules. Otherwise it defers to a fallback
+ * strategy.
+ *
+ * <p>Instances keep the search table and statistics of the last solve, so an instance should
+ * only be used by one game at a time.</p>
+ */
+public class EndgameSolverStrategy implements Strategy {
+  public static final int DEFAULT_MAX_HAND_CARDS = 8;
+  public static final int DEFAULT_MAX_PAWN_CELLS = 16;
+
+  private static final int TABLE_BITS = 18;
+  private static final byte EXACT = 0;
+  private static final byte LOWER = 1;
+  private static final byte UPPER = 2;
+  private static final int PASS = MoveOrdering.PASS;
+  private static final int NO_MOVE = -2;
+
+  private final Strategy fallback;
+  private final int maxHandCards;
+  private final int maxPawnCells;
+
+  private long[] tableKeys;
+  private int[] tableValues;
+  private int[] tableMoves;
+  private byte[] tableBounds;
+
+  private MoveOrdering ordering;
+  private int rootPly;
+  private int rootMove;
+
+  private boolean lastSolved;
+  private long lastNodes;
+  private long lastNanos;
+  private int lastMargin;
+
+  /**
+   * Constructs a solver with the default thresholds.
+   *
+   * @param fallback the strategy to use while the game is too large to solve
+   */
+  public EndgameSolverStrategy(Strategy fallback) {
+    this(fallback, DEFAULT_MAX_HAND_CARDS, DEFAULT_MAX_PAWN_CELLS);
+  }
+
+  /**
+   * Constructs a solver that engages once both decks are empty and both thresholds are met.
+   *
+   * @param fallback the strategy to use while the game is too large to solve
+   * @param maxHandCards the most cards both hands may hold together
+   * @param maxPawnCells the most cells holding pawns the board may have
+   * @throws IllegalArgumentException if the fallback is null or a threshold is negative
+   */
+  public EndgameSolverStrategy(Strategy fallback, int maxHandCards, int maxPawnCells) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Fallback strategy cannot be null");
+    }
+    if (maxHandCards < 0 || maxPawnCells < 0) {
+      throw new IllegalArgumentException("Thresholds cannot be negative");
+    }
+    this.fallback = fallback;
+    this.maxHandCards = maxHandCards;
+    this.maxPawnCells = maxPawnCells;
+  }
+
+  @Override
+  public Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
+    if (model.getCurrentPlayer() != player) {
+      throw new IllegalArgumentException("It is not " + player + "'s turn");
+    }
+
+    lastSolved = false;
+    if (model.getDeckSize(Player.RED) > 0 || model.getDeckSize(Player.BLUE) > 0
+            || model.getHandSize(Player.RED) + model.getHandSize(Player.BLUE) > maxHandCards) {
+      return fallback.chooseMove(model, player);
+    }
+    SearchState state = SearchState.fromModel(model);
+    if (state.countPawnCells() > maxPawnCells) {
+      return fallback.chooseMove(model, player);
+    }
+
+    return solve(state);
+  }
+
+  /**
+   * Searches a position to the end of the game and returns the best move for the player to
+   * move. Ties go to the first move in the search order, with passing last; the order only
+   * depends on the position, so the same position always gets the same move.
+   *
+   * @param state the position to solve; it is restored before this returns
+   * @return the best move, or null if passing is best
+   */
+  public Move solve(SearchState state) {
+    if (tableKeys == null) {
+      tableKeys = new long[1 << TABLE_BITS];
+      tableValues = new int[1 << TABLE_BITS];
+      tableMoves = new int[1 << TABLE_BITS];
+      tableBounds = new byte[1 << TABLE_BITS];
+    }
+    // Slots are renumbered for every solve, so entries from an earlier solve do not apply
+    Arrays.fill(tableKeys, 0);
+    ordering = new MoveOrdering(state);
+
+    long start = System.nanoTime();
+    lastNodes = 0;
+    rootPly = state.getPly();
+    lastMargin = search(state, -Integer.MAX_VALUE, Integer.MAX_VALUE);
+    lastNanos = System.nanoTime() - start;
+    lastSolved = true;
+
+    if (rootMove == PASS) {
+      return null;
+    }
+    int cols = state.getColumns();
+    return new Move(rootMove & 63, (rootMove >> 6) / cols, (rootMove >> 6) % cols);
+  }
+
+  /**
+   * Checks if the last call to chooseMove solved the position rather than using the fallback.
+   *
+   * @return true if the last move was solved
+   */
+  public boolean wasLastMoveSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Gets the final score margin, for the player to move, that the last solve proved.
+   *
+   * @return the proven score margin
+   * @throws IllegalStateException if the last move was not solved
+   */
+  public int getLastScoreMargin() {
+    if (!lastSolved) {
+      throw new IllegalStateException("The last move was not solved");
+    }
+    return lastMargin;
+  }
+
+  /**
+   * Gets the number of positions the last solve visited.
+   *
+   * @return the node count, or 0 if the last move was not solved
+   */
+  public long getLastNodeCount() {
+    return lastSolved ? lastNodes : 0;
+  }
+
+  /**
+   * Gets the search speed of the last solve.
+   *
+   * @return the positions visited per second, or 0 if the last move was not solved
+   */
+  public double getNodesPerSecond() {
+    return lastSolved ? lastNodes * 1e9 / Math.max(1, lastNanos) : 0;
+  }
+
+  /**
+   * Negamax search with alpha-beta pruning. Moves are encoded as cell index * 64 + slot and
+   * tried in {@link MoveOrdering} order, and the best move of every searched position is kept
+   * in the table.
+   */
+  private int search(SearchState state, int alpha, int beta) {
+    lastNodes++;
+    if (state.isGameOver()) {
+      return state.getScoreMargin();
+    }
+
+    long hash = state.getHash();
+    int index = (int) hash & ((1 << TABLE_BITS) - 1);
+    int hashMove = NO_MOVE;
+    if (tableKeys[index] == hash) {
+      int value = tableValues[index];
+      byte bound = tableBounds[index];
+      if (bound == EXACT || (bound == LOWER && value >= beta)
+              || (bound == UPPER && value <= alpha)) {
+        return value;
+      }
+      hashMove = tableMoves[index];
+    }
+
+    int originalAlpha = alpha;
+    int best = -Integer.MAX_VALUE;
+    int bestMove = NO_MOVE;
+
+    // Try the move that was best last time first; it often causes an immediate cutoff
+    if (hashMove != NO_MOVE && isLegal(state, hashMove)) {
+      best = -tryMove(state, hashMove, -beta, -alpha);
+      bestMove = hashMove;
+      alpha = Math.max(alpha, best);
+    }
+
+    if (alpha < beta) {
+      int ply = state.getPly() - rootPly;
+      int count = ordering.order(state, ply, hashMove);
+      for (int i = 0; i < count; i++) {
+        int move = ordering.getMove(ply, i);
+        if (move == hashMove) {
+          continue;
+        }
+        int value = -tryMove(state, move, -beta, -alpha);
+        if (value > best) {
+          best = value;
+          bestMove = move;
+          if (value > alpha) {
+            alpha = value;
+            if (alpha >= beta) {
+              // Cards left in hand stand in for the depth still to search
+              ordering.recordCutoff(state, ply, move,
+                      1 + state.getHandCount(Player.RED) + state.getHandCount(Player.BLUE));
+              break;
+            }
+          }
+        }
+      }
+      if (alpha < beta && hashMove != PASS) {
+        int value = -tryMove(state, PASS, -beta, -alpha);
+        if (value > best) {
+          best = value;
+          bestMove = PASS;
+        }
+      }
+    }
+
+    if (state.getPly() == rootPly) {
+      rootMove = bestMove;
+    }
+    tableKeys[index] = hash;
+    tableValues[index] = best;
+    tableMoves[index] = bestMove;
+    tableBounds[index] = best <= originalAlpha ? UPPER : best >= beta ? LOWER : EXACT;
+    return best;
+  }
+
+  private int tryMove(SearchState state, int move, int alpha, int beta) {
+    if (move == PASS) {
+      state.pass();
+    } else {
+      int cols = state.getColumns();
+      state.place(move & 63, (move >> 6) / cols, (move >> 6) % cols);
+    }
+    int value = search(state, alpha, beta);
+    state.undo();
+    return value;
+  }
+
+  private boolean isLegal(SearchState state, int move) {
+    if (move == PASS) {
+      return true;
+    }
+    int cols = state.getColumns();
+    return state.canPlace(move & 63, (move >> 6) / cols, (move >> 6) % cols);
+  }
+}
@@ -0,0 +1,371 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.BoardDelta;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.Arrays;
+
+/**
+ * A static evaluation of a position whose features are kept up to date as the game changes,
+ * so that scoring a position never rescans the board. An evaluator follows either a real
+ * game, by applying every {@link BoardDelta} the model reports, or a {@link SearchState}, by
+ * being attached with {@link SearchState#attachEvaluator()}.
+ *
+ * <p>The features, for each player, are:</p>
+ * <ul>
+ *   <li>the row-score margin of every row, and the total score margin under the real
+ *       row-winning rules;</li>
+ *   <li>pawn mass, the number of pawns the player has on the board;</li>
+ *   <li>contested cells, the player's pawn cells next to a cell of the opponent, which the
+ *       opponent can most easily take over;</li>
+ *   <li>playable value, the total value of the cards in hand that the player has a cell
+ *       with enough pawns to pay for.</li>
+ * </ul>
+ *
+ * <p>{@link #evaluate(Player)} weighs them into one score in constant time.</p>
+ */
+public final class Evaluator {
+  /** The weight of a point of total score margin; exact final scores use this scale. */
+  public static final int SCORE_WEIGHT = 8;
+  public static final int PAWN_WEIGHT = 1;
+  public static final int CONTESTED_WEIGHT = 1;
+  public static final int PLAYABLE_WEIGHT = 2;
+
+  private static final int PAWN = ReadonlyPawnsBoardModel.CellContent.PAWN.ordinal();
+  private static final int MAX_COST = 3;
+
+  private final int rows;
+  private final int cols;
+  private final byte[] content;
+  private final byte[] owner;
+  private final byte[] pawns;
+  private final int[][] rowScores;
+
+  private int redMargin;
+  private final int[] pawnMass;
+  private final int[] contested;
+  private final int[][] pawnCells;
+  private final int[][] handValueByCost;
+
+  // The hands in model order, only kept while following a real game
+  private final int[][] handCosts;
+  private final int[][] handValues;
+  private final int[] handSizes;
+
+  private Evaluator(int rows, int cols) {
+    this.rows = rows;
+    this.cols = cols;
+    this.content = new byte[rows * cols];
+    this.owner = new byte[rows * cols];
+    this.pawns = new byte[rows * cols];
+    this.rowScores = new int[2][rows];
+    this.pawnMass = new int[2];
+    this.contested = new int[2];
+    this.pawnCells = new int[2][MAX_COST + 1];
+    this.handValueByCost = new int[2][MAX_COST + 1];
+    this.handCosts = new int[2][8];
+    this.handValues = new int[2][8];
+    this.handSizes = new int[2];
+  }
+
+  /**
+   * Creates an evaluator of the current position of a game. Apply the delta of every later
+   * move with {@link #apply(BoardDelta)} to keep it current.
+   *
+   * @param model the game
+   * @return a new evaluator
+   * @throws IllegalStateException if the game has not started
+   */
+  public static Evaluator fromModel(ReadonlyPawnsBoardModel model) {
+    Evaluator evaluator = new Evaluator(model.getRows(), model.getColumns());
+    int[] rowContent = new int[model.getColumns()];
+    int[] rowOwner = new int[model.getColumns()];
+    int[] rowPawns = new int[model.getColumns()];
+    for (int row = 0; row < evaluator.rows; row++) {
+      model.readRow(row, rowContent, rowOwner, rowPawns);
+      for (int col = 0; col < evaluator.cols; col++) {
+        evaluator.setInitialCell(row * evaluator.cols + col, rowContent[col], rowOwner[col],
+                rowPawns[col]);
+      }
+    }
+    for (Player player : Player.values()) {
+      int p = player.ordinal();
+      for (int row = 0; row < evaluator.rows; row++) {
+        evaluator.rowScores[p][row] = model.getRowScore(player, row);
+      }
+      for (int i = 0; i < model.getHandSize(player); i++) {
+        evaluator.appendCard(p, model.getHandCardCost(player, i),
+                model.getHandCardValue(player, i));
+      }
+    }
+    evaluator.initTotals();
+    return evaluator;
+  }
+
+  /**
+   * Creates an evaluator of the current position of a search state. The evaluator does not
+   * follow later moves unless attached to the state.
+   *
+   * @param state the search state
+   * @return a new evaluator
+   */
+  static Evaluator fromState(SearchState state) {
+    Evaluator evaluator = new Evaluator(state.getRows(), state.getColumns());
+    for (int row = 0; row < evaluator.rows; row++) {
+      for (int col = 0; col < evaluator.cols; col++) {
+        evaluator.setInitialCell(row * evaluator.cols + col, state.getContent(row, col),
+                state.getOwner(row, col), state.getPawns(row, col));
+      }
+    }
+    for (Player player : Player.values()) {
+      int p = player.ordinal();
+      for (int row = 0; row < evaluator.rows; row++) {
+        evaluator.rowScores[p][row] = state.getRowScore(player, row);
+      }
+      for (long bits = state.getHandBits(player); bits != 0; bits &= bits - 1) {
+        int slot = Long.numberOfTrailingZeros(bits);
+        evaluator.handValueByCost[p][state.getCardCost(player, slot)]
+                += state.getCardValue(player, slot);
+      }
+    }
+    evaluator.initTotals();
+    return evaluator;
+  }
+
+  /**
+   * Updates the features with the changes of one move of the game this evaluator follows.
+   * Deltas must be applied in the order they were made, starting with the first move after
+   * the position the evaluator was created from.
+   *
+   * @param delta the changes of the move
+   * @throws IllegalArgumentException if the delta is null, or names a card or cell this
+   *                                  evaluator does not have
+   */
+  public void apply(BoardDelta delta) {
+    if (delta == null) {
+      throw new IllegalArgumentException("Delta cannot be null");
+    }
+    if (delta.isPass()) {
+      return;
+    }
+    int p = delta.getPlayer().ordinal();
+    int index = delta.getPlayedCardIndex();
+    if (index >= handSizes[p]) {
+      throw new IllegalArgumentException("Invalid card index: " + index);
+    }
+    int cost = handCosts[p][index];
+    int value = handValues[p][index];
+    handValueByCost[p][cost] -= value;
+    int tail = handSizes[p] - index - 1;
+    System.arraycopy(handCosts[p], index + 1, handCosts[p], index, tail);
+    System.arraycopy(handValues[p], index + 1, handValues[p], index, tail);
+    handSizes[p]--;
+    Card drawn = delta.getDrawnCard();
+    if (drawn != null) {
+      appendCard(p, drawn.getCost(), drawn.getValueScore());
+    }
+
+    for (int i = 0; i < delta.getChangedCellCount(); i++) {
+      int row = delta.getChangedRow(i);
+      int col = delta.getChangedCol(i);
+      if (row < 0 || row >= rows || col < 0 || col >= cols) {
+        throw new IllegalArgumentException("Invalid cell: (" + row + "," + col + ")");
+      }
+      Player cellOwner = delta.getChangedOwner(i);
+      cellChanged(row * cols + col, delta.getChangedContent(i).ordinal(),
+              cellOwner == null ? -1 : cellOwner.ordinal(), delta.getChangedPawnCount(i));
+    }
+    int row = delta.getRow();
+    rowScoreChanged(0, row, delta.getRowScore(Player.RED) - rowScores[0][row]);
+    rowScoreChanged(1, row, delta.getRowScore(Player.BLUE) - rowScores[1][row]);
+  }
+
+  /**
+   * Scores the position for a player: the weighted sum of the player's features minus the
+   * opponent's. Runs in constant time.
+   *
+   * @param player the player to score for
+   * @return the score, positive if the position favors the player
+   */
+  public int evaluate(Player player) {
+    int score = SCORE_WEIGHT * redMargin
+            + PAWN_WEIGHT * (pawnMass[0] - pawnMass[1])
+            - CONTESTED_WEIGHT * (contested[0] - contested[1])
+            + PLAYABLE_WEIGHT * (getPlayableValue(Player.RED) - getPlayableValue(Player.BLUE));
+    return player == Player.RED ? score : -score;
+  }
+
+  /**
+   * Gets a player's row score minus the opponent's in a row.
+   *
+   * @param player the player
+   * @param row the row
+   * @return the row-score margin
+   */
+  public int getRowMargin(Player player, int row) {
+    int margin = rowScores[0][row] - rowScores[1][row];
+    return player == Player.RED ? margin : -margin;
+  }
+
+  /**
+   * Gets a player's total score minus the opponent's, counting only the rows each wins.
+   *
+   * @param player the player
+   * @return the total score margin
+   */
+  public int getScoreMargin(Player player) {
+    return player == Player.RED ? redMargin : -redMargin;
+  }
+
+  /**
+   * Gets the number of pawns a player has on the board.
+   *
+   * @param player the player
+   * @return the pawn mass
+   */
+  public int getPawnMass(Player player) {
+    return pawnMass[player.ordinal()];
+  }
+
+  /**
+   * Gets the number of a player's pawn cells next to a cell of the opponent.
+   *
+   * @param player the player
+   * @return the number of contested cells
+   */
+  public int getContestedCells(Player player) {
+    return contested[player.ordinal()];
+  }
+
+  /**
+   * Gets the total value of the cards in a player's hand that cost no more pawns than the
+   * player's fullest pawn cell holds.
+   *
+   * @param player the player
+   * @return the playable value
+   */
+  public int getPlayableValue(Player player) {
+    int p = player.ordinal();
+    int maxPawns = MAX_COST;
+    while (maxPawns > 0 && pawnCells[p][maxPawns] == 0) {
+      maxPawns--;
+    }
+    int total = 0;
+    for (int cost = 1; cost <= maxPawns; cost++) {
+      total += handValueByCost[p][cost];
+    }
+    return total;
+  }
+
+  /**
+   * Updates the features for a cell taking a new state.
+   */
+  void cellChanged(int index, int newContent, int newOwner, int newPawns) {
+    int row = index / cols;
+    int col = index % cols;
+    adjustContested(row, col, -1);
+    removeCell(index);
+    content[index] = (byte) newContent;
+    owner[index] = (byte) newOwner;
+    pawns[index] = (byte) newPawns;
+    addCell(index);
+    adjustContested(row, col, 1);
+  }
+
+  /**
+   * Updates the features for a change to a player's score in a row.
+   */
+  void rowScoreChanged(int p, int row, int change) {
+    redMargin -= rowResult(rowScores[0][row], rowScores[1][row]);
+    rowScores[p][row] += change;
+    redMargin += rowResult(rowScores[0][row], rowScores[1][row]);
+  }
+
+  /**
+   * Updates the features for a card entering or leaving a player's hand.
+   */
+  void handChanged(int p, int cost, int valueChange) {
+    handValueByCost[p][cost] += valueChange;
+  }
+
+  private void setInitialCell(int index, int cellContent, int cellOwner, int cellPawns) {
+    content[index] = (byte) cellContent;
+    owner[index] = (byte) cellOwner;
+    pawns[index] = (byte) cellPawns;
+  }
+
+  private void initTotals() {
+    redMargin = 0;
+    for (int row = 0; row < rows; row++) {
+      redMargin += rowResult(rowScores[0][row], rowScores[1][row]);
+    }
+    for (int index = 0; index < content.length; index++) {
+      addCell(index);
+      if (isContested(index / cols, index % cols)) {
+        contested[owner[index]]++;
+      }
+    }
+  }
+
+  private void appendCard(int p, int cost, int value) {
+    if (handSizes[p] == handCosts[p].length) {
+      handCosts[p] = Arrays.copyOf(handCosts[p], handSizes[p] * 2);
+      handValues[p] = Arrays.copyOf(handValues[p], handSizes[p] * 2);
+    }
+    handCosts[p][handSizes[p]] = cost;
+    handValues[p][handSizes[p]] = value;
+    handSizes[p]++;
+    handValueByCost[p][cost] += value;
+  }
+
+  private void addCell(int index) {
+    if (content[index] == PAWN) {
+      pawnMass[owner[index]] += pawns[index];
+      pawnCells[owner[index]][pawns[index]]++;
+    }
+  }
+
+  private void removeCell(int index) {
+    if (content[index] == PAWN) {
+      pawnMass[owner[index]] -= pawns[index];
+      pawnCells[owner[index]][pawns[index]]--;
+    }
+  }
+
+  /**
+   * Adds or removes the contested cells among a cell and its four neighbors.
+   */
+  private void adjustContested(int row, int col, int sign) {
+    adjustContestedCell(row, col, sign);
+    adjustContestedCell(row - 1, col, sign);
+    adjustContestedCell(row + 1, col, sign);
+    adjustContestedCell(row, col - 1, sign);
+    adjustContestedCell(row, col + 1, sign);
+  }
+
+  private void adjustContestedCell(int row, int col, int sign) {
+    if (row >= 0 && row < rows && col >= 0 && col < cols && isContested(row, col)) {
+      contested[owner[row * cols + col]] += sign;
+    }
+  }
+
+  private boolean isContested(int row, int col) {
+    int index = row * cols + col;
+    if (content[index] != PAWN) {
+      return false;
+    }
+    int opponent = 1 - owner[index];
+    return ownedBy(row - 1, col, opponent) || ownedBy(row + 1, col, opponent)
+            || ownedBy(row, col - 1, opponent) || ownedBy(row, col + 1, opponent);
+  }
+
+  private boolean ownedBy(int row, int col, int p) {
+    return row >= 0 && row < rows && col >= 0 && col < cols && owner[row * cols + col] == p;
+  }
+
+  private static int rowResult(int red, int blue) {
+    return red > blue ? red : red < blue ? -blue : 0;
+  }
+}
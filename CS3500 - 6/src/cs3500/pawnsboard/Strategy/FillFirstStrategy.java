@@ -1,12 +1,8 @@
 package cs3500.pawnsboard.Strategy;
 
-import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
 
-import java.util.List;
-
 /**
  * A "Fill First" strategy for the Pawns Board game.
  * This strategy chooses the first valid move it finds.
@@ -19,20 +15,21 @@ public class FillFirstStrategy implements Strategy {
       throw new IllegalArgumentException("It is not " + player + "'s turn");
     }
 
-    List<Card> hand = model.getPlayerHand(player);
+    int handSize = model.getHandSize(player);
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    RowBuffer cells = RowBuffer.forColumns(cols);
 
     // Try each card in the hand
-    for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-      Card card = hand.get(cardIndex);
-      int cardCost = card.getCost();
+    for (int cardIndex = 0; cardIndex < handSize; cardIndex++) {
+      int cardCost = model.getHandCardCost(player, cardIndex);
 
       // Try each cell on the board
-      for (int row = 0; row < model.getRows(); row++) {
-        for (int col = 0; col < model.getColumns(); col++) {
+      for (int row = 0; row < rows; row++) {
+        cells.read(model, row);
+        for (int col = 0; col < cols; col++) {
           // Check if the cell contains pawns owned by the player
-          if (model.getCellContent(row, col) == CellContent.PAWN &&
-                  model.getCellOwner(row, col) == player &&
-                  model.getPawnCount(row, col) >= cardCost) {
+          if (cells.canPlace(col, player, cardCost)) {
 
             // Found a valid move
             return new Move(cardIndex, row, col);
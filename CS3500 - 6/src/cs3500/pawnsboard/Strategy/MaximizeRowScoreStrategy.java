@@ -1,12 +1,8 @@
 package cs3500.pawnsboard.Strategy;
 
-import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
 
-import java.util.List;
-
 /**
  * A "Maximize Row-Score" strategy for the Pawns Board game.
  * This strategy tries to win rows by making the player's row score higher
@@ -20,11 +16,20 @@ public class MaximizeRowScoreStrategy implements Strategy {
       throw new IllegalArgumentException("It is not " + player + "'s turn");
     }
 
-    List<Card> hand = model.getPlayerHand(player);
+    int handSize = model.getHandSize(player);
+
+    // With no cards in hand there is nothing to place
+    if (handSize == 0) {
+      return null;
+    }
+
     Player opponent = player.opponent();
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    RowBuffer cells = RowBuffer.forColumns(cols);
 
     // Try each row from top to bottom
-    for (int row = 0; row < model.getRows(); row++) {
+    for (int row = 0; row < rows; row++) {
       int playerRowScore = model.getRowScore(player, row);
       int opponentRowScore = model.getRowScore(opponent, row);
 
@@ -33,19 +38,17 @@ public class MaximizeRowScoreStrategy implements Strategy {
       if (playerRowScore <= opponentRowScore) {
         Move bestMove = null;
         int bestScoreImprovement = 0;
+        cells.read(model, row);
 
         // Try each card in the hand
-        for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-          Card card = hand.get(cardIndex);
-          int cardCost = card.getCost();
-          int cardValue = card.getValueScore();
+        for (int cardIndex = 0; cardIndex < handSize; cardIndex++) {
+          int cardCost = model.getHandCardCost(player, cardIndex);
+          int cardValue = model.getHandCardValue(player, cardIndex);
 
           // Try each column in the row
-          for (int col = 0; col < model.getColumns(); col++) {
+          for (int col = 0; col < cols; col++) {
             // Check if the cell contains pawns owned by the player
-            if (model.getCellContent(row, col) == CellContent.PAWN &&
-                    model.getCellOwner(row, col) == player &&
-                    model.getPawnCount(row, col) >= cardCost) {
+            if (cells.canPlace(col, player, cardCost)) {
 
               // Calculate the new row score if this card is played
               int newRowScore = playerRowScore + cardValue;
@@ -68,15 +71,13 @@ public class MaximizeRowScoreStrategy implements Strategy {
     }
 
     // No good move found in any row, try any legal move
-    for (int row = 0; row < model.getRows(); row++) {
-      for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-        Card card = hand.get(cardIndex);
-        int cardCost = card.getCost();
-
-        for (int col = 0; col < model.getColumns(); col++) {
-          if (model.getCellContent(row, col) == CellContent.PAWN &&
-                  model.getCellOwner(row, col) == player &&
-                  model.getPawnCount(row, col) >= cardCost) {
+    for (int row = 0; row < rows; row++) {
+      cells.read(model, row);
+      for (int cardIndex = 0; cardIndex < handSize; cardIndex++) {
+        int cardCost = model.getHandCardCost(player, cardIndex);
+
+        for (int col = 0; col < cols; col++) {
+          if (cells.canPlace(col, player, cardCost)) {
 
             return new Move(cardIndex, row, col);
           }
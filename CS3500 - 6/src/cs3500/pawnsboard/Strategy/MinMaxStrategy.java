@@ -1,12 +1,8 @@
 package cs3500.pawnsboard.Strategy;
 
-import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
 
-import java.util.List;
-
 /**
  * A "Minimax" strategy for the Pawns Board game.
  * This strategy selects a move that minimizes the best move an opponent can make.
@@ -19,20 +15,29 @@ public class MinMaxStrategy implements Strategy {
       throw new IllegalArgumentException("It is not " + player + "'s turn");
     }
 
-    List<Card> hand = model.getPlayerHand(player);
+    int handSize = model.getHandSize(player);
+
+    // With no cards in hand there is nothing to place
+    if (handSize == 0) {
+      return null;
+    }
+
     Player opponent = player.opponent();
     Move bestMove = null;
     int worstOpponentMove = Integer.MAX_VALUE;
-
-    for (int row = 0; row < model.getRows(); row++) {
-      for (int col = 0; col < model.getColumns(); col++) {
-        for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
-          Card card = hand.get(cardIndex);
-
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    RowBuffer cells = RowBuffer.forColumns(cols);
+
+    for (int row = 0; row < rows; row++) {
+      cells.read(model, row);
+      for (int col = 0; col < cols; col++) {
+        for (int cardIndex = 0; cardIndex < handSize; cardIndex++) {
           // Simulate checking if move is valid
-          if (isValidMove(model, player, card, row, col)) {
+          if (cells.canPlace(col, player, model.getHandCardCost(player, cardIndex))) {
             // Simulate the move and get new board state
-            int[][] simulatedScores = simulateMove(model, player, card, row, col);
+            int[][] simulatedScores = simulateMove(model, player,
+                    model.getHandCardValue(player, cardIndex), row);
 
             // Evaluate opponent's best move
             int opponentBestMove = evaluateOpponentBestMove(simulatedScores, opponent);
@@ -54,7 +59,8 @@ public class MinMaxStrategy implements Strategy {
    * Simulates placing a card on the board and returns an updated row score array.
    * This avoids modifying ReadonlyPawnsBoardModel.
    */
-  private int[][] simulateMove(ReadonlyPawnsBoardModel model, Player player, Card card, int row, int col) {
+  private int[][] simulateMove(ReadonlyPawnsBoardModel model, Player player, int cardValue,
+                               int row) {
     int[][] simulatedScores = new int[model.getRows()][2];
 
     // Copy existing row scores
@@ -64,7 +70,7 @@ public class MinMaxStrategy implements Strategy {
     }
 
     // Apply card effect (simulate its impact on row scores)
-    simulatedScores[row][player == Player.RED ? 0 : 1] += card.getValueScore();
+    simulatedScores[row][player == Player.RED ? 0 : 1] += cardValue;
 
     return simulatedScores;
   }
@@ -83,13 +89,4 @@ public class MinMaxStrategy implements Strategy {
     }
     return bestScore;
   }
-
-  /**
-   * Checks if a move is valid based on available pawns.
-   */
-  private boolean isValidMove(ReadonlyPawnsBoardModel model, Player player, Card card, int row, int col) {
-    return model.getCellContent(row, col) == CellContent.PAWN &&
-        model.getCellOwner(row, col) == player &&
-        model.getPawnCount(row, col) >= card.getCost();
-  }
 }
@@ -0,0 +1,249 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.metrics.Counter;
+import cs3500.pawnsboard.metrics.Metrics;
+import cs3500.pawnsboard.model.InfluenceFootprints;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.Arrays;
+
+/**
+ * Orders the placements of a {@link SearchState} so that alpha-beta search tries the most
+ * promising ones first. Moves are encoded as cell index * 64 + slot, where the cell index is
+ * row * columns + column; {@link #PASS} stands for passing, which is never generated.
+ *
+ * <p>A move is ranked, from first to last, by being the hash move the caller already knows
+ * to be good, by being one of the two killer moves that last caused a cutoff at the same
+ * ply, by its history score, the weight of the cutoffs it caused anywhere in the tree, and
+ * finally by cheap static features: the swing in the mover's row result and the number of
+ * opponent pawns it takes over. Equal moves keep their board order.</p>
+ *
+ * <p>History is keyed by player, slot and cell, so it only applies to states whose slots were
+ * numbered from the same hands; call {@link #clear()} before searching a new position.
+ * Instances keep one move list per ply and are not thread-safe.</p>
+ */
+public final class MoveOrdering {
+  public static final int PASS = -1;
+
+  private static final int HASH_SCORE = Integer.MAX_VALUE;
+  private static final int KILLER_SCORE = Integer.MAX_VALUE - 2;
+  private static final int HISTORY_LIMIT = 1 << 24;
+  private static final int SWING_WEIGHT = 4;
+  private static final int FLIP_WEIGHT = 2;
+  private static final Counter LEGAL_MOVES = Metrics.global().counter(Metrics.LEGAL_MOVES);
+
+  private final int cells;
+  private final int slots;
+  private final int[] history;
+  private int[][] killers;
+  private int[][] moves;
+  private int[][] scores;
+
+  /**
+   * Constructs an empty move ordering for states of the same board and hands.
+   *
+   * @param cells the number of cells of the board
+   * @param slots the most slots either player's hand has
+   * @throws IllegalArgumentException if cells is not positive or slots is not between 0 and 64
+   */
+  public MoveOrdering(int cells, int slots) {
+    if (cells <= 0 || slots < 0 || slots > 64) {
+      throw new IllegalArgumentException("Invalid board or hand size");
+    }
+    this.cells = cells;
+    this.slots = slots;
+    this.history = new int[2 * slots * cells];
+    this.killers = new int[16][2];
+    this.moves = new int[16][];
+    this.scores = new int[16][];
+    clearKillers();
+  }
+
+  /**
+   * Constructs an empty move ordering sized for a search state.
+   *
+   * @param state the state to be searched
+   */
+  public MoveOrdering(SearchState state) {
+    this(state.getRows() * state.getColumns(), Math.max(state.getSlotCount(Player.RED),
+            state.getSlotCount(Player.BLUE)));
+  }
+
+  /**
+   * Forgets all history and killer moves.
+   */
+  public void clear() {
+    Arrays.fill(history, 0);
+    clearKillers();
+  }
+
+  /**
+   * Generates the legal placements of the player to move, best first.
+   *
+   * @param state the position
+   * @param ply the distance from the root of the search, which selects the killer moves
+   *            and the move list to fill
+   * @param hashMove a move to try first if it is legal, or {@link #PASS} for none
+   * @return the number of moves, read with {@link #getMove(int, int)}
+   * @throws IllegalArgumentException if the ply is negative
+   */
+  public int order(SearchState state, int ply, int hashMove) {
+    if (ply < 0) {
+      throw new IllegalArgumentException("Ply cannot be negative");
+    }
+    ensurePly(ply);
+    int[] list = moves[ply];
+    int[] ranks = scores[ply];
+
+    Player player = state.getCurrentPlayer();
+    int p = player.ordinal();
+    int cols = state.getColumns();
+    long handBits = state.getHandBits(player);
+    int count = 0;
+    for (int cell = 0; cell < cells; cell++) {
+      int row = cell / cols;
+      int col = cell % cols;
+      if (state.getContent(row, col) != SearchState.PAWN || state.getOwner(row, col) != p) {
+        continue;
+      }
+      for (long bits = handBits; bits != 0; bits &= bits - 1) {
+        int slot = Long.numberOfTrailingZeros(bits);
+        if (!state.canPlace(slot, row, col)) {
+          continue;
+        }
+        int move = cell << 6 | slot;
+        int rank;
+        if (move == hashMove) {
+          rank = HASH_SCORE;
+        } else if (move == killers[ply][0]) {
+          rank = KILLER_SCORE;
+        } else if (move == killers[ply][1]) {
+          rank = KILLER_SCORE - 1;
+        } else {
+          rank = history[historyIndex(p, slot, cell)]
+                  + staticScore(state, player, slot, row, col);
+        }
+
+        // Insertion sort: lists are short and equal ranks keep their board order
+        int i = count++;
+        while (i > 0 && ranks[i - 1] < rank) {
+          list[i] = list[i - 1];
+          ranks[i] = ranks[i - 1];
+          i--;
+        }
+        list[i] = move;
+        ranks[i] = rank;
+      }
+    }
+    LEGAL_MOVES.add(count);
+    return count;
+  }
+
+  /**
+   * Gets a move generated by the last call to {@link #order} for a ply.
+   *
+   * @param ply the ply
+   * @param index the position of the move in the order
+   * @return the encoded move
+   */
+  public int getMove(int ply, int index) {
+    return moves[ply][index];
+  }
+
+  /**
+   * Records that a move caused a cutoff, making it a killer move at its ply and raising its
+   * history score by the square of the remaining depth.
+   *
+   * @param state the position the move was made in
+   * @param ply the distance from the root of the search
+   * @param move the encoded move, or {@link #PASS}, which is ignored
+   * @param depth the remaining search depth of the position, at least 1
+   */
+  public void recordCutoff(SearchState state, int ply, int move, int depth) {
+    if (move == PASS) {
+      return;
+    }
+    ensurePly(ply);
+    if (killers[ply][0] != move) {
+      killers[ply][1] = killers[ply][0];
+      killers[ply][0] = move;
+    }
+    int index = historyIndex(state.getCurrentPlayer().ordinal(), move & 63, move >> 6);
+    history[index] += depth * depth;
+    if (history[index] > HISTORY_LIMIT) {
+      // Halve everything so recent cutoffs keep counting and the scores never overflow
+      for (int i = 0; i < history.length; i++) {
+        history[i] >>= 1;
+      }
+    }
+  }
+
+  /**
+   * Gets the history score of a move.
+   *
+   * @param player the player making the move
+   * @param move the encoded move
+   * @return the history score
+   */
+  public int getHistory(Player player, int move) {
+    return history[historyIndex(player.ordinal(), move & 63, move >> 6)];
+  }
+
+  /**
+   * Scores a move by the change it makes to the mover's result in its row, counting the row
+   * score won or lost, and by the opponent's pawns it takes over.
+   */
+  private static int staticScore(SearchState state, Player player, int slot, int row,
+                                 int col) {
+    Player opponent = player == Player.RED ? Player.BLUE : Player.RED;
+    int mine = state.getRowScore(player, row);
+    int theirs = state.getRowScore(opponent, row);
+    int after = mine + state.getCardValue(player, slot);
+    int swing = rowResult(after, theirs) - rowResult(mine, theirs);
+
+    int flipped = 0;
+    int cols = state.getColumns();
+    InfluenceFootprints.Table footprint = state.getFootprint(player, slot);
+    int cell = row * cols + col;
+    for (int i = footprint.start(cell); i < footprint.end(cell); i++) {
+      int target = footprint.target(i);
+      if (state.getContent(target / cols, target % cols) == SearchState.PAWN
+              && state.getOwner(target / cols, target % cols) == opponent.ordinal()) {
+        flipped++;
+      }
+    }
+    return SWING_WEIGHT * swing + FLIP_WEIGHT * flipped;
+  }
+
+  private static int rowResult(int mine, int theirs) {
+    return mine > theirs ? mine : mine < theirs ? -theirs : 0;
+  }
+
+  private int historyIndex(int player, int slot, int cell) {
+    return (player * slots + slot) * cells + cell;
+  }
+
+  private void ensurePly(int ply) {
+    if (ply >= moves.length) {
+      int size = Math.max(ply + 1, moves.length * 2);
+      int old = killers.length;
+      killers = Arrays.copyOf(killers, size);
+      moves = Arrays.copyOf(moves, size);
+      scores = Arrays.copyOf(scores, size);
+      for (int i = old; i < size; i++) {
+        killers[i] = new int[] {PASS, PASS};
+      }
+    }
+    if (moves[ply] == null) {
+      moves[ply] = new int[cells * slots];
+      scores[ply] = new int[cells * slots];
+    }
+  }
+
+  private void clearKillers() {
+    for (int[] pair : killers) {
+      pair[0] = PASS;
+      pair[1] = PASS;
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A read-only table of known good moves, keyed by {@link PositionHash#of} of the position
+ * they answer. The book is stored in a compact binary file that is memory-mapped rather than
+ * read, so opening even a large book is instant and lookups only touch the pages they need.
+ *
+ * <p>The file is a header ({@code int} magic, {@code int} version, {@code int} entry count)
+ * followed by fixed-size entries sorted by key: {@code long} key, {@code int} influence mask,
+ * {@code byte} cost, {@code byte} value, {@code short} row, {@code short} column,
+ * {@code int} games and {@code float} average final margin. Lookups binary-search the
+ * entries. A move names its card by cost, value and influence mask rather than by hand
+ * index, since the same hand can be held in any order.</p>
+ */
+public final class OpeningBook {
+  private static final int MAGIC = 0x50424F42;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 12;
+  private static final int ENTRY_SIZE = 26;
+
+  private final ByteBuffer entries;
+  private final int count;
+
+  private OpeningBook(ByteBuffer entries, int count) {
+    this.entries = entries;
+    this.count = count;
+  }
+
+  /**
+   * Opens a book file by mapping it into memory.
+   *
+   * @param path the book file
+   * @return the book
+   * @throws IllegalArgumentException if the file cannot be read or is not a book
+   */
+  public static OpeningBook open(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+        throw new IllegalArgumentException("Not an opening book: " + path);
+      }
+      if (buffer.getInt(4) != VERSION) {
+        throw new IllegalArgumentException("Unsupported opening book version: "
+                + buffer.getInt(4));
+      }
+      int count = buffer.getInt(8);
+      if (count < 0 || (long) HEADER_SIZE + (long) count * ENTRY_SIZE > buffer.capacity()) {
+        throw new IllegalArgumentException("Truncated opening book: " + path);
+      }
+      return new OpeningBook(buffer, count);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read opening book: " + path, e);
+    }
+  }
+
+  /**
+   * Writes a book file. If several entries share a key, only the first is kept.
+   *
+   * @param path the file to write
+   * @param entries the entries of the book, in any order
+   * @throws IllegalArgumentException if the file cannot be written
+   */
+  public static void write(Path path, Collection<Entry> entries) {
+    List<Entry> sorted = new ArrayList<>(entries);
+    sorted.sort(Comparator.comparingLong(Entry::getKey));
+    List<Entry> unique = new ArrayList<>(sorted.size());
+    for (Entry entry : sorted) {
+      if (unique.isEmpty() || unique.get(unique.size() - 1).getKey() != entry.getKey()) {
+        unique.add(entry);
+      }
+    }
+
+    try (OutputStream file = Files.newOutputStream(path);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(unique.size());
+      for (Entry entry : unique) {
+        out.writeLong(entry.key);
+        out.writeInt(entry.mask);
+        out.writeByte(entry.cost);
+        out.writeByte(entry.value);
+        out.writeShort(entry.row);
+        out.writeShort(entry.col);
+        out.writeInt(entry.games);
+        out.writeFloat(entry.averageMargin);
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write opening book: " + path, e);
+    }
+  }
+
+  /**
+   * Gets the number of positions in the book.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Looks up the entry for a position hash.
+   *
+   * @param key the position hash
+   * @return the entry, or null if the book has no move for the position
+   */
+  public Entry lookup(long key) {
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int offset = HEADER_SIZE + mid * ENTRY_SIZE;
+      long midKey = entries.getLong(offset);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return new Entry(midKey, entries.get(offset + 12) & 0xFF,
+                entries.get(offset + 13) & 0xFF, entries.getInt(offset + 8),
+                entries.getShort(offset + 14) & 0xFFFF, entries.getShort(offset + 16) & 0xFFFF,
+                entries.getInt(offset + 18), entries.getFloat(offset + 22));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Looks up the book move for a player in the current position of a game.
+   *
+   * @param model the game
+   * @param player the player to move
+   * @return the book move, or null if the book has no playable move for the position
+   */
+  public Move lookup(ReadonlyPawnsBoardModel model, Player player) {
+    Entry entry = lookup(PositionHash.of(model, player));
+    if (entry == null) {
+      return null;
+    }
+    return PositionHash.resolve(model, player, entry.cost, entry.value, entry.mask, entry.row,
+            entry.col);
+  }
+
+  /**
+   * A book move: the card to play, where to play it, and how well it did in the games the
+   * book was built from.
+   */
+  public static final class Entry {
+    private final long key;
+    private final int cost;
+    private final int value;
+    private final int mask;
+    private final int row;
+    private final int col;
+    private final int games;
+    private final float averageMargin;
+
+    /**
+     * Constructs a new entry.
+     *
+     * @param key the position hash
+     * @param cost the cost of the card to play
+     * @param value the value score of the card to play
+     * @param mask the influence mask of the card to play
+     * @param row the row to play the card on
+     * @param col the column to play the card on
+     * @param games the number of games the move was played in
+     * @param averageMargin the average final score margin of the mover in those games
+     * @throws IllegalArgumentException if a field does not fit the book format
+     */
+    public Entry(long key, int cost, int value, int mask, int row, int col, int games,
+                 float averageMargin) {
+      if (cost < 0 || cost > 0xFF || value < 0 || value > 0xFF
+              || row < 0 || row > 0xFFFF || col < 0 || col > 0xFFFF) {
+        throw new IllegalArgumentException("Book entries hold values up to 255 and "
+                + "coordinates up to 65535");
+      }
+      this.key = key;
+      this.cost = cost;
+      this.value = value;
+      this.mask = mask;
+      this.row = row;
+      this.col = col;
+      this.games = games;
+      this.averageMargin = averageMargin;
+    }
+
+    /**
+     * Gets the position hash this entry answers.
+     *
+     * @return the position hash
+     */
+    public long getKey() {
+      return key;
+    }
+
+    /**
+     * Gets the cost of the card to play.
+     *
+     * @return the card cost
+     */
+    public int getCardCost() {
+      return cost;
+    }
+
+    /**
+     * Gets the value score of the card to play.
+     *
+     * @return the card value score
+     */
+    public int getCardValue() {
+      return value;
+    }
+
+    /**
+     * Gets the influence mask of the card to play.
+     *
+     * @return the card influence mask
+     */
+    public int getCardMask() {
+      return mask;
+    }
+
+    /**
+     * Gets the row to play the card on.
+     *
+     * @return the row
+     */
+    public int getRow() {
+      return row;
+    }
+
+    /**
+     * Gets the column to play the card on.
+     *
+     * @return the column
+     */
+    public int getCol() {
+      return col;
+    }
+
+    /**
+     * Gets the number of games the move was played in.
+     *
+     * @return the game count
+     */
+    public int getGames() {
+      return games;
+    }
+
+    /**
+     * Gets the average final score margin of the mover in the games the move was played in.
+     *
+     * @return the average margin
+     */
+    public float getAverageMargin() {
+      return averageMargin;
+    }
+  }
+}
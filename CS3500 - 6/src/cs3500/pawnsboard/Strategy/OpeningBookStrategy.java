@@ -0,0 +1,63 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+/**
+ * A strategy that plays the book move when the position is in an {@link OpeningBook}, and
+ * asks a fallback strategy otherwise.
+ */
+public class OpeningBookStrategy implements Strategy {
+  private final OpeningBook book;
+  private final Strategy fallback;
+  private long hits;
+  private long misses;
+
+  /**
+   * Constructs a new book strategy.
+   *
+   * @param book the book to consult
+   * @param fallback the strategy to use for positions not in the book
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public OpeningBookStrategy(OpeningBook book, Strategy fallback) {
+    if (book == null || fallback == null) {
+      throw new IllegalArgumentException("Book and fallback strategy cannot be null");
+    }
+    this.book = book;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
+    if (model.getCurrentPlayer() != player) {
+      throw new IllegalArgumentException("It is not " + player + "'s turn");
+    }
+
+    Move move = book.lookup(model, player);
+    if (move != null) {
+      hits++;
+      return move;
+    }
+    misses++;
+    return fallback.chooseMove(model, player);
+  }
+
+  /**
+   * Gets the number of moves taken from the book.
+   *
+   * @return the number of book hits
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of moves the fallback strategy chose.
+   *
+   * @return the number of book misses
+   */
+  public long getMisses() {
+    return misses;
+  }
+}
@@ -0,0 +1,185 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A minimax strategy that looks a fixed number of moves ahead and searches the candidate
+ * moves in parallel. The root moves are split across a {@link ForkJoinPool}; every task
+ * searches its own copy of a {@link SearchState} with alpha-beta pruning and its own
+ * {@link MoveOrdering}, and the tasks share the best score found so far, so a later task can
+ * skip lines that are already beaten.
+ *
+ * <p>Finished games are scored by the mover's final score margin, in
+ * {@link Evaluator#SCORE_WEIGHT} units, and positions at the depth limit by an
+ * {@link Evaluator} attached to the task's state, so no leaf rescans the board. Cards drawn
+ * during the game are unknown to the search, so none are drawn. The chosen move does not
+ * depend on the number of threads: a task only prunes lines that are strictly worse than the
+ * best score, so every move that ties the best is scored exactly, and ties go to the
+ * upper-left cell and then the lowest card index.</p>
+ */
+public class ParallelMinMaxStrategy implements Strategy {
+  public static final int DEFAULT_DEPTH = 2;
+
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+  private final int depth;
+  private final ForkJoinPool pool;
+  private final LongAdder nodes;
+
+  /**
+   * Constructs a strategy that looks two moves ahead using the common pool.
+   */
+  public ParallelMinMaxStrategy() {
+    this(DEFAULT_DEPTH);
+  }
+
+  /**
+   * Constructs a strategy that uses the common pool.
+   *
+   * @param depth the number of moves to look ahead, including the move chosen
+   * @throws IllegalArgumentException if the depth is not positive
+   */
+  public ParallelMinMaxStrategy(int depth) {
+    this(depth, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a new strategy.
+   *
+   * @param depth the number of moves to look ahead, including the move chosen
+   * @param pool the pool to search in
+   * @throws IllegalArgumentException if the depth is not positive or the pool is null
+   */
+  public ParallelMinMaxStrategy(int depth, ForkJoinPool pool) {
+    if (depth <= 0) {
+      throw new IllegalArgumentException("Depth must be positive");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    this.depth = depth;
+    this.pool = pool;
+    this.nodes = new LongAdder();
+  }
+
+  @Override
+  public Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
+    if (model.getCurrentPlayer() != player) {
+      throw new IllegalArgumentException("It is not " + player + "'s turn");
+    }
+
+    // With no cards in hand there is nothing to place
+    if (model.getHandSize(player) == 0) {
+      return null;
+    }
+
+    SearchState root = SearchState.fromModel(model);
+    List<Move> candidates = rootMoves(root, player);
+    if (candidates.isEmpty()) {
+      return null;
+    }
+
+    AtomicInteger bestScore = new AtomicInteger(-INFINITY);
+    List<ForkJoinTask<Integer>> tasks = new ArrayList<>(candidates.size());
+    for (Move candidate : candidates) {
+      tasks.add(ForkJoinTask.adapt(() -> scoreRootMove(root, candidate, bestScore)));
+    }
+    pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+
+    // Candidates are in tie-break order, so the first with the best score wins
+    int best = bestScore.get();
+    for (int i = 0; i < candidates.size(); i++) {
+      if (tasks.get(i).join() == best) {
+        return candidates.get(i);
+      }
+    }
+    throw new IllegalStateException("No candidate reached the best score");
+  }
+
+  /**
+   * Gets the number of positions searched since this strategy was created.
+   *
+   * @return the node count
+   */
+  public long getNodeCount() {
+    return nodes.sum();
+  }
+
+  /**
+   * Lists the legal placements of the player to move, by row, then column, then card index.
+   */
+  private static List<Move> rootMoves(SearchState state, Player player) {
+    List<Move> moves = new ArrayList<>();
+    int slots = state.getSlotCount(player);
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getColumns(); col++) {
+        for (int slot = 0; slot < slots; slot++) {
+          if (state.canPlace(slot, row, col)) {
+            moves.add(new Move(slot, row, col));
+          }
+        }
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * Scores one root move on a private copy of the root. The search window starts one below
+   * the shared best score, so a move that ties the best still gets its exact score, while
+   * a move that cannot reach it returns early with some score below it.
+   */
+  private int scoreRootMove(SearchState root, Move move, AtomicInteger bestScore) {
+    SearchState state = root.copy();
+    Evaluator evaluator = state.attachEvaluator();
+    state.place(move.getCardIndex(), move.getRow(), move.getCol());
+    int alpha = bestScore.get() - 1;
+    int score = -search(state, evaluator, new MoveOrdering(state), 1, depth - 1, -INFINITY,
+            -alpha);
+    bestScore.accumulateAndGet(score, Math::max);
+    return score;
+  }
+
+  /**
+   * Depth-limited negamax with alpha-beta pruning, scoring positions for the player to move.
+   * Placements are tried in {@link MoveOrdering} order after passing.
+   */
+  private int search(SearchState state, Evaluator evaluator, MoveOrdering ordering, int ply,
+                     int remaining, int alpha, int beta) {
+    nodes.increment();
+    if (state.isGameOver()) {
+      return Evaluator.SCORE_WEIGHT * state.getScoreMargin();
+    }
+    if (remaining == 0) {
+      return evaluator.evaluate(state.getCurrentPlayer());
+    }
+
+    state.pass();
+    int best = -search(state, evaluator, ordering, ply + 1, remaining - 1, -beta, -alpha);
+    state.undo();
+    alpha = Math.max(alpha, best);
+
+    int cols = state.getColumns();
+    int count = alpha < beta ? ordering.order(state, ply, MoveOrdering.PASS) : 0;
+    for (int i = 0; i < count; i++) {
+      int move = ordering.getMove(ply, i);
+      state.place(move & 63, (move >> 6) / cols, (move >> 6) % cols);
+      int score = -search(state, evaluator, ordering, ply + 1, remaining - 1, -beta, -alpha);
+      state.undo();
+      best = Math.max(best, score);
+      alpha = Math.max(alpha, score);
+      if (alpha >= beta) {
+        ordering.recordCutoff(state, ply, move, remaining);
+        break;
+      }
+    }
+    return best;
+  }
+}
@@ -0,0 +1,216 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A strategy that uses the opponent's thinking time. While the opponent, typically a human,
+ * is choosing a move, {@link #ponder(PawnsBoardModel)} guesses the opponent's most likely
+ * moves by asking a few predictor strategies what they would play, and computes the reply of
+ * the wrapped strategy to each guess on a background thread. When the opponent commits to a
+ * guessed move, {@link #chooseMove} returns the prepared reply at once.
+ *
+ * <p>Replies are keyed by {@link PositionHash#of(ReadonlyPawnsBoardModel, Player)}, what this
+ * strategy's player sees when it moves: the board and its own hand. The card the opponent
+ * draws after moving is random and so is left out of the key. A wrapped strategy that looks
+ * at the opponent's hand may therefore get a reply computed against a different hand.</p>
+ *
+ * <p>The wrapped strategy and the predictors are called from one thread at a time: on a miss,
+ * {@link #chooseMove} drops the remaining guesses and waits for the one being computed before
+ * computing its own reply. They therefore need not be thread safe.</p>
+ *
+ * <p>The background thread lives until {@link #close()} is called; a game session closes the
+ * strategies it owns when the game ends or the session is closed.</p>
+ */
+public class PonderingStrategy implements Strategy, AutoCloseable {
+  // Stands for a prepared pass, since the reply map cannot hold null
+  private static final Move PASS = new Move(-1, -1, -1);
+
+  private final Strategy inner;
+  private final List<Strategy> predictors;
+  private final ExecutorService executor;
+  private final Map<Long, Move> replies;
+
+  // Bumped by every decision, so guesses for an older position stop early
+  private volatile int generation;
+  private boolean closed;
+  private Future<?> pondering;
+  private long hits;
+  private long misses;
+
+  /**
+   * Constructs a pondering strategy that guesses the opponent's moves with the row score,
+   * board control and fill-first strategies.
+   *
+   * @param inner the strategy to compute replies with
+   * @throws IllegalArgumentException if the strategy is null
+   */
+  public PonderingStrategy(Strategy inner) {
+    this(inner, List.of(new MaximizeRowScoreStrategy(), new ControlBoardStrategy(),
+            new FillFirstStrategy()));
+  }
+
+  /**
+   * Constructs a pondering strategy.
+   *
+   * @param inner the strategy to compute replies with
+   * @param predictors the strategies whose moves are taken as the opponent's likely moves,
+   *                   most likely first
+   * @throws IllegalArgumentException if an argument is null or there are no predictors
+   */
+  public PonderingStrategy(Strategy inner, List<Strategy> predictors) {
+    if (inner == null || predictors == null || predictors.isEmpty()) {
+      throw new IllegalArgumentException("Strategy and predictors cannot be null or empty");
+    }
+    for (Strategy predictor : predictors) {
+      if (predictor == null) {
+        throw new IllegalArgumentException("Predictors cannot be null");
+      }
+    }
+    this.inner = inner;
+    this.predictors = new ArrayList<>(predictors);
+    this.replies = new ConcurrentHashMap<>();
+    this.executor = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "pondering");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Starts preparing replies to the likely moves of the player to move, replacing replies
+   * prepared for an earlier position. The model is copied before this returns, so the caller
+   * only has to keep it unchanged during the call. Does nothing once this strategy is
+   * closed.
+   *
+   * @param model the game, with the opponent of this strategy's player to move
+   * @throws IllegalArgumentException if the model is null
+   */
+  public synchronized void ponder(PawnsBoardModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    if (closed || model.isGameOver()) {
+      return;
+    }
+    ReadonlyPawnsBoardModel snapshot = model.copy();
+    if (!(snapshot instanceof PawnsBoardModel)) {
+      return;
+    }
+    int ponderGeneration = ++generation;
+    replies.clear();
+    pondering = executor.submit(() -> prepare((PawnsBoardModel) snapshot, ponderGeneration));
+  }
+
+  @Override
+  public synchronized Move chooseMove(ReadonlyPawnsBoardModel model, Player player) {
+    if (model.getCurrentPlayer() != player) {
+      throw new IllegalArgumentException("It is not " + player + "'s turn");
+    }
+
+    long key = PositionHash.of(model, player);
+    generation++;
+    Move reply = replies.get(key);
+    if (reply == null) {
+      awaitPondering();
+      reply = replies.get(key);
+    }
+    replies.clear();
+    if (reply != null) {
+      hits++;
+      return reply == PASS ? null : reply;
+    }
+    misses++;
+    return inner.chooseMove(model, player);
+  }
+
+  /**
+   * Gets the number of decisions answered with a prepared reply.
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of decisions the wrapped strategy had to compute on the spot.
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Stops the background thread, dropping any replies being prepared. Later decisions are
+   * computed on the spot. Closing twice has no further effect.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    generation++;
+    replies.clear();
+    pondering = null;
+    executor.shutdownNow();
+  }
+
+  /**
+   * Waits until the replies being prepared, if any, are done.
+   */
+  synchronized void awaitPondering() {
+    if (pondering == null) {
+      return;
+    }
+    try {
+      pondering.get();
+    } catch (ExecutionException e) {
+      // A failed guess only costs its reply
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    pondering = null;
+  }
+
+  private void prepare(PawnsBoardModel position, int ponderGeneration) {
+    Player opponent = position.getCurrentPlayer();
+    Player player = opponent.opponent();
+
+    List<Move> guesses = new ArrayList<>();
+    for (Strategy predictor : predictors) {
+      Move guess = predictor.chooseMove(position, opponent);
+      if (guess != null && !guesses.contains(guess)) {
+        guesses.add(guess);
+      }
+    }
+
+    for (Move guess : guesses) {
+      if (generation != ponderGeneration) {
+        return;
+      }
+      PawnsBoardModel branch = (PawnsBoardModel) position.copy();
+      branch.placeCard(guess.getCardIndex(), guess.getRow(), guess.getCol());
+      if (branch.isGameOver() || branch.getCurrentPlayer() != player) {
+        continue;
+      }
+      long key = PositionHash.of(branch, player);
+      Move reply = inner.chooseMove(branch, player);
+      if (generation == ponderGeneration) {
+        replies.put(key, reply == null ? PASS : reply);
+      }
+    }
+  }
+}
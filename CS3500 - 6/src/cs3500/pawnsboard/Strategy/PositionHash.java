@@ -0,0 +1,187 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+/**
+ * Stable 64-bit hashes of game positions. The hashes only depend on what the position looks
+ * like (board size, cells, the cards placed and held, whose turn it is), never on object
+ * identity, so they are the same across runs and can be stored on disk. Only
+ * {@link #fullOrdered(ReadonlyPawnsBoardModel)} depends on the order of cards in a hand.
+ */
+public final class PositionHash {
+  private static final long BOARD_SALT = 0x6A09E667F3BCC909L;
+  private static final long CELL_SALT = 0xBB67AE8584CAA73BL;
+  private static final long HAND_SALT = 0x3C6EF372FE94F82BL;
+  private static final long OPPONENT_HAND_SALT = 0xA54FF53A5F1D36F1L;
+  private static final long BLUE_TO_MOVE = 0x510E527FADE682D1L;
+  private static final long RED_PASSED = 0x9B05688C2B3E6C1FL;
+  private static final long BLUE_PASSED = 0x1F83D9ABFB41BD6BL;
+
+  private PositionHash() {
+  }
+
+  /**
+   * Hashes what a player can see when it is their turn: the board size, every cell, the
+   * player to move and that player's hand.
+   *
+   * @param model the game
+   * @param player the player whose hand to include
+   * @return the position hash
+   */
+  public static long of(ReadonlyPawnsBoardModel model, Player player) {
+    long hash = boardHash(model);
+    hash += handHash(model, player, HAND_SALT);
+    return player == Player.BLUE ? hash ^ BLUE_TO_MOVE : hash;
+  }
+
+  /**
+   * Hashes the whole position: everything {@link #of(ReadonlyPawnsBoardModel, Player)}
+   * covers for the player to move, plus the opponent's hand and both pass flags.
+   *
+   * @param model the game
+   * @return the position hash
+   */
+  public static long full(ReadonlyPawnsBoardModel model) {
+    Player player = model.getCurrentPlayer();
+    long hash = of(model, player);
+    hash += handHash(model, player.opponent(), OPPONENT_HAND_SALT);
+    if (model.hasPlayerPassed(Player.RED)) {
+      hash ^= RED_PASSED;
+    }
+    if (model.hasPlayerPassed(Player.BLUE)) {
+      hash ^= BLUE_PASSED;
+    }
+    return hash;
+  }
+
+  /**
+   * Hashes the whole position like {@link #full(ReadonlyPawnsBoardModel)}, but with both
+   * hands in index order. Strategies break ties by hand index, so the same cards held in a
+   * different order can lead to a different move; a move remembered by card index is only
+   * valid for a position with this hash.
+   *
+   * @param model the game
+   * @return the position hash
+   */
+  public static long fullOrdered(ReadonlyPawnsBoardModel model) {
+    Player player = model.getCurrentPlayer();
+    long hash = boardHash(model);
+    hash += orderedHandHash(model, player, HAND_SALT);
+    hash += orderedHandHash(model, player.opponent(), OPPONENT_HAND_SALT);
+    if (player == Player.BLUE) {
+      hash ^= BLUE_TO_MOVE;
+    }
+    if (model.hasPlayerPassed(Player.RED)) {
+      hash ^= RED_PASSED;
+    }
+    if (model.hasPlayerPassed(Player.BLUE)) {
+      hash ^= BLUE_PASSED;
+    }
+    return hash;
+  }
+
+  /**
+   * Hashes the properties of a card that matter for play.
+   *
+   * @param cost the cost of the card
+   * @param value the value score of the card
+   * @param mask the influence mask of the card
+   * @return the card hash
+   */
+  public static long card(int cost, int value, int mask) {
+    return mix(((long) mask << 16 | cost << 8 | value) + HAND_SALT);
+  }
+
+  /**
+   * Turns a move stored against a position hash back into a move in the current hand. Since
+   * {@link #of} and {@link #full} ignore hand order, moves stored against them name their card
+   * by cost, value and influence mask rather than by index.
+   *
+   * @param model the game
+   * @param player the player to move
+   * @param cost the cost of the card to play
+   * @param value the value score of the card to play
+   * @param mask the influence mask of the card to play
+   * @param row the row to play at
+   * @param col the column to play at
+   * @return the move, or null if no card in the hand matches or the move is not legal
+   */
+  static Move resolve(ReadonlyPawnsBoardModel model, Player player, int cost, int value,
+                      int mask, int row, int col) {
+    int handSize = model.getHandSize(player);
+    for (int i = 0; i < handSize; i++) {
+      if (model.getHandCardCost(player, i) == cost
+              && model.getHandCardValue(player, i) == value
+              && model.getHandCardMask(player, i) == mask) {
+        // A hash collision could name a move that is not legal here
+        return model.isLegalMove(i, row, col) ? new Move(i, row, col) : null;
+      }
+    }
+    return null;
+  }
+
+  private static long boardHash(ReadonlyPawnsBoardModel model) {
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    long hash = mix(BOARD_SALT + ((long) rows << 32 | cols));
+
+    RowBuffer cells = RowBuffer.forColumns(cols);
+    for (int row = 0; row < rows; row++) {
+      cells.read(model, row);
+      for (int col = 0; col < cols; col++) {
+        int content = cells.content[col];
+        if (content == CellContent.EMPTY.ordinal()) {
+          continue;
+        }
+        long state = content << 4 | (cells.owner[col] + 1) << 2 | cells.pawns[col];
+        if (content == CellContent.CARD.ordinal()) {
+          Card card = model.getCard(row, col);
+          if (card != null) {
+            state ^= card(card.getCost(), card.getValueScore(), card.getInfluenceMask()) << 8;
+          }
+        }
+        hash ^= mix(CELL_SALT + ((long) (row * cols + col) << 40) + state);
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Hashes a hand as the sum of its card hashes, so the order of the cards does not matter
+   * and duplicate cards do not cancel out.
+   */
+  private static long handHash(ReadonlyPawnsBoardModel model, Player player, long salt) {
+    long hash = salt;
+    int handSize = model.getHandSize(player);
+    for (int i = 0; i < handSize; i++) {
+      hash += card(model.getHandCardCost(player, i), model.getHandCardValue(player, i),
+              model.getHandCardMask(player, i));
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Hashes a hand card by card in index order, so the same cards in another order hash
+   * differently.
+   */
+  private static long orderedHandHash(ReadonlyPawnsBoardModel model, Player player,
+                                      long salt) {
+    long hash = salt;
+    int handSize = model.getHandSize(player);
+    for (int i = 0; i < handSize; i++) {
+      hash = mix(hash * 31 + card(model.getHandCardCost(player, i),
+              model.getHandCardValue(player, i), model.getHandCardMask(player, i)));
+    }
+    return hash;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,81 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+/**
+ * Reusable arrays for reading the board one row at a time with
+ * {@link ReadonlyPawnsBoardModel#readRow(int, int[], int[], int[])}.
+ * Each thread gets its own buffer, so strategies stay stateless and safe to share between
+ * games running on different threads.
+ */
+final class RowBuffer {
+  private static final ThreadLocal<RowBuffer> BUFFERS = ThreadLocal.withInitial(RowBuffer::new);
+  private static final int PAWN = CellContent.PAWN.ordinal();
+
+  int[] content = new int[0];
+  int[] owner = new int[0];
+  int[] pawns = new int[0];
+  int[] boardOwners = new int[0];
+
+  private RowBuffer() {
+  }
+
+  /**
+   * Gets the current thread's buffer, grown to hold at least the given number of columns.
+   *
+   * @param cols the number of columns to hold
+   * @return the buffer
+   */
+  static RowBuffer forColumns(int cols) {
+    RowBuffer buffer = BUFFERS.get();
+    if (buffer.content.length < cols) {
+      buffer.content = new int[cols];
+      buffer.owner = new int[cols];
+      buffer.pawns = new int[cols];
+    }
+    return buffer;
+  }
+
+  /**
+   * Reads a row of the model into this buffer.
+   *
+   * @param model the model to read
+   * @param row the row to read
+   */
+  void read(ReadonlyPawnsBoardModel model, int row) {
+    model.readRow(row, content, owner, pawns);
+  }
+
+  /**
+   * Reads the owner of every cell into {@link #boardOwners}, row-major, using the row arrays
+   * as scratch space. The row arrays hold the last row afterwards.
+   *
+   * @param model the model to read
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   */
+  void readOwners(ReadonlyPawnsBoardModel model, int rows, int cols) {
+    if (boardOwners.length < rows * cols) {
+      boardOwners = new int[rows * cols];
+    }
+    for (int row = 0; row < rows; row++) {
+      read(model, row);
+      System.arraycopy(owner, 0, boardOwners, row * cols, cols);
+    }
+  }
+
+  /**
+   * Checks if the player could place a card of the given cost on a column of the last row
+   * read, that is whether the cell holds enough of the player's pawns.
+   *
+   * @param col the column of the cell
+   * @param player the player placing the card
+   * @param cost the cost of the card
+   * @return true if the card can be placed there
+   */
+  boolean canPlace(int col, Player player, int cost) {
+    return content[col] == PAWN && owner[col] == player.ordinal() && pawns[col] >= cost;
+  }
+}
@@ -0,0 +1,648 @@
+package cs3500.pawnsboard.Strategy;
+
+import cs3500.pawnsboard.model.InfluenceFootprints;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A compact, mutable copy of a game for searching ahead. Moves are made with
+ * {@link #place(int, int, int)} and {@link #pass()} and taken back with {@link #undo()},
+ * so a search never copies the board. Placement, influence, row scores, passing and the
+ * end of the game follow the same rules as the real model; no cards are drawn, so a
+ * search state is exact once both decks are empty.
+ *
+ * <p>Cards are identified by their slot, the index they had in the player's hand when the
+ * state was created. Slots do not shift when a card is played, unlike hand indices in the
+ * model. At most 64 cards per hand are supported.</p>
+ */
+public final class SearchState {
+  /** The content codes, matching the {@link CellContent} ordinals. */
+  public static final int EMPTY = CellContent.EMPTY.ordinal();
+  public static final int PAWN = CellContent.PAWN.ordinal();
+  public static final int CARD = CellContent.CARD.ordinal();
+
+  private static final Player[] PLAYERS = Player.values();
+  private static final int MAX_SLOTS = 64;
+  private static final int KEY_CACHE_SLOTS = 16;
+
+  // Direct-mapped by board size, like the InfluenceFootprints cache. Keys only depend on the
+  // board size, so a table rebuilt after being replaced holds the same keys as before.
+  private static final ZobristKeys[] keyCache = new ZobristKeys[KEY_CACHE_SLOTS];
+
+  private final int rows;
+  private final int cols;
+  private final byte[] content;
+  private final byte[] owner;
+  private final byte[] pawns;
+  private final int[][] rowScores;
+
+  private final int[][] cost;
+  private final int[][] value;
+  private final int[][] mask;
+  private final InfluenceFootprints.Table[][] footprints;
+  private final long[] hand;
+
+  private int current;
+  private int passedFlags;
+
+  // Zobrist keys, shared between copies
+  private final long[] cellKeys;
+  private final long[] handKeys;
+  private final long[] flagKeys;
+  private long hash;
+
+  // Undo stacks: one entry per ply, and the previous state of every cell changed
+  private int ply;
+  private int[] plySlot;
+  private int[] plyRow;
+  private int[] plyFlags;
+  private int[] plyChangeStart;
+  private long[] plyHash;
+  private int[] changes;
+  private int changeTop;
+
+  // Follows every change when attached; not copied
+  private Evaluator evaluator;
+
+  private SearchState(int rows, int cols) {
+    this.rows = rows;
+    this.cols = cols;
+    this.content = new byte[rows * cols];
+    this.owner = new byte[rows * cols];
+    this.pawns = new byte[rows * cols];
+    this.rowScores = new int[2][rows];
+    this.cost = new int[2][];
+    this.value = new int[2][];
+    this.mask = new int[2][];
+    this.footprints = new InfluenceFootprints.Table[2][];
+    this.hand = new long[2];
+
+    ZobristKeys keys = ZobristKeys.get(rows, cols);
+    this.cellKeys = keys.cellKeys;
+    this.handKeys = keys.handKeys;
+    this.flagKeys = keys.flagKeys;
+
+    this.plySlot = new int[16];
+    this.plyRow = new int[16];
+    this.plyFlags = new int[16];
+    this.plyChangeStart = new int[16];
+    this.plyHash = new long[16];
+    this.changes = new int[64];
+  }
+
+  private SearchState(SearchState other) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.content = other.content.clone();
+    this.owner = other.owner.clone();
+    this.pawns = other.pawns.clone();
+    this.rowScores = new int[][] {other.rowScores[0].clone(), other.rowScores[1].clone()};
+    this.cost = other.cost;
+    this.value = other.value;
+    this.mask = other.mask;
+    this.footprints = other.footprints;
+    this.hand = other.hand.clone();
+    this.current = other.current;
+    this.passedFlags = other.passedFlags;
+    this.cellKeys = other.cellKeys;
+    this.handKeys = other.handKeys;
+    this.flagKeys = other.flagKeys;
+    this.hash = other.hash;
+
+    this.plySlot = new int[16];
+    this.plyRow = new int[16];
+    this.plyFlags = new int[16];
+    this.plyChangeStart = new int[16];
+    this.plyHash = new long[16];
+    this.changes = new int[64];
+  }
+
+  /**
+   * Creates a search state from the current state of a model.
+   *
+   * @param model the model to copy
+   * @return a new search state
+   * @throws IllegalArgumentException if a hand holds more than 64 cards
+   */
+  public static SearchState fromModel(ReadonlyPawnsBoardModel model) {
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    SearchState state = new SearchState(rows, cols);
+
+    int[] contentRow = new int[cols];
+    int[] ownerRow = new int[cols];
+    int[] pawnsRow = new int[cols];
+    for (int row = 0; row < rows; row++) {
+      model.readRow(row, contentRow, ownerRow, pawnsRow);
+      for (int col = 0; col < cols; col++) {
+        int index = row * cols + col;
+        state.content[index] = (byte) contentRow[col];
+        state.owner[index] = (byte) ownerRow[col];
+        state.pawns[index] = (byte) pawnsRow[col];
+        state.hash ^= state.cellKey(index);
+      }
+      state.rowScores[0][row] = model.getRowScore(Player.RED, row);
+      state.rowScores[1][row] = model.getRowScore(Player.BLUE, row);
+    }
+
+    for (Player player : Player.values()) {
+      int p = player.ordinal();
+      int handSize = model.getHandSize(player);
+      if (handSize > MAX_SLOTS) {
+        throw new IllegalArgumentException("Hands larger than " + MAX_SLOTS
+                + " cards cannot be searched");
+      }
+      state.cost[p] = new int[handSize];
+      state.value[p] = new int[handSize];
+      state.mask[p] = new int[handSize];
+      state.footprints[p] = new InfluenceFootprints.Table[handSize];
+      for (int slot = 0; slot < handSize; slot++) {
+        state.cost[p][slot] = model.getHandCardCost(player, slot);
+        state.value[p][slot] = model.getHandCardValue(player, slot);
+        state.mask[p][slot] = model.getHandCardMask(player, slot);
+        state.footprints[p][slot] = InfluenceFootprints.get(rows, cols, state.mask[p][slot],
+                player);
+        if (state.footprints[p][slot] == null) {
+          state.footprints[p][slot] = InfluenceFootprints.build(rows, cols,
+                  state.mask[p][slot], player);
+        }
+        state.hand[p] |= 1L << slot;
+        state.hash ^= state.handKeys[p * MAX_SLOTS + slot];
+      }
+    }
+
+    state.current = model.getCurrentPlayer().ordinal();
+    state.passedFlags = (model.hasPlayerPassed(Player.RED) ? 1 : 0)
+            | (model.hasPlayerPassed(Player.BLUE) ? 2 : 0);
+    return state;
+  }
+
+  /**
+   * Creates an independent copy of this state. The copy starts with no moves to undo.
+   *
+   * @return a new search state
+   */
+  public SearchState copy() {
+    return new SearchState(this);
+  }
+
+  /**
+   * Gets the number of rows of the board.
+   *
+   * @return the number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the board.
+   *
+   * @return the number of columns
+   */
+  public int getColumns() {
+    return cols;
+  }
+
+  /**
+   * Gets the player to move.
+   *
+   * @return the current player
+   */
+  public Player getCurrentPlayer() {
+    return PLAYERS[current];
+  }
+
+  /**
+   * Gets the content code of a cell, one of {@link #EMPTY}, {@link #PAWN} or {@link #CARD}.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the content code
+   */
+  public int getContent(int row, int col) {
+    return content[row * cols + col];
+  }
+
+  /**
+   * Gets the owner of a cell as a {@link Player} ordinal.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the owner ordinal, or -1 if the cell has no owner
+   */
+  public int getOwner(int row, int col) {
+    return owner[row * cols + col];
+  }
+
+  /**
+   * Gets the number of pawns on a cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the pawn count, or 0 if the cell does not contain pawns
+   */
+  public int getPawns(int row, int col) {
+    return pawns[row * cols + col];
+  }
+
+  /**
+   * Gets the number of slots of a player's hand, including slots already played.
+   *
+   * @param player the player
+   * @return the number of slots
+   */
+  public int getSlotCount(Player player) {
+    return cost[player.ordinal()].length;
+  }
+
+  /**
+   * Gets the slots of a player's hand that still hold a card, one bit per slot.
+   *
+   * @param player the player
+   * @return the bit set of slots in hand
+   */
+  public long getHandBits(Player player) {
+    return hand[player.ordinal()];
+  }
+
+  /**
+   * Gets the number of cards still in a player's hand.
+   *
+   * @param player the player
+   * @return the number of cards in hand
+   */
+  public int getHandCount(Player player) {
+    return Long.bitCount(hand[player.ordinal()]);
+  }
+
+  /**
+   * Gets the cost of the card in a slot.
+   *
+   * @param player the player holding the card
+   * @param slot the slot of the card
+   * @return the cost of the card
+   */
+  public int getCardCost(Player player, int slot) {
+    return cost[player.ordinal()][slot];
+  }
+
+  /**
+   * Gets the value score of the card in a slot.
+   *
+   * @param player the player holding the card
+   * @param slot the slot of the card
+   * @return the value score of the card
+   */
+  public int getCardValue(Player player, int slot) {
+    return value[player.ordinal()][slot];
+  }
+
+  /**
+   * Gets the influence mask of the card in a slot, as described by
+   * {@link cs3500.pawnsboard.model.Card#getInfluenceMask()}.
+   *
+   * @param player the player holding the card
+   * @param slot the slot of the card
+   * @return the influence mask of the card
+   */
+  public int getCardMask(Player player, int slot) {
+    return mask[player.ordinal()][slot];
+  }
+
+  /**
+   * Gets the influence footprint of the card in a slot: the cells it influences from every
+   * cell of this board, mirrored and clipped for the player holding it.
+   *
+   * @param player the player holding the card
+   * @param slot the slot of the card
+   * @return the footprint table of the card
+   */
+  public InfluenceFootprints.Table getFootprint(Player player, int slot) {
+    return footprints[player.ordinal()][slot];
+  }
+
+  /**
+   * Counts the cells that hold pawns of either player.
+   *
+   * @return the number of pawn cells
+   */
+  public int countPawnCells() {
+    int count = 0;
+    for (byte c : content) {
+      if (c == PAWN) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Checks if the current player may place the card in a slot on a cell.
+   *
+   * @param slot the slot of the card
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the card is in hand and the cell holds enough of the player's pawns
+   */
+  public boolean canPlace(int slot, int row, int col) {
+    int index = row * cols + col;
+    return (hand[current] & (1L << slot)) != 0
+            && content[index] == PAWN && owner[index] == current
+            && pawns[index] >= cost[current][slot];
+  }
+
+  /**
+   * Places the card in a slot for the current player and applies its influence.
+   *
+   * @param slot the slot of the card
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @throws IllegalArgumentException if the move is not legal
+   */
+  public void place(int slot, int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols || slot < 0
+            || slot >= cost[current].length || !canPlace(slot, row, col)) {
+      throw new IllegalArgumentException("Illegal move: slot " + slot + " at (" + row + ","
+              + col + ")");
+    }
+    pushPly(slot, row);
+    int p = current;
+
+    int index = row * cols + col;
+    setCell(index, CARD, p, 0);
+    rowScores[p][row] += value[p][slot];
+    hand[p] &= ~(1L << slot);
+    if (evaluator != null) {
+      evaluator.rowScoreChanged(p, row, value[p][slot]);
+      evaluator.handChanged(p, cost[p][slot], -value[p][slot]);
+    }
+    hash ^= handKeys[p * MAX_SLOTS + slot];
+    // The cell key only says a card is there; the row scores also depend on which one
+    hash ^= mix(handKeys[p * MAX_SLOTS + slot] + index * 0x9E3779B97F4A7C15L);
+
+    InfluenceFootprints.Table footprint = footprints[p][slot];
+    for (int i = footprint.start(index); i < footprint.end(index); i++) {
+      influence(footprint.target(i), p);
+    }
+
+    passedFlags &= ~(1 << p);
+    current = 1 - p;
+  }
+
+  /**
+   * Passes the turn of the current player.
+   */
+  public void pass() {
+    pushPly(-1, -1);
+    passedFlags |= 1 << current;
+    current = 1 - current;
+  }
+
+  /**
+   * Takes back the most recent move or pass.
+   *
+   * @throws IllegalStateException if there is nothing to undo
+   */
+  public void undo() {
+    if (ply == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+    ply--;
+    for (int i = changeTop - 1; i >= plyChangeStart[ply]; i--) {
+      int change = changes[i];
+      int index = change >>> 8;
+      if (evaluator != null) {
+        evaluator.cellChanged(index, (change >> 4) & 0xF, ((change >> 2) & 0x3) - 1,
+                change & 0x3);
+      }
+      content[index] = (byte) ((change >> 4) & 0xF);
+      owner[index] = (byte) (((change >> 2) & 0x3) - 1);
+      pawns[index] = (byte) (change & 0x3);
+    }
+    changeTop = plyChangeStart[ply];
+
+    int flags = plyFlags[ply];
+    current = flags >> 2;
+    passedFlags = flags & 3;
+    int slot = plySlot[ply];
+    if (slot >= 0) {
+      hand[current] |= 1L << slot;
+      rowScores[current][plyRow[ply]] -= value[current][slot];
+      if (evaluator != null) {
+        evaluator.rowScoreChanged(current, plyRow[ply], -value[current][slot]);
+        evaluator.handChanged(current, cost[current][slot], value[current][slot]);
+      }
+    }
+    hash = plyHash[ply];
+  }
+
+  /**
+   * Gets the number of moves made since this state was created or copied.
+   *
+   * @return the number of moves that can be undone
+   */
+  public int getPly() {
+    return ply;
+  }
+
+  /**
+   * Checks if the game is over, that is whether both players passed their last turn.
+   *
+   * @return true if the game is over
+   */
+  public boolean isGameOver() {
+    return passedFlags == 3;
+  }
+
+  /**
+   * Checks if a player passed their last turn.
+   *
+   * @param player the player
+   * @return true if the player passed their last turn
+   */
+  public boolean hasPassed(Player player) {
+    return (passedFlags & (1 << player.ordinal())) != 0;
+  }
+
+  /**
+   * Gets a player's row score, the sum of the values of their cards in the row.
+   *
+   * @param player the player
+   * @param row the row
+   * @return the row score
+   */
+  public int getRowScore(Player player, int row) {
+    return rowScores[player.ordinal()][row];
+  }
+
+  /**
+   * Gets a player's total score: the sum of their row scores over the rows they win.
+   *
+   * @param player the player
+   * @return the total score
+   */
+  public int getTotalScore(Player player) {
+    int[] mine = rowScores[player.ordinal()];
+    int[] theirs = rowScores[1 - player.ordinal()];
+    int total = 0;
+    for (int row = 0; row < rows; row++) {
+      if (mine[row] > theirs[row]) {
+        total += mine[row];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Gets the current player's total score minus the opponent's.
+   *
+   * @return the score margin of the player to move
+   */
+  public int getScoreMargin() {
+    int total = 0;
+    for (int row = 0; row < rows; row++) {
+      int mine = rowScores[current][row];
+      int theirs = rowScores[1 - current][row];
+      if (mine > theirs) {
+        total += mine;
+      } else if (theirs > mine) {
+        total -= theirs;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Gets a 64-bit hash of the whole position: board, cards in hand, pass flags and the
+   * player to move. Equal positions of states created from the same model have equal hashes.
+   *
+   * @return the position hash
+   */
+  public long getHash() {
+    return hash ^ flagKeys[passedFlags | current << 2];
+  }
+
+  /**
+   * Creates an {@link Evaluator} of the current position and keeps it up to date with every
+   * later move and undo of this state, replacing any evaluator attached before. Copies of this
+   * state do not share it.
+   *
+   * @return the attached evaluator
+   */
+  public Evaluator attachEvaluator() {
+    evaluator = Evaluator.fromState(this);
+    return evaluator;
+  }
+
+  private void influence(int index, int p) {
+    int c = content[index];
+    if (c == EMPTY) {
+      setCell(index, PAWN, p, 1);
+    } else if (c == PAWN) {
+      if (owner[index] == p) {
+        if (pawns[index] < 3) {
+          setCell(index, PAWN, p, pawns[index] + 1);
+        }
+      } else {
+        setCell(index, PAWN, p, pawns[index]);
+      }
+    }
+  }
+
+  private void setCell(int index, int newContent, int newOwner, int newPawns) {
+    if (changeTop == changes.length) {
+      changes = Arrays.copyOf(changes, changeTop * 2);
+    }
+    changes[changeTop++] = index << 8 | content[index] << 4 | (owner[index] + 1) << 2
+            | pawns[index];
+    if (evaluator != null) {
+      evaluator.cellChanged(index, newContent, newOwner, newPawns);
+    }
+    hash ^= cellKey(index);
+    content[index] = (byte) newContent;
+    owner[index] = (byte) newOwner;
+    pawns[index] = (byte) newPawns;
+    hash ^= cellKey(index);
+  }
+
+  private void pushPly(int slot, int row) {
+    if (ply == plySlot.length) {
+      int size = ply * 2;
+      plySlot = Arrays.copyOf(plySlot, size);
+      plyRow = Arrays.copyOf(plyRow, size);
+      plyFlags = Arrays.copyOf(plyFlags, size);
+      plyChangeStart = Arrays.copyOf(plyChangeStart, size);
+      plyHash = Arrays.copyOf(plyHash, size);
+    }
+    plySlot[ply] = slot;
+    plyRow[ply] = row;
+    plyFlags[ply] = current << 2 | passedFlags;
+    plyChangeStart[ply] = changeTop;
+    plyHash[ply] = hash;
+    ply++;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private long cellKey(int index) {
+    int c = content[index];
+    int state;
+    if (c == EMPTY) {
+      state = 0;
+    } else if (c == PAWN) {
+      state = 1 + owner[index] * 3 + pawns[index] - 1;
+    } else {
+      state = 7 + owner[index];
+    }
+    return cellKeys[index * 9 + state];
+  }
+
+  /**
+   * The Zobrist keys of one board size. Tables only have final fields, so a table read by
+   * another thread is always fully built.
+   */
+  private static final class ZobristKeys {
+    private final int rows;
+    private final int cols;
+    private final long[] cellKeys;
+    private final long[] handKeys;
+    private final long[] flagKeys;
+
+    private ZobristKeys(int rows, int cols) {
+      this.rows = rows;
+      this.cols = cols;
+      SplittableRandom keys = new SplittableRandom(31L * rows + cols);
+      this.cellKeys = keys.longs(rows * cols * 9L).toArray();
+      this.handKeys = keys.longs(2 * MAX_SLOTS).toArray();
+      long[] flags = keys.longs(8).toArray();
+      flags[0] = 0;
+      this.flagKeys = flags;
+    }
+
+    /**
+     * Gets the keys of a board size, from the cache unless the board has more than
+     * {@link InfluenceFootprints#MAX_CACHED_CELLS} cells.
+     */
+    private static ZobristKeys get(int rows, int cols) {
+      if ((long) rows * cols > InfluenceFootprints.MAX_CACHED_CELLS) {
+        return new ZobristKeys(rows, cols);
+      }
+      int slot = (rows * 31 + cols) & (KEY_CACHE_SLOTS - 1);
+      ZobristKeys keys = keyCache[slot];
+      if (keys == null || keys.rows != rows || keys.cols != cols) {
+        keys = new ZobristKeys(rows, cols);
+        keyCache[slot] = keys;
+      }
+      return keys;
+    }
+  }
+}
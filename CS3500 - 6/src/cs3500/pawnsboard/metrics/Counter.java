@@ -0,0 +1,51 @@
+package cs3500.pawnsboard.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that many threads can add to without contending on a lock. Obtain counters from a
+ * {@link Metrics} registry.
+ */
+public final class Counter {
+  private final String name;
+  private final LongAdder count;
+
+  Counter(String name) {
+    this.name = name;
+    this.count = new LongAdder();
+  }
+
+  /**
+   * Gets the name this counter is registered under.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Adds one to the count.
+   */
+  public void increment() {
+    count.increment();
+  }
+
+  /**
+   * Adds to the count.
+   *
+   * @param amount the amount to add
+   */
+  public void add(long amount) {
+    count.add(amount);
+  }
+
+  /**
+   * Gets the current count. Additions made while this runs may or may not be included.
+   *
+   * @return the count
+   */
+  public long get() {
+    return count.sum();
+  }
+}
@@ -0,0 +1,143 @@
+package cs3500.pawnsboard.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of non-negative values, such as latencies in nanoseconds, that many threads
+ * can record into without locking. Obtain histograms from a {@link Metrics} registry.
+ *
+ * <p>Buckets are log-linear, as in HDR histograms: values below 16 have a bucket each, and
+ * every power of two above that is split into 16 equal buckets. A percentile is therefore
+ * reported within about 6% of the true value whatever its magnitude, and the whole range of
+ * {@code long} fits in 960 buckets.</p>
+ *
+ * <p>Each bucket is its own {@link LongAdder}, so threads recording similar values, which
+ * land in the same few buckets, do not contend on one counter. Reads sum the buckets while
+ * recording may go on, so they reflect the values recorded around the time of the call.</p>
+ */
+public final class Histogram {
+  private static final int SUB_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+  private final String name;
+  private final LongAdder[] counts;
+  private final LongAdder sum;
+  private final LongAccumulator max;
+
+  Histogram(String name) {
+    this.name = name;
+    this.counts = new LongAdder[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = new LongAdder();
+    }
+    this.sum = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Gets the name this histogram is registered under.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Records a value. Negative values are recorded as 0.
+   *
+   * @param value the value
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts[bucketOf(value)].increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Gets the number of values recorded.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    long total = 0;
+    for (LongAdder bucket : counts) {
+      total += bucket.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Gets the mean of the values recorded.
+   *
+   * @return the mean, or 0 if nothing was recorded
+   */
+  public double getMean() {
+    long n = getCount();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Gets the largest value recorded.
+   *
+   * @return the maximum, or 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets an upper bound on a percentile of the values recorded, accurate to the width of
+   * the bucket the percentile falls in.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the highest value of the percentile's bucket, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is outside [0, 100]
+   */
+  public long getPercentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts[i].sum();
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+    return lowest + (1L << (exponent - SUB_BITS)) - 1;
+  }
+}
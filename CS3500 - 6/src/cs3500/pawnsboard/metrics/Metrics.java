@@ -0,0 +1,161 @@
+package cs3500.pawnsboard.metrics;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A registry of named {@link Counter}s and {@link Histogram}s. Instruments are created on
+ * first use and live as long as the registry; recording into them never locks, so the
+ * instrumentation of the model and strategies stays on in production.
+ *
+ * <p>The game records into the {@link #global()} registry:</p>
+ * <ul>
+ *   <li>{@value #PLACE_CARD}: nanoseconds per card placement;</li>
+ *   <li>{@value #INFLUENCE_CELLS}: cells on the board each placed card's influence reaches;</li>
+ *   <li>{@value #DECK_DRAWS}: cards drawn from the decks;</li>
+ *   <li>{@value #LEGAL_MOVES}: legal placements generated by {@code MoveOrdering} for the
+ *       alpha-beta searches;</li>
+ *   <li>{@value #CHOOSE_MOVE} followed by a strategy's simple class name: nanoseconds per
+ *       computer move chosen by that strategy.</li>
+ * </ul>
+ */
+public final class Metrics {
+  public static final String PLACE_CARD = "model.placeCard.nanos";
+  public static final String INFLUENCE_CELLS = "model.influence.cells";
+  public static final String DECK_DRAWS = "model.deck.draws";
+  public static final String LEGAL_MOVES = "strategy.legalMoves";
+  public static final String CHOOSE_MOVE = "strategy.chooseMove.nanos.";
+
+  private static final Metrics GLOBAL = new Metrics();
+
+  private final ConcurrentMap<String, Counter> counters;
+  private final ConcurrentMap<String, Histogram> histograms;
+  private final ClassValue<Histogram> chooseMove;
+
+  /**
+   * Constructs a new, empty registry.
+   */
+  public Metrics() {
+    this.counters = new ConcurrentHashMap<>();
+    this.histograms = new ConcurrentHashMap<>();
+    this.chooseMove = new ClassValue<>() {
+      @Override
+      protected Histogram computeValue(Class<?> type) {
+        return histogram(CHOOSE_MOVE + type.getSimpleName());
+      }
+    };
+  }
+
+  /**
+   * Gets the registry the game's own instrumentation records into.
+   *
+   * @return the global registry
+   */
+  public static Metrics global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Gets the counter with a name, creating it if needed.
+   *
+   * @param name the name
+   * @return the counter
+   * @throws IllegalArgumentException if the name is null
+   */
+  public Counter counter(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    Counter counter = counters.get(name);
+    return counter != null ? counter : counters.computeIfAbsent(name, Counter::new);
+  }
+
+  /**
+   * Gets the histogram with a name, creating it if needed.
+   *
+   * @param name the name
+   * @return the histogram
+   * @throws IllegalArgumentException if the name is null
+   */
+  public Histogram histogram(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    Histogram histogram = histograms.get(name);
+    return histogram != null ? histogram : histograms.computeIfAbsent(name, Histogram::new);
+  }
+
+  /**
+   * Gets the histogram of move-choice latency for a strategy class. The lookup is cached per
+   * class, so it neither locks nor allocates once the histogram exists.
+   *
+   * @param strategy the strategy's class
+   * @return the histogram named {@value #CHOOSE_MOVE} followed by the class's simple name
+   * @throws IllegalArgumentException if the class is null
+   */
+  public Histogram chooseMoveLatency(Class<?> strategy) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy class cannot be null");
+    }
+    return chooseMove.get(strategy);
+  }
+
+  /**
+   * Formats every instrument as one line of text, sorted by name. Counters print their
+   * count; histograms print their count, mean, 50th, 90th and 99th percentiles and maximum.
+   *
+   * @return the dump
+   */
+  public String dump() {
+    Map<String, String> lines = new TreeMap<>();
+    for (Counter counter : counters.values()) {
+      lines.put(counter.getName(), counter.getName() + " count=" + counter.get());
+    }
+    for (Histogram histogram : histograms.values()) {
+      lines.put(histogram.getName(), String.format(
+              "%s count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d", histogram.getName(),
+              histogram.getCount(), histogram.getMean(), histogram.getPercentile(50),
+              histogram.getPercentile(90), histogram.getPercentile(99), histogram.getMax()));
+    }
+    StringBuilder out = new StringBuilder();
+    for (String line : lines.values()) {
+      out.append(line).append(System.lineSeparator());
+    }
+    return out.toString();
+  }
+
+  /**
+   * Prints {@link #dump()} periodically on a daemon thread until the returned future is
+   * cancelled.
+   *
+   * @param out where to print
+   * @param period the time between dumps
+   * @param unit the unit of the period
+   * @return the scheduled dump, which shuts its thread down when cancelled
+   * @throws IllegalArgumentException if the stream or unit is null or the period is not
+   *                                  positive
+   */
+  public ScheduledFuture<?> dumpEvery(PrintStream out, long period, TimeUnit unit) {
+    if (out == null || unit == null || period <= 0) {
+      throw new IllegalArgumentException("Need a stream and a positive period");
+    }
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, "metrics-dump");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // Keep dumping after shutdown, and let the thread exit as soon as the dump is cancelled
+    executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+    executor.setRemoveOnCancelPolicy(true);
+    ScheduledFuture<?> dump = executor.scheduleAtFixedRate(() -> out.print(dump()), period,
+            period, unit);
+    executor.shutdown();
+    return dump;
+  }
+}
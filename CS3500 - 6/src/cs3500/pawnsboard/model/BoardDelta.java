@@ -0,0 +1,330 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The changes made to the game by a single move. A delta lists only the cells whose content,
+ * owner or pawn count changed (at most the placed cell plus its 5x5 influence footprint),
+ * the change to the moving player's hand, and the scores after the move. Clients can apply
+ * deltas to their own copy of the board instead of re-reading every cell. This class is
+ * immutable.
+ */
+public final class BoardDelta {
+  private final Player player;
+  private final int playedCardIndex;
+  private final int row;
+  private final int col;
+  private final int[] changedRows;
+  private final int[] changedCols;
+  private final byte[] changedContents;
+  private final byte[] changedOwners;
+  private final byte[] changedPawns;
+  private final Card drawnCard;
+  private final int redRowScore;
+  private final int blueRowScore;
+  private final int redTotalScore;
+  private final int blueTotalScore;
+
+  /**
+   * Constructs a new delta. The cell arrays are copied up to the given count.
+   *
+   * @param player the player who moved
+   * @param playedCardIndex the hand index of the card played, or -1 if the player passed
+   * @param row the row the card was placed on, or -1 if the player passed
+   * @param col the column the card was placed on, or -1 if the player passed
+   * @param count the number of changed cells
+   * @param changedRows the rows of the changed cells
+   * @param changedCols the columns of the changed cells
+   * @param changedContents the new content ordinals of the changed cells
+   * @param changedOwners the new owner ordinals of the changed cells, or -1 for no owner
+   * @param changedPawns the new pawn counts of the changed cells
+   * @param drawnCard the card drawn into the player's hand, or null if none was drawn
+   * @param redRowScore RED's score in the row of the placement after the move
+   * @param blueRowScore BLUE's score in the row of the placement after the move
+   * @param redTotalScore RED's total score after the move
+   * @param blueTotalScore BLUE's total score after the move
+   */
+  BoardDelta(Player player, int playedCardIndex, int row, int col, int count,
+             int[] changedRows, int[] changedCols, byte[] changedContents,
+             byte[] changedOwners, byte[] changedPawns, Card drawnCard,
+             int redRowScore, int blueRowScore, int redTotalScore, int blueTotalScore) {
+    this.player = player;
+    this.playedCardIndex = playedCardIndex;
+    this.row = row;
+    this.col = col;
+    this.changedRows = Arrays.copyOf(changedRows, count);
+    this.changedCols = Arrays.copyOf(changedCols, count);
+    this.changedContents = Arrays.copyOf(changedContents, count);
+    this.changedOwners = Arrays.copyOf(changedOwners, count);
+    this.changedPawns = Arrays.copyOf(changedPawns, count);
+    this.drawnCard = drawnCard;
+    this.redRowScore = redRowScore;
+    this.blueRowScore = blueRowScore;
+    this.redTotalScore = redTotalScore;
+    this.blueTotalScore = blueTotalScore;
+  }
+
+  /**
+   * Creates the delta of a pass, which changes no cells, hands or scores.
+   *
+   * @param player the player who passed
+   * @param redTotalScore RED's total score
+   * @param blueTotalScore BLUE's total score
+   * @return the delta of the pass
+   */
+  static BoardDelta pass(Player player, int redTotalScore, int blueTotalScore) {
+    return new BoardDelta(player, -1, -1, -1, 0, new int[0], new int[0], new byte[0],
+            new byte[0], new byte[0], null, 0, 0, redTotalScore, blueTotalScore);
+  }
+
+  /**
+   * Gets the player who made the move.
+   *
+   * @return the moving player
+   */
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Checks whether the move was a pass.
+   *
+   * @return true if the player passed, false if a card was placed
+   */
+  public boolean isPass() {
+    return playedCardIndex < 0;
+  }
+
+  /**
+   * Gets the hand index of the card played. The card was removed from the player's hand.
+   *
+   * @return the card index, or -1 if the player passed
+   */
+  public int getPlayedCardIndex() {
+    return playedCardIndex;
+  }
+
+  /**
+   * Gets the row the card was placed on.
+   *
+   * @return the row, or -1 if the player passed
+   */
+  public int getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the column the card was placed on.
+   *
+   * @return the column, or -1 if the player passed
+   */
+  public int getCol() {
+    return col;
+  }
+
+  /**
+   * Gets the number of cells changed by the move.
+   *
+   * @return the number of changed cells
+   */
+  public int getChangedCellCount() {
+    return changedRows.length;
+  }
+
+  /**
+   * Gets the row of a changed cell.
+   *
+   * @param i the index of the changed cell
+   * @return the row of the cell
+   */
+  public int getChangedRow(int i) {
+    return changedRows[i];
+  }
+
+  /**
+   * Gets the column of a changed cell.
+   *
+   * @param i the index of the changed cell
+   * @return the column of the cell
+   */
+  public int getChangedCol(int i) {
+    return changedCols[i];
+  }
+
+  /**
+   * Gets the new content of a changed cell.
+   *
+   * @param i the index of the changed cell
+   * @return the content of the cell after the move
+   */
+  public CellContent getChangedContent(int i) {
+    return CellContent.values()[changedContents[i]];
+  }
+
+  /**
+   * Gets the new owner of a changed cell.
+   *
+   * @param i the index of the changed cell
+   * @return the owner of the cell after the move, or null if it has no owner
+   */
+  public Player getChangedOwner(int i) {
+    return changedOwners[i] < 0 ? null : Player.values()[changedOwners[i]];
+  }
+
+  /**
+   * Gets the new pawn count of a changed cell.
+   *
+   * @param i the index of the changed cell
+   * @return the pawn count of the cell after the move
+   */
+  public int getChangedPawnCount(int i) {
+    return changedPawns[i];
+  }
+
+  /**
+   * Gets the card drawn into the moving player's hand after the placement.
+   * The drawn card is appended to the end of the hand.
+   *
+   * @return the drawn card, or null if no card was drawn
+   */
+  public Card getDrawnCard() {
+    return drawnCard;
+  }
+
+  /**
+   * Gets a player's score in the row of the placement after the move.
+   * No other row score changes on a move.
+   *
+   * @param player the player
+   * @return the row score of the player, or 0 if the move was a pass
+   */
+  public int getRowScore(Player player) {
+    return player == Player.RED ? redRowScore : blueRowScore;
+  }
+
+  /**
+   * Gets a player's total score after the move.
+   *
+   * @param player the player
+   * @return the total score of the player
+   */
+  public int getTotalScore(Player player) {
+    return player == Player.RED ? redTotalScore : blueTotalScore;
+  }
+
+  /**
+   * Writes this delta in a compact binary form: 7 bytes per changed cell plus a small header.
+   * Rows and columns are written as shorts and the card index as a byte. Nothing is written
+   * if they do not fit.
+   *
+   * @param out the output to write to
+   * @throws IllegalStateException if a row or column is above {@link Short#MAX_VALUE} or the
+   *     card index is above {@link Byte#MAX_VALUE}
+   * @throws IOException if the output fails
+   */
+  public void writeTo(DataOutput out) throws IOException {
+    if (playedCardIndex > Byte.MAX_VALUE) {
+      throw new IllegalStateException("Card index too large to write: " + playedCardIndex);
+    }
+    checkShort(row, col);
+    for (int i = 0; i < changedRows.length; i++) {
+      checkShort(changedRows[i], changedCols[i]);
+    }
+
+    out.writeByte(player.ordinal());
+    out.writeByte(playedCardIndex);
+    out.writeShort(row);
+    out.writeShort(col);
+    out.writeShort(changedRows.length);
+    for (int i = 0; i < changedRows.length; i++) {
+      out.writeShort(changedRows[i]);
+      out.writeShort(changedCols[i]);
+      out.writeByte(changedContents[i]);
+      out.writeByte(changedOwners[i]);
+      out.writeByte(changedPawns[i]);
+    }
+    out.writeInt(redRowScore);
+    out.writeInt(blueRowScore);
+    out.writeInt(redTotalScore);
+    out.writeInt(blueTotalScore);
+
+    out.writeBoolean(drawnCard != null);
+    if (drawnCard != null) {
+      out.writeUTF(drawnCard.getName());
+      out.writeByte(drawnCard.getCost());
+      out.writeByte(drawnCard.getValueScore());
+      for (String gridRow : drawnCard.getInfluenceGrid()) {
+        out.writeBytes(gridRow);
+      }
+    }
+  }
+
+  private static void checkShort(int row, int col) {
+    if (row > Short.MAX_VALUE || col > Short.MAX_VALUE) {
+      throw new IllegalStateException("Cell too far from the origin to write: (" + row + ", "
+              + col + ")");
+    }
+  }
+
+  /**
+   * Reads a delta written by {@link #writeTo(DataOutput)}.
+   *
+   * @param in the input to read from
+   * @return the delta read
+   * @throws IOException if the input fails
+   */
+  public static BoardDelta readFrom(DataInput in) throws IOException {
+    Player player = Player.values()[in.readByte()];
+    int playedCardIndex = in.readByte();
+    int row = in.readShort();
+    int col = in.readShort();
+    int count = in.readShort();
+    int[] rows = new int[count];
+    int[] cols = new int[count];
+    byte[] contents = new byte[count];
+    byte[] owners = new byte[count];
+    byte[] pawns = new byte[count];
+    for (int i = 0; i < count; i++) {
+      rows[i] = in.readShort();
+      cols[i] = in.readShort();
+      contents[i] = in.readByte();
+      owners[i] = in.readByte();
+      pawns[i] = in.readByte();
+    }
+    int redRowScore = in.readInt();
+    int blueRowScore = in.readInt();
+    int redTotalScore = in.readInt();
+    int blueTotalScore = in.readInt();
+
+    Card drawnCard = null;
+    if (in.readBoolean()) {
+      String name = in.readUTF();
+      int cost = in.readByte();
+      int value = in.readByte();
+      String[] grid = new String[5];
+      byte[] gridRow = new byte[5];
+      for (int i = 0; i < 5; i++) {
+        in.readFully(gridRow);
+        grid[i] = new String(gridRow, StandardCharsets.US_ASCII);
+      }
+      drawnCard = new CardImp(name, cost, value, grid);
+    }
+
+    return new BoardDelta(player, playedCardIndex, row, col, count, rows, cols, contents,
+            owners, pawns, drawnCard, redRowScore, blueRowScore, redTotalScore, blueTotalScore);
+  }
+
+  @Override
+  public String toString() {
+    return "BoardDelta{player=" + player + ", card=" + playedCardIndex + ", row=" + row
+            + ", col=" + col + ", changedCells=" + changedRows.length
+            + ", drawn=" + (drawnCard != null) + "}";
+  }
+}
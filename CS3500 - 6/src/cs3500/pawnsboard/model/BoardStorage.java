@@ -0,0 +1,34 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Storage for the cells of a board. Implementations may leave cells that were never touched
+ * unallocated, in which case {@link #get(int, int)} returns null for them and callers treat
+ * them as empty. Coordinates are not validated; callers must pass in-bounds coordinates.
+ */
+interface BoardStorage {
+
+  /**
+   * Gets the cell at a position.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the cell, or null if the cell is empty and has no storage
+   */
+  Cell get(int row, int col);
+
+  /**
+   * Gets the cell at a position, allocating an empty cell if it has no storage yet.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the cell
+   */
+  Cell getOrCreate(int row, int col);
+
+  /**
+   * Creates a deep copy of this storage.
+   *
+   * @return a new storage with copies of every allocated cell
+   */
+  BoardStorage copy();
+}
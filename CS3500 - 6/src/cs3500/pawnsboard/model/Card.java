@@ -35,6 +35,13 @@ public interface Card {
    */
   boolean hasInfluenceAt(int relRow, int relCol);
 
+  /**
+   * Get the influence grid packed into 25 bits. Bit (relRow + 2) * 5 + (relCol + 2) is set
+   * exactly when {@link #hasInfluenceAt(int, int)} is true for that position.
+   * @return the influence mask of the card
+   */
+  int getInfluenceMask();
+
   /**
    * Get a string representation of the influence grid.
    * @return a 5x5 character grid representing the influence
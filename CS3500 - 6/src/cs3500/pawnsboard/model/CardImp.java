@@ -13,6 +13,7 @@ public class CardImp implements Card {
   private final int cost;
   private final int valueScore;
   private final String[] influenceGrid;
+  private final int influenceMask;
 
   /**
    * Constructs a new card with the given properties.
@@ -40,6 +41,25 @@ public class CardImp implements Card {
     this.valueScore = valueScore;
     // Create a defensive copy of the influence grid
     this.influenceGrid = Arrays.copyOf(influenceGrid, influenceGrid.length);
+    this.influenceMask = computeInfluenceMask(influenceGrid);
+  }
+
+  /**
+   * Packs the influencing positions of a validated grid into 25 bits.
+   *
+   * @param grid the influence grid
+   * @return the influence mask
+   */
+  private static int computeInfluenceMask(String[] grid) {
+    int mask = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        if (grid[i].charAt(j) == 'I') {
+          mask |= 1 << (i * 5 + j);
+        }
+      }
+    }
+    return mask;
   }
 
 
@@ -120,6 +140,11 @@ public class CardImp implements Card {
     return influenceGrid[absRow].charAt(absCol) == 'I';
   }
 
+  @Override
+  public int getInfluenceMask() {
+    return influenceMask;
+  }
+
   @Override
   public String[] getInfluenceGrid() {
     return Arrays.copyOf(influenceGrid, influenceGrid.length);
@@ -127,7 +152,7 @@ public class CardImp implements Card {
 
   @Override
   public Card copy() {
-    return null;
+    return new CardImp(name, cost, valueScore, influenceGrid);
   }
 
 
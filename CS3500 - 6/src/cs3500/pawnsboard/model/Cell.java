@@ -0,0 +1,38 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+/**
+ * Cell class to represent a single cell on the board.
+ * A cell can contain pawns, a card, or nothing.
+ */
+class Cell {
+  CellContent content;
+  Player owner;
+  int pawnCount;
+  Card card;
+
+  /**
+   * Constructs a new empty cell.
+   */
+  Cell() {
+    this.content = CellContent.EMPTY;
+    this.owner = null;
+    this.pawnCount = 0;
+    this.card = null;
+  }
+
+  /**
+   * Creates a copy of this cell.
+   * @return a new cell with the same properties
+   */
+  Cell copy() {
+    Cell copy = new Cell();
+    copy.content = this.content;
+    copy.owner = this.owner;
+    copy.pawnCount = this.pawnCount;
+    copy.card = this.card != null ? this.card.copy() : null;
+    return copy;
+  }
+}
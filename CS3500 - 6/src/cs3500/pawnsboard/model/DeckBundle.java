@@ -0,0 +1,244 @@
+package cs3500.pawnsboard.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A set of named decks precompiled into one binary file, so a launch loads every deck with a
+ * single read instead of parsing deck configuration files.
+ *
+ * <p>The file is a header ({@code int} magic, {@code int} version, {@code int} card count,
+ * {@code int} deck count), a card table and the decks. Every distinct card is stored once in
+ * the card table, with its id being its position in the table: {@code byte} cost,
+ * {@code byte} value, {@code int} influence mask, then the name as a {@code short} length and
+ * UTF-8 bytes. Each deck is its name, stored the same way, an {@code int} card count and the
+ * {@code short} id of each card in order. Influence grids are rebuilt from the masks, since
+ * every grid has its center at (2,2).</p>
+ */
+public final class DeckBundle {
+  private static final int MAGIC = 0x5042444B;
+  private static final int VERSION = 1;
+  private static final int MAX_CARDS = 0xFFFF;
+
+  private final Map<String, List<Card>> decks;
+  private final int cardCount;
+
+  private DeckBundle(Map<String, List<Card>> decks, int cardCount) {
+    this.decks = decks;
+    this.cardCount = cardCount;
+  }
+
+  /**
+   * Compiles decks into a bundle file.
+   *
+   * @param path the file to write
+   * @param decks the decks by name, written in iteration order
+   * @throws IllegalArgumentException if the decks hold more than 65535 distinct cards, a card
+   *                                  does not fit the format, or the file cannot be written
+   */
+  public static void write(Path path, Map<String, List<Card>> decks) {
+    if (decks == null) {
+      throw new IllegalArgumentException("Decks cannot be null");
+    }
+    List<Card> table = new ArrayList<>();
+    Map<Card, Integer> ids = new HashMap<>();
+    for (List<Card> deck : decks.values()) {
+      for (Card card : deck) {
+        if (card.getCost() < 0 || card.getCost() > 0xFF
+                || card.getValueScore() < 0 || card.getValueScore() > 0xFF) {
+          throw new IllegalArgumentException("Only costs and values from 0 to 255 can be "
+                  + "bundled: " + card.getName());
+        }
+        ids.computeIfAbsent(card, c -> {
+          table.add(c);
+          return table.size() - 1;
+        });
+      }
+    }
+    if (table.size() > MAX_CARDS) {
+      throw new IllegalArgumentException("Bundles hold at most " + MAX_CARDS + " cards");
+    }
+
+    try (OutputStream file = Files.newOutputStream(path);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(table.size());
+      out.writeInt(decks.size());
+      for (Card card : table) {
+        out.writeByte(card.getCost());
+        out.writeByte(card.getValueScore());
+        out.writeInt(card.getInfluenceMask());
+        writeName(out, card.getName());
+      }
+      for (Map.Entry<String, List<Card>> deck : decks.entrySet()) {
+        writeName(out, deck.getKey());
+        out.writeInt(deck.getValue().size());
+        for (Card card : deck.getValue()) {
+          out.writeShort(ids.get(card));
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write deck bundle: " + path, e);
+    }
+  }
+
+  /**
+   * Loads a bundle file with a single read. Cards used by several decks, or several times in
+   * one deck, are shared.
+   *
+   * @param path the bundle file
+   * @return the bundle
+   * @throws IllegalArgumentException if the file cannot be read or is not a valid bundle
+   */
+  public static DeckBundle read(Path path) {
+    ByteBuffer in;
+    try {
+      in = ByteBuffer.wrap(Files.readAllBytes(path));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read deck bundle: " + path, e);
+    }
+
+    try {
+      if (in.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a deck bundle: " + path);
+      }
+      int version = in.getInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported deck bundle version: " + version);
+      }
+      int cardCount = in.getInt();
+      int deckCount = in.getInt();
+      if (cardCount < 0 || cardCount > MAX_CARDS || deckCount < 0) {
+        throw new IllegalArgumentException("Corrupt deck bundle: " + path);
+      }
+
+      Card[] table = new Card[cardCount];
+      for (int id = 0; id < cardCount; id++) {
+        int cost = in.get() & 0xFF;
+        int value = in.get() & 0xFF;
+        int mask = in.getInt();
+        table[id] = new CardImp(readName(in), cost, value, gridOf(mask));
+      }
+
+      Map<String, List<Card>> decks = new LinkedHashMap<>();
+      for (int d = 0; d < deckCount; d++) {
+        String name = readName(in);
+        int size = in.getInt();
+        if (size < 0 || size > in.remaining() / 2) {
+          throw new IllegalArgumentException("Corrupt deck bundle: " + path);
+        }
+        List<Card> deck = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          int id = in.getShort() & 0xFFFF;
+          if (id >= cardCount) {
+            throw new IllegalArgumentException("Corrupt deck bundle: " + path);
+          }
+          deck.add(table[id]);
+        }
+        decks.put(name, Collections.unmodifiableList(deck));
+      }
+      return new DeckBundle(decks, cardCount);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated deck bundle: " + path, e);
+    }
+  }
+
+  /**
+   * Gets the names of the decks in this bundle, in the order they were written.
+   *
+   * @return the deck names
+   */
+  public Set<String> getDeckNames() {
+    return Collections.unmodifiableSet(decks.keySet());
+  }
+
+  /**
+   * Gets a deck.
+   *
+   * @param name the name of the deck
+   * @return an unmodifiable list of the deck's cards
+   * @throws IllegalArgumentException if the bundle has no deck with that name
+   */
+  public List<Card> getDeck(String name) {
+    List<Card> deck = decks.get(name);
+    if (deck == null) {
+      throw new IllegalArgumentException("No deck named " + name + " in bundle");
+    }
+    return deck;
+  }
+
+  /**
+   * Gets the number of distinct cards in this bundle.
+   *
+   * @return the card count
+   */
+  public int getCardCount() {
+    return cardCount;
+  }
+
+  /**
+   * Compiles deck configuration files into a bundle.
+   *
+   * @param args the output file, then pairs of deck name and configuration file; by default
+   *             docs/decks.bundle with the red and blue decks in docs/
+   */
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      args = new String[] {"docs/decks.bundle", "red", "docs/red_deck.txt",
+          "blue", "docs/blue_deck.txt"};
+    }
+    Map<String, List<Card>> decks = new LinkedHashMap<>();
+    for (int i = 1; i + 1 < args.length; i += 2) {
+      decks.put(args[i], DeckConfigReader.readDeck(args[i + 1]));
+    }
+    write(Paths.get(args[0]), decks);
+    System.out.println("Wrote " + decks.size() + " decks to " + args[0]);
+  }
+
+  private static void writeName(DataOutputStream out, String name) throws IOException {
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > 0xFFFF) {
+      throw new IllegalArgumentException("Name too long for a deck bundle");
+    }
+    out.writeShort(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readName(ByteBuffer in) {
+    byte[] bytes = new byte[in.getShort() & 0xFFFF];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Rebuilds an influence grid from its mask.
+   */
+  private static String[] gridOf(int mask) {
+    String[] grid = new String[5];
+    for (int row = 0; row < 5; row++) {
+      char[] line = new char[5];
+      for (int col = 0; col < 5; col++) {
+        int bit = row * 5 + col;
+        line[col] = bit == 12 ? 'C' : (mask & (1 << bit)) != 0 ? 'I' : 'X';
+      }
+      grid[row] = new String(line);
+    }
+    return grid;
+  }
+}
@@ -1,10 +1,17 @@
 package cs3500.pawnsboard.model;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 /**
  * A utility class for reading deck configurations from files.
@@ -12,6 +19,10 @@ import java.util.Scanner;
  */
 public class DeckConfigReader {
 
+  // Decks already parsed, by absolute path; an entry is stale once its file's content changes
+  private static final int MAX_CACHED_DECKS = 64;
+  private static final Map<String, CachedDeck> cache = new ConcurrentHashMap<>();
+
   /**
    * Reads a deck configuration from a file.
    *
@@ -21,23 +32,75 @@ public class DeckConfigReader {
    */
   public static List<Card> readDeck(String filePath) {
     File file = new File(filePath);
-    List<Card> deck = new ArrayList<>();
     if (!file.exists()) {
       System.err.println("Error: Deck file not found: " + filePath);
       return new ArrayList<>(); // Return an empty list instead of throwing an error
     }
     try (Scanner scanner = new Scanner(file)) {
-      // Continue reading cards until the end of file
-      while (scanner.hasNextLine()) {
-        deck.add(readCard(scanner));
-      }
-
-      return deck;
+      return readCards(scanner);
     } catch (FileNotFoundException e) {
       throw new IllegalArgumentException("File not found: " + filePath, e);
     }
   }
 
+  /**
+   * Reads a deck configuration, reusing the cards parsed by an earlier call for the same
+   * file as long as the file's content is unchanged. The file is still read on every call
+   * and compared by size and CRC-32 checksum, which is much cheaper than parsing it and, unlike
+   * its modification time, catches a rewrite that keeps the size within one clock tick. Cards
+   * are immutable, so every caller can share them; the returned list cannot be modified.
+   *
+   * @param filePath the path to the deck configuration file
+   * @return an unmodifiable list of the cards defined in the file, empty if it does not exist
+   * @throws IllegalArgumentException if the file cannot be read or contains invalid data
+   */
+  public static List<Card> readDeckCached(String filePath) {
+    File file = new File(filePath).getAbsoluteFile();
+    if (!file.exists()) {
+      return Collections.unmodifiableList(readDeck(filePath));
+    }
+    byte[] content;
+    try {
+      content = Files.readAllBytes(file.toPath());
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read deck file: " + filePath, e);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    long checksum = crc.getValue();
+    String key = file.getPath();
+    CachedDeck cached = cache.get(key);
+    if (cached != null && cached.length == content.length && cached.checksum == checksum) {
+      return cached.cards;
+    }
+
+    List<Card> cards;
+    try (Scanner scanner = new Scanner(new ByteArrayInputStream(content))) {
+      cards = Collections.unmodifiableList(readCards(scanner));
+    }
+    if (cache.size() >= MAX_CACHED_DECKS) {
+      cache.clear();
+    }
+    cache.put(key, new CachedDeck(content.length, checksum, cards));
+    return cards;
+  }
+
+  /**
+   * Reads card definitions until the end of the input.
+   *
+   * @param scanner the scanner to read from
+   * @return the cards read
+   * @throws IllegalArgumentException if a card definition is invalid
+   */
+  private static List<Card> readCards(Scanner scanner) {
+    List<Card> deck = new ArrayList<>();
+    // Continue reading cards until the end of file
+    while (scanner.hasNextLine()) {
+      deck.add(readCard(scanner));
+    }
+    return deck;
+  }
+
   /**
    * Reads a single card definition from the scanner.
    *
@@ -82,4 +145,19 @@ public class DeckConfigReader {
       throw new IllegalArgumentException("Error reading card: " + e.getMessage(), e);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * A parsed deck and the size and checksum of the file content it was parsed from.
+   */
+  private static final class CachedDeck {
+    private final int length;
+    private final long checksum;
+    private final List<Card> cards;
+
+    private CachedDeck(int length, long checksum, List<Card> cards) {
+      this.length = length;
+      this.checksum = checksum;
+      this.cards = cards;
+    }
+  }
+}
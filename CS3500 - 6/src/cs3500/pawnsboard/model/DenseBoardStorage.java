@@ -0,0 +1,50 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Board storage that allocates every cell up front in a 2D array.
+ * This is the fastest layout for the small boards the game is usually played on.
+ */
+class DenseBoardStorage implements BoardStorage {
+  private final Cell[][] cells;
+
+  /**
+   * Constructs a new storage with an empty cell at every position.
+   *
+   * @param rows the number of rows
+   * @param cols the number of columns
+   */
+  DenseBoardStorage(int rows, int cols) {
+    this.cells = new Cell[rows][cols];
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        this.cells[r][c] = new Cell();
+      }
+    }
+  }
+
+  private DenseBoardStorage(Cell[][] cells) {
+    this.cells = cells;
+  }
+
+  @Override
+  public Cell get(int row, int col) {
+    return cells[row][col];
+  }
+
+  @Override
+  public Cell getOrCreate(int row, int col) {
+    return cells[row][col];
+  }
+
+  @Override
+  public BoardStorage copy() {
+    Cell[][] copy = new Cell[cells.length][];
+    for (int r = 0; r < cells.length; r++) {
+      copy[r] = new Cell[cells[r].length];
+      for (int c = 0; c < cells[r].length; c++) {
+        copy[r][c] = cells[r][c].copy();
+      }
+    }
+    return new DenseBoardStorage(copy);
+  }
+}
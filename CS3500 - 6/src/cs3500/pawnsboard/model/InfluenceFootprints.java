@@ -0,0 +1,174 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed influence footprints: for a board size, an influence mask and a player, the
+ * indices (row * columns + column) of the cells a card placed on each cell influences,
+ * already mirrored for BLUE and clipped to the board. Placing a card then becomes a loop
+ * over a few ints instead of 25 offset, mirror and bounds calculations.
+ *
+ * <p>Tables are built lazily and kept in a small, bounded cache shared by every game, so
+ * the model, search states and move generators reuse the same tables. Boards with more than
+ * {@link #MAX_CACHED_CELLS} cells are never cached. Tables are immutable and the cache is
+ * safe to use from several threads.</p>
+ */
+public final class InfluenceFootprints {
+  /** Boards with more cells than this get no cached tables. */
+  public static final int MAX_CACHED_CELLS = 1024;
+
+  private static final int CACHE_SETS = 128;
+
+  // Two-way set-associative: a set is two adjacent slots, the most recently used table
+  // first, so two tables whose keys share a set do not evict each other. A new table
+  // replaces the older of the two. Tables only have final fields, so a table read by another
+  // thread is always fully built; racing updates can only cost a table being built again.
+  private static final Table[] cache = new Table[2 * CACHE_SETS];
+
+  private InfluenceFootprints() {
+  }
+
+  /**
+   * Gets the cached footprint table of a card on a board, building it on first use.
+   *
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param mask the influence mask of the card, as described by {@link Card#getInfluenceMask()}
+   * @param player the player who places the card
+   * @return the table, or null if the board has more than {@link #MAX_CACHED_CELLS} cells
+   * @throws IllegalArgumentException if the board size is not positive or the player is null
+   */
+  public static Table get(int rows, int cols, int mask, Player player) {
+    if (rows <= 0 || cols <= 0 || player == null) {
+      throw new IllegalArgumentException("Invalid board size or player");
+    }
+    if ((long) rows * cols > MAX_CACHED_CELLS) {
+      return null;
+    }
+    int first = 2 * setOf(rows, cols, mask, player);
+    Table recent = cache[first];
+    if (recent != null && recent.matches(rows, cols, mask, player)) {
+      return recent;
+    }
+    Table table = cache[first + 1];
+    if (table == null || !table.matches(rows, cols, mask, player)) {
+      table = new Table(rows, cols, mask, player);
+    }
+    cache[first + 1] = recent;
+    cache[first] = table;
+    return table;
+  }
+
+  /**
+   * Builds a footprint table without caching it, for boards of any size.
+   *
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param mask the influence mask of the card
+   * @param player the player who places the card
+   * @return the table
+   * @throws IllegalArgumentException if the board size is not positive or the player is null
+   */
+  public static Table build(int rows, int cols, int mask, Player player) {
+    if (rows <= 0 || cols <= 0 || player == null) {
+      throw new IllegalArgumentException("Invalid board size or player");
+    }
+    return new Table(rows, cols, mask, player);
+  }
+
+  /**
+   * Gets the cache set the table of a card on a board is kept in.
+   *
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param mask the influence mask of the card
+   * @param player the player who places the card
+   * @return the set index
+   */
+  static int setOf(int rows, int cols, int mask, Player player) {
+    int h = mask * 0x9E3779B1 + (rows * 31 + cols) * 0x85EBCA6B + player.ordinal();
+    return (h ^ (h >>> 16)) & (CACHE_SETS - 1);
+  }
+
+  /**
+   * The footprints of one card on every cell of one board. The cells influenced from a cell
+   * are the targets from {@link #start(int)} up to, not including, {@link #end(int)}, in the
+   * order of the influence grid read row by row.
+   */
+  public static final class Table {
+    private final int rows;
+    private final int cols;
+    private final int mask;
+    private final Player player;
+    private final int[] starts;
+    private final int[] targets;
+
+    private Table(int rows, int cols, int mask, Player player) {
+      this.rows = rows;
+      this.cols = cols;
+      this.mask = mask;
+      this.player = player;
+
+      int cells = rows * cols;
+      int perCell = Integer.bitCount(mask);
+      int[] found = new int[cells * perCell];
+      int[] cellStarts = new int[cells + 1];
+      int count = 0;
+      for (int cell = 0; cell < cells; cell++) {
+        cellStarts[cell] = count;
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+          int bit = Integer.numberOfTrailingZeros(bits);
+          int targetRow = row + bit / 5 - 2;
+          int relCol = bit % 5 - 2;
+          // Blue's cards are mirrored left to right
+          int targetCol = player == Player.RED ? col + relCol : col - relCol;
+          if (targetRow >= 0 && targetRow < rows && targetCol >= 0 && targetCol < cols) {
+            found[count++] = targetRow * cols + targetCol;
+          }
+        }
+      }
+      cellStarts[cells] = count;
+      this.starts = cellStarts;
+      this.targets = count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Gets the position of the first target of a cell.
+     *
+     * @param cell the index of the cell the card is placed on
+     * @return the position of its first target
+     */
+    public int start(int cell) {
+      return starts[cell];
+    }
+
+    /**
+     * Gets the position just past the last target of a cell.
+     *
+     * @param cell the index of the cell the card is placed on
+     * @return the end of its targets
+     */
+    public int end(int cell) {
+      return starts[cell + 1];
+    }
+
+    /**
+     * Gets a target cell.
+     *
+     * @param i the position of the target, from start to end of a cell
+     * @return the index of the influenced cell
+     */
+    public int target(int i) {
+      return targets[i];
+    }
+
+    private boolean matches(int rows, int cols, int mask, Player player) {
+      return this.rows == rows && this.cols == cols && this.mask == mask
+              && this.player == player;
+    }
+  }
+}
@@ -1,9 +1,16 @@
 package cs3500.pawnsboard.model;
 
+import cs3500.pawnsboard.metrics.Counter;
+import cs3500.pawnsboard.metrics.Histogram;
+import cs3500.pawnsboard.metrics.Metrics;
+
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the PawnsBoardModel interface for the Pawns Board game.
@@ -11,8 +18,18 @@ import java.util.Random;
  */
 public class PawnsBoardModelImpl implements PawnsBoardModel {
 
-  // The board is represented as a 2D array of cells
-  private Cell[][] board;
+  // Boards with more cells than this are stored sparsely
+  private static final int DENSE_CELL_LIMIT = 4096;
+
+  // Instrumentation, always on; see Metrics
+  private static final Histogram PLACE_CARD_NANOS = Metrics.global().histogram(
+          Metrics.PLACE_CARD);
+  private static final Histogram INFLUENCE_CELLS = Metrics.global().histogram(
+          Metrics.INFLUENCE_CELLS);
+  private static final Counter DECK_DRAWS = Metrics.global().counter(Metrics.DECK_DRAWS);
+
+  // The board's cells; empty cells may have no storage on large boards
+  private BoardStorage board;
 
   // The decks and hands of each player
   private List<Card> redDeck;
@@ -28,8 +45,21 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
   private int rows;
   private int cols;
 
+  // Row scores of each player, kept up to date as cards are placed
+  private int[] redRowScores;
+  private int[] blueRowScores;
+
+  // The changes made by the most recent move, and scratch space for recording them
+  private BoardDelta lastDelta;
+  private final int[] changedRows = new int[26];
+  private final int[] changedCols = new int[26];
+  private final byte[] changedContents = new byte[26];
+  private final byte[] changedOwners = new byte[26];
+  private final byte[] changedPawns = new byte[26];
+  private int changedCount;
+
   // Random number generator for card dealing
-  private final Random random;
+  private final RandomGenerator random;
 
   /**
    * Constructs a new PawnsBoardModel with default settings.
@@ -52,37 +82,20 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
   }
 
   /**
-   * Cell class to represent a single cell on the board.
-   * A cell can contain pawns, a card, or nothing.
+   * Constructs a new PawnsBoardModel that deals cards with the given generator. With a
+   * splittable generator such as {@link java.util.SplittableRandom}, every {@link #copy()}
+   * deals from its own stream split off this one, so copies made in the same order always
+   * deal the same cards, even when they are then played on different threads.
+   *
+   * @param random the random number generator for card dealing
+   * @throws IllegalArgumentException if the generator is null
    */
-  private static class Cell {
-    private CellContent content;
-    private Player owner;
-    private int pawnCount;
-    private Card card;
-
-    /**
-     * Constructs a new empty cell.
-     */
-    public Cell() {
-      this.content = CellContent.EMPTY;
-      this.owner = null;
-      this.pawnCount = 0;
-      this.card = null;
-    }
-
-    /**
-     * Creates a copy of this cell.
-     * @return a new cell with the same properties
-     */
-    public Cell copy() {
-      Cell copy = new Cell();
-      copy.content = this.content;
-      copy.owner = this.owner;
-      copy.pawnCount = this.pawnCount;
-      copy.card = this.card != null ? this.card.copy() : null;
-      return copy;
+  public PawnsBoardModelImpl(RandomGenerator random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
     }
+    this.random = random;
+    this.gameStarted = false;
   }
 
   @Override
@@ -120,25 +133,28 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     // Initialize the board
     this.rows = rows;
     this.cols = cols;
-    this.board = new Cell[rows][cols];
-    for (int r = 0; r < rows; r++) {
-      for (int c = 0; c < cols; c++) {
-        this.board[r][c] = new Cell();
-      }
+    if ((long) rows * cols <= DENSE_CELL_LIMIT) {
+      this.board = new DenseBoardStorage(rows, cols);
+    } else {
+      this.board = new TiledBoardStorage(rows, cols);
     }
 
     // Initialize the first and last column with pawns
     for (int r = 0; r < rows; r++) {
       // First column - Red pawns
-      this.board[r][0].content = CellContent.PAWN;
-      this.board[r][0].owner = Player.RED;
-      this.board[r][0].pawnCount = 1;
+      Cell first = this.board.getOrCreate(r, 0);
+      first.content = CellContent.PAWN;
+      first.owner = Player.RED;
+      first.pawnCount = 1;
 
       // Last column - Blue pawns
-      this.board[r][cols - 1].content = CellContent.PAWN;
-      this.board[r][cols - 1].owner = Player.BLUE;
-      this.board[r][cols - 1].pawnCount = 1;
+      Cell last = this.board.getOrCreate(r, cols - 1);
+      last.content = CellContent.PAWN;
+      last.owner = Player.BLUE;
+      last.pawnCount = 1;
     }
+    this.redRowScores = new int[rows];
+    this.blueRowScores = new int[rows];
 
     // Initialize player decks and hands
     this.redDeck = new ArrayList<>(redDeck);
@@ -151,8 +167,7 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     this.redPassed = false;
     this.bluePassed = false;
     this.gameStarted = false;
-
-
+    this.lastDelta = null;
   }
 
   /**
@@ -162,18 +177,12 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
    * @throws IllegalArgumentException if the deck has more than two copies of any card
    */
   private void validateDeckDuplicates(List<Card> deck) {
-    for (int i = 0; i < deck.size(); i++) {
-      Card card = deck.get(i);
-      int count = 1;
-
-      for (int j = i + 1; j < deck.size(); j++) {
-        if (card.equals(deck.get(j))) {
-          count++;
-          if (count > 2) {
-            throw new IllegalArgumentException(
-                    "A deck cannot contain more than two copies of any card");
-          }
-        }
+    // Count copies in one pass so the large decks needed by large boards stay cheap to check
+    Map<Card, Integer> counts = new HashMap<>();
+    for (Card card : deck) {
+      if (counts.merge(card, 1, Integer::sum) > 2) {
+        throw new IllegalArgumentException(
+                "A deck cannot contain more than two copies of any card");
       }
     }
   }
@@ -194,12 +203,14 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
       if (!redDeck.isEmpty()) {
         int index = random.nextInt(redDeck.size());
         redHand.add(redDeck.remove(index));
+        DECK_DRAWS.increment();
       }
 
       // Deal to blue player
       if (!blueDeck.isEmpty()) {
         int index = random.nextInt(blueDeck.size());
         blueHand.add(blueDeck.remove(index));
+        DECK_DRAWS.increment();
       }
     }
 
@@ -233,6 +244,8 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     } else {
       bluePassed = true;
     }
+    lastDelta = BoardDelta.pass(currentPlayer,
+            getTotalScore(Player.RED), getTotalScore(Player.BLUE));
 
     // Switch to the other player
     switchPlayer();
@@ -240,6 +253,7 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
 
   @Override
   public void placeCard(int cardIndex, int row, int col) {
+    long start = System.nanoTime();
     checkGameStarted();
     checkGameNotOver();
 
@@ -256,8 +270,8 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     Card card = hand.get(cardIndex);
 
     // Check if the cell contains pawns owned by the current player
-    Cell cell = board[row][col];
-    if (cell.content != CellContent.PAWN || cell.owner != currentPlayer) {
+    Cell cell = board.get(row, col);
+    if (cell == null || cell.content != CellContent.PAWN || cell.owner != currentPlayer) {
       throw new IllegalArgumentException("Cell does not contain pawns owned by current player");
     }
 
@@ -270,6 +284,12 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     cell.content = CellContent.CARD;
     cell.card = card;
     cell.pawnCount = 0; // Remove the pawns
+    changedCount = 0;
+    recordChange(row, col, cell);
+
+    // The card now counts towards the current player's row score
+    int[] rowScores = (currentPlayer == Player.RED) ? redRowScores : blueRowScores;
+    rowScores[row] += card.getValueScore();
 
     // Remove the card from the player's hand
     hand.remove(cardIndex);
@@ -285,10 +305,32 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     }
 
     // Draw a card if possible
-    drawCard();
+    Card drawn = drawCard();
+
+    lastDelta = new BoardDelta(currentPlayer, cardIndex, row, col, changedCount,
+            changedRows, changedCols, changedContents, changedOwners, changedPawns, drawn,
+            redRowScores[row], blueRowScores[row],
+            getTotalScore(Player.RED), getTotalScore(Player.BLUE));
 
     // Switch to the other player
     switchPlayer();
+    PLACE_CARD_NANOS.record(System.nanoTime() - start);
+  }
+
+  /**
+   * Records the new state of a cell changed by the current move.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @param cell the cell after the change
+   */
+  private void recordChange(int row, int col, Cell cell) {
+    changedRows[changedCount] = row;
+    changedCols[changedCount] = col;
+    changedContents[changedCount] = (byte) cell.content.ordinal();
+    changedOwners[changedCount] = (byte) (cell.owner == null ? -1 : cell.owner.ordinal());
+    changedPawns[changedCount] = (byte) cell.pawnCount;
+    changedCount++;
   }
 
   /**
@@ -299,7 +341,20 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
    * @param cardCol the column where the card is placed
    */
   private void applyCardInfluence(Card card, int cardRow, int cardCol) {
-    // Iterate over the 5x5 grid centered on the card
+    InfluenceFootprints.Table footprint = InfluenceFootprints.get(rows, cols,
+            card.getInfluenceMask(), currentPlayer);
+    if (footprint != null) {
+      int cell = cardRow * cols + cardCol;
+      for (int i = footprint.start(cell); i < footprint.end(cell); i++) {
+        int target = footprint.target(i);
+        influenceCell(target / cols, target % cols);
+      }
+      INFLUENCE_CELLS.record(footprint.end(cell) - footprint.start(cell));
+      return;
+    }
+
+    // Boards too large for cached footprints walk the 5x5 grid centered on the card
+    int touched = 0;
     for (int relRow = -2; relRow <= 2; relRow++) {
       for (int relCol = -2; relCol <= 2; relCol++) {
         // Skip if this position is not influenced by the card
@@ -321,48 +376,71 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
           continue;
         }
 
-        // Apply influence to the cell
-        Cell cell = board[absRow][absCol];
-
-        // Case 1: Cell has a card - No effect
-        if (cell.content == CellContent.CARD) {
-          continue;
-        }
-
-        // Case 2: Cell is empty - Add a pawn owned by current player
-        if (cell.content == CellContent.EMPTY) {
-          cell.content = CellContent.PAWN;
-          cell.owner = currentPlayer;
-          cell.pawnCount = 1;
-          continue;
-        }
+        influenceCell(absRow, absCol);
+        touched++;
+      }
+    }
+    INFLUENCE_CELLS.record(touched);
+  }
 
-        // Case 3: Cell has pawns
-        if (cell.content == CellContent.PAWN) {
-          // If owned by current player, increase pawn count (max 3)
-          if (cell.owner == currentPlayer) {
-            cell.pawnCount = Math.min(cell.pawnCount + 1, 3);
-          }
-          // If owned by opponent, change ownership
-          else {
-            cell.owner = currentPlayer;
-          }
+  /**
+   * Applies the influence of the current player's card to one cell on the board.
+   *
+   * @param absRow the row of the cell
+   * @param absCol the column of the cell
+   */
+  private void influenceCell(int absRow, int absCol) {
+    Cell cell = board.getOrCreate(absRow, absCol);
+
+    // Case 1: Cell has a card - No effect
+    if (cell.content == CellContent.CARD) {
+      return;
+    }
+
+    // Case 2: Cell is empty - Add a pawn owned by current player
+    if (cell.content == CellContent.EMPTY) {
+      cell.content = CellContent.PAWN;
+      cell.owner = currentPlayer;
+      cell.pawnCount = 1;
+      recordChange(absRow, absCol, cell);
+      return;
+    }
+
+    // Case 3: Cell has pawns
+    if (cell.content == CellContent.PAWN) {
+      // If owned by current player, increase pawn count (max 3)
+      if (cell.owner == currentPlayer) {
+        if (cell.pawnCount < 3) {
+          cell.pawnCount++;
+          recordChange(absRow, absCol, cell);
         }
       }
+      // If owned by opponent, change ownership
+      else {
+        cell.owner = currentPlayer;
+        recordChange(absRow, absCol, cell);
+      }
     }
   }
 
+
   /**
    * Draw a card from the current player's deck if possible.
+   *
+   * @return the card drawn, or null if the deck is empty
    */
-  private void drawCard() {
+  private Card drawCard() {
     List<Card> deck = (currentPlayer == Player.RED) ? redDeck : blueDeck;
     List<Card> hand = (currentPlayer == Player.RED) ? redHand : blueHand;
 
-    if (!deck.isEmpty()) {
-      int index = random.nextInt(deck.size());
-      hand.add(deck.remove(index));
+    if (deck.isEmpty()) {
+      return null;
     }
+    int index = random.nextInt(deck.size());
+    Card drawn = deck.remove(index);
+    hand.add(drawn);
+    DECK_DRAWS.increment();
+    return drawn;
   }
 
   /**
@@ -380,6 +458,50 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
             player == Player.RED ? redHand : blueHand);
   }
 
+  @Override
+  public int getHandSize(Player player) {
+    checkGameStarted();
+    return (player == Player.RED ? redHand : blueHand).size();
+  }
+
+  @Override
+  public int getHandCardCost(Player player, int cardIndex) {
+    return getHandCard(player, cardIndex).getCost();
+  }
+
+  @Override
+  public int getHandCardValue(Player player, int cardIndex) {
+    return getHandCard(player, cardIndex).getValueScore();
+  }
+
+  @Override
+  public int getHandCardMask(Player player, int cardIndex) {
+    return getHandCard(player, cardIndex).getInfluenceMask();
+  }
+
+  @Override
+  public int getDeckSize(Player player) {
+    checkGameStarted();
+    return (player == Player.RED ? redDeck : blueDeck).size();
+  }
+
+  /**
+   * Get a card from a player's hand without wrapping the hand.
+   *
+   * @param player the player whose hand to read
+   * @param cardIndex the index of the card in the hand
+   * @return the card
+   * @throws IllegalArgumentException if the card index is invalid
+   */
+  private Card getHandCard(Player player, int cardIndex) {
+    checkGameStarted();
+    List<Card> hand = player == Player.RED ? redHand : blueHand;
+    if (cardIndex < 0 || cardIndex >= hand.size()) {
+      throw new IllegalArgumentException("Invalid card index: " + cardIndex);
+    }
+    return hand.get(cardIndex);
+  }
+
   @Override
   public int getRows() {
     return rows;
@@ -393,42 +515,55 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
   @Override
   public CellContent getCellContent(int row, int col) {
     validateCoordinates(row, col);
-    return board[row][col].content;
+    Cell cell = board.get(row, col);
+    return cell == null ? CellContent.EMPTY : cell.content;
+  }
+
+  @Override
+  public void readRow(int row, int[] contentOut, int[] ownerOut, int[] pawnsOut) {
+    validateRow(row);
+    if (contentOut.length < cols || ownerOut.length < cols || pawnsOut.length < cols) {
+      throw new IllegalArgumentException("Row arrays must hold " + cols + " columns");
+    }
+    for (int c = 0; c < cols; c++) {
+      Cell cell = board.get(row, c);
+      if (cell == null) {
+        contentOut[c] = CellContent.EMPTY.ordinal();
+        ownerOut[c] = -1;
+        pawnsOut[c] = 0;
+      } else {
+        contentOut[c] = cell.content.ordinal();
+        ownerOut[c] = cell.owner == null ? -1 : cell.owner.ordinal();
+        pawnsOut[c] = cell.content == CellContent.PAWN ? cell.pawnCount : 0;
+      }
+    }
   }
 
   @Override
   public Player getCellOwner(int row, int col) {
     validateCoordinates(row, col);
-    return board[row][col].owner;
+    Cell cell = board.get(row, col);
+    return cell == null ? null : cell.owner;
   }
 
   @Override
   public int getPawnCount(int row, int col) {
     validateCoordinates(row, col);
-    Cell cell = board[row][col];
-    return cell.content == CellContent.PAWN ? cell.pawnCount : 0;
+    Cell cell = board.get(row, col);
+    return cell != null && cell.content == CellContent.PAWN ? cell.pawnCount : 0;
   }
 
   @Override
   public Card getCard(int row, int col) {
     validateCoordinates(row, col);
-    Cell cell = board[row][col];
-    return cell.content == CellContent.CARD ? cell.card : null;
+    Cell cell = board.get(row, col);
+    return cell != null && cell.content == CellContent.CARD ? cell.card : null;
   }
 
   @Override
   public int getRowScore(Player player, int row) {
     validateRow(row);
-
-    int score = 0;
-    for (int c = 0; c < cols; c++) {
-      Cell cell = board[row][c];
-      if (cell.content == CellContent.CARD && cell.owner == player) {
-        score += cell.card.getValueScore();
-      }
-    }
-
-    return score;
+    return player == Player.RED ? redRowScores[row] : blueRowScores[row];
   }
 
   @Override
@@ -448,6 +583,11 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     return totalScore;
   }
 
+  @Override
+  public BoardDelta getLastDelta() {
+    return lastDelta;
+  }
+
   @Override
   public boolean isGameOver() {
     return redPassed && bluePassed;
@@ -478,7 +618,10 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
 
   @Override
   public PawnsBoardModel copy() {
-    PawnsBoardModelImpl copy = new PawnsBoardModelImpl(random.nextLong());
+    // A split stream is independent of this one; other generators can only be reseeded
+    PawnsBoardModelImpl copy = random instanceof RandomGenerator.SplittableGenerator
+            ? new PawnsBoardModelImpl(((RandomGenerator.SplittableGenerator) random).split())
+            : new PawnsBoardModelImpl(random.nextLong());
 
     // Copy board dimensions
     copy.rows = this.rows;
@@ -489,14 +632,12 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     copy.redPassed = this.redPassed;
     copy.bluePassed = this.bluePassed;
     copy.gameStarted = this.gameStarted;
+    copy.redRowScores = this.redRowScores.clone();
+    copy.blueRowScores = this.blueRowScores.clone();
+    copy.lastDelta = this.lastDelta;
 
     // Copy the board
-    copy.board = new Cell[rows][cols];
-    for (int r = 0; r < rows; r++) {
-      for (int c = 0; c < cols; c++) {
-        copy.board[r][c] = this.board[r][c].copy();
-      }
-    }
+    copy.board = this.board.copy();
 
     // Copy decks and hands
     copy.redDeck = new ArrayList<>();
@@ -610,8 +751,8 @@ public class PawnsBoardModelImpl implements PawnsBoardModel {
     Card card = hand.get(cardIndex);
 
     // Check if the cell contains pawns owned by the current player
-    Cell cell = board[row][col];
-    if (cell.content != CellContent.PAWN || cell.owner != currentPlayer) {
+    Cell cell = board.get(row, col);
+    if (cell == null || cell.content != CellContent.PAWN || cell.owner != currentPlayer) {
       return false;
     }
 
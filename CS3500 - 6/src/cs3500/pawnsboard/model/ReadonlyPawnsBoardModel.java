@@ -43,6 +43,55 @@ public interface ReadonlyPawnsBoardModel {
    */
   List<Card> getPlayerHand(Player player);
 
+  /**
+   * Get the number of cards in the specified player's hand. Unlike
+   * {@link #getPlayerHand(Player)}, this and the other hand accessors below do not
+   * allocate, so strategies can call them on every decision.
+   *
+   * @param player the player whose hand to measure
+   * @return the number of cards in the player's hand
+   */
+  int getHandSize(Player player);
+
+  /**
+   * Get the cost of a card in the specified player's hand.
+   *
+   * @param player the player whose hand to read
+   * @param cardIndex the index of the card in the hand
+   * @return the cost of the card
+   * @throws IllegalArgumentException if the card index is invalid
+   */
+  int getHandCardCost(Player player, int cardIndex);
+
+  /**
+   * Get the value score of a card in the specified player's hand.
+   *
+   * @param player the player whose hand to read
+   * @param cardIndex the index of the card in the hand
+   * @return the value score of the card
+   * @throws IllegalArgumentException if the card index is invalid
+   */
+  int getHandCardValue(Player player, int cardIndex);
+
+  /**
+   * Get the influence mask of a card in the specified player's hand, as described by
+   * {@link Card#getInfluenceMask()}.
+   *
+   * @param player the player whose hand to read
+   * @param cardIndex the index of the card in the hand
+   * @return the influence mask of the card
+   * @throws IllegalArgumentException if the card index is invalid
+   */
+  int getHandCardMask(Player player, int cardIndex);
+
+  /**
+   * Get the number of cards left to draw in the specified player's deck.
+   *
+   * @param player the player whose deck to measure
+   * @return the number of cards in the player's deck
+   */
+  int getDeckSize(Player player);
+
   /**
    * Get the number of rows on the board.
    * @return the number of rows
@@ -95,6 +144,21 @@ public interface ReadonlyPawnsBoardModel {
    */
   Card getCard(int row, int col);
 
+  /**
+   * Copy one row of the board into caller-owned arrays, validating the row once instead of
+   * every cell. For each column c, contentOut[c] is the {@link CellContent} ordinal,
+   * ownerOut[c] is the {@link Player} ordinal or -1 if the cell has no owner, and
+   * pawnsOut[c] is the pawn count as returned by {@link #getPawnCount(int, int)}.
+   *
+   * @param row the row to read
+   * @param contentOut receives the content of each cell
+   * @param ownerOut receives the owner of each cell
+   * @param pawnsOut receives the pawn count of each cell
+   * @throws IllegalArgumentException if the row is invalid or an array is shorter than the
+   *         number of columns
+   */
+  void readRow(int row, int[] contentOut, int[] ownerOut, int[] pawnsOut);
+
   /**
    * Get the row score for the specified player and row.
    *
@@ -113,6 +177,15 @@ public interface ReadonlyPawnsBoardModel {
    */
   int getTotalScore(Player player);
 
+  /**
+   * Get the changes made by the most recent move: the cells it changed, the change to the
+   * moving player's hand and the scores after it. Clients can apply these deltas instead of
+   * re-reading every cell after each move.
+   *
+   * @return the delta of the most recent move, or null if no move has been made yet
+   */
+  BoardDelta getLastDelta();
+
   /**
    * Check if the game is over.
    * The game is over when both players pass consecutively.
@@ -0,0 +1,70 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Sparse board storage for large boards. The board is split into 8x8 tiles, and a tile is
+ * only allocated once one of its cells is written. Empty cells inside an allocated tile are
+ * also left unallocated. Memory therefore scales with the occupied cells rather than with the
+ * board size, while a lookup stays two array indexings.
+ */
+class TiledBoardStorage implements BoardStorage {
+  private static final int TILE_SHIFT = 3;
+  private static final int TILE_SIZE = 1 << TILE_SHIFT;
+  private static final int TILE_MASK = TILE_SIZE - 1;
+
+  private final int tileCols;
+  private final Cell[][] tiles;
+
+  /**
+   * Constructs a new storage with no tiles allocated.
+   *
+   * @param rows the number of rows
+   * @param cols the number of columns
+   */
+  TiledBoardStorage(int rows, int cols) {
+    int tileRows = (rows + TILE_MASK) >> TILE_SHIFT;
+    this.tileCols = (cols + TILE_MASK) >> TILE_SHIFT;
+    this.tiles = new Cell[tileRows * tileCols][];
+  }
+
+  private TiledBoardStorage(int tileCols, Cell[][] tiles) {
+    this.tileCols = tileCols;
+    this.tiles = tiles;
+  }
+
+  @Override
+  public Cell get(int row, int col) {
+    Cell[] tile = tiles[(row >> TILE_SHIFT) * tileCols + (col >> TILE_SHIFT)];
+    return tile == null ? null : tile[((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK)];
+  }
+
+  @Override
+  public Cell getOrCreate(int row, int col) {
+    int tileIndex = (row >> TILE_SHIFT) * tileCols + (col >> TILE_SHIFT);
+    Cell[] tile = tiles[tileIndex];
+    if (tile == null) {
+      tile = new Cell[TILE_SIZE * TILE_SIZE];
+      tiles[tileIndex] = tile;
+    }
+    int cellIndex = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+    Cell cell = tile[cellIndex];
+    if (cell == null) {
+      cell = new Cell();
+      tile[cellIndex] = cell;
+    }
+    return cell;
+  }
+
+  @Override
+  public BoardStorage copy() {
+    Cell[][] copy = new Cell[tiles.length][];
+    for (int t = 0; t < tiles.length; t++) {
+      if (tiles[t] != null) {
+        copy[t] = new Cell[tiles[t].length];
+        for (int i = 0; i < tiles[t].length; i++) {
+          copy[t][i] = tiles[t][i] == null ? null : tiles[t][i].copy();
+        }
+      }
+    }
+    return new TiledBoardStorage(tileCols, copy);
+  }
+}
@@ -0,0 +1,467 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A read-only model that forwards every query to another model and records it. Every call
+ * is counted per method; one call in every {@code sampleEvery} is also timed and appended to
+ * a fixed-size ring buffer of recent calls, so tracing a whole game costs little and uses
+ * bounded memory. Wrap a real game in a tracing model before handing it to a strategy to see
+ * which queries the strategy issues and what they cost. A query that throws is counted but
+ * not timed.
+ *
+ * <p>Instances are not thread-safe; give each thread its own tracing model.</p>
+ */
+public class TracingPawnsBoardModel implements ReadonlyPawnsBoardModel {
+  public static final int DEFAULT_CAPACITY = 1024;
+  public static final int DEFAULT_SAMPLE_EVERY = 16;
+
+  /**
+   * The queries of {@link ReadonlyPawnsBoardModel}.
+   */
+  public enum Query {
+    GET_CURRENT_PLAYER("getCurrentPlayer"),
+    GET_PLAYER_HAND("getPlayerHand"),
+    GET_HAND_SIZE("getHandSize"),
+    GET_HAND_CARD_COST("getHandCardCost"),
+    GET_HAND_CARD_VALUE("getHandCardValue"),
+    GET_HAND_CARD_MASK("getHandCardMask"),
+    GET_DECK_SIZE("getDeckSize"),
+    GET_ROWS("getRows"),
+    GET_COLUMNS("getColumns"),
+    GET_CELL_CONTENT("getCellContent"),
+    GET_CELL_OWNER("getCellOwner"),
+    GET_PAWN_COUNT("getPawnCount"),
+    GET_CARD("getCard"),
+    READ_ROW("readRow"),
+    GET_ROW_SCORE("getRowScore"),
+    GET_TOTAL_SCORE("getTotalScore"),
+    GET_LAST_DELTA("getLastDelta"),
+    IS_GAME_OVER("isGameOver"),
+    GET_WINNER("getWinner"),
+    HAS_PLAYER_PASSED("hasPlayerPassed"),
+    IS_LEGAL_MOVE("isLegalMove");
+
+    private final String methodName;
+
+    Query(String methodName) {
+      this.methodName = methodName;
+    }
+
+    /**
+     * Gets the name of the model method this query stands for.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+      return methodName;
+    }
+  }
+
+  private static final Query[] QUERIES = Query.values();
+
+  private final ReadonlyPawnsBoardModel delegate;
+  private final int sampleEvery;
+  private final long[] counts;
+  private final long[] sampledCounts;
+  private final long[] sampledNanos;
+
+  // Ring buffer of sampled calls, oldest at traceStart
+  private final byte[] traceQueries;
+  private final long[] traceCalls;
+  private final long[] traceNanos;
+  private int traceStart;
+  private int traceSize;
+
+  private long calls;
+  private int untilSample;
+  private boolean sampling;
+  private long sampledCall;
+
+  /**
+   * Constructs a tracing model that keeps the last {@value #DEFAULT_CAPACITY} sampled calls
+   * and samples one call in {@value #DEFAULT_SAMPLE_EVERY}.
+   *
+   * @param delegate the model to trace
+   * @throws IllegalArgumentException if the model is null
+   */
+  public TracingPawnsBoardModel(ReadonlyPawnsBoardModel delegate) {
+    this(delegate, DEFAULT_CAPACITY, DEFAULT_SAMPLE_EVERY);
+  }
+
+  /**
+   * Constructs a tracing model.
+   *
+   * @param delegate the model to trace
+   * @param capacity the number of sampled calls the trace keeps
+   * @param sampleEvery how many calls pass between timed calls; 1 times every call
+   * @throws IllegalArgumentException if the model is null or a size is not positive
+   */
+  public TracingPawnsBoardModel(ReadonlyPawnsBoardModel delegate, int capacity,
+                                int sampleEvery) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    if (capacity <= 0 || sampleEvery <= 0) {
+      throw new IllegalArgumentException("Capacity and sample interval must be positive");
+    }
+    this.delegate = delegate;
+    this.sampleEvery = sampleEvery;
+    this.counts = new long[QUERIES.length];
+    this.sampledCounts = new long[QUERIES.length];
+    this.sampledNanos = new long[QUERIES.length];
+    this.traceQueries = new byte[capacity];
+    this.traceCalls = new long[capacity];
+    this.traceNanos = new long[capacity];
+    this.untilSample = sampleEvery;
+  }
+
+  /**
+   * Gets the model being traced.
+   *
+   * @return the traced model
+   */
+  public ReadonlyPawnsBoardModel getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Gets how many times a query was called since the last reset.
+   *
+   * @param query the query
+   * @return the call count
+   */
+  public long getCount(Query query) {
+    return counts[query.ordinal()];
+  }
+
+  /**
+   * Gets how many queries of any kind were called since the last reset.
+   *
+   * @return the call count
+   */
+  public long getTotalCount() {
+    return calls;
+  }
+
+  /**
+   * Estimates the mean time a query takes from its timed calls.
+   *
+   * @param query the query
+   * @return the mean in nanoseconds, or NaN if no call to the query was timed
+   */
+  public double getMeanNanos(Query query) {
+    long sampled = sampledCounts[query.ordinal()];
+    return sampled == 0 ? Double.NaN : (double) sampledNanos[query.ordinal()] / sampled;
+  }
+
+  /**
+   * Gets the number of sampled calls in the trace.
+   *
+   * @return the trace size, at most the capacity
+   */
+  public int getTraceSize() {
+    return traceSize;
+  }
+
+  /**
+   * Gets a sampled call from the trace, oldest first.
+   *
+   * @param index the position in the trace
+   * @return the query called
+   * @throws IllegalArgumentException if the index is outside the trace
+   */
+  public Query getTraceQuery(int index) {
+    return QUERIES[traceQueries[traceIndex(index)]];
+  }
+
+  /**
+   * Gets the position of a sampled call among all calls since the last reset, counting
+   * from 0.
+   *
+   * @param index the position in the trace
+   * @return the call number
+   * @throws IllegalArgumentException if the index is outside the trace
+   */
+  public long getTraceCall(int index) {
+    return traceCalls[traceIndex(index)];
+  }
+
+  /**
+   * Gets the time a sampled call took.
+   *
+   * @param index the position in the trace
+   * @return the duration in nanoseconds
+   * @throws IllegalArgumentException if the index is outside the trace
+   */
+  public long getTraceNanos(int index) {
+    return traceNanos[traceIndex(index)];
+  }
+
+  /**
+   * Clears the counts, timings and trace.
+   */
+  public void reset() {
+    Arrays.fill(counts, 0);
+    Arrays.fill(sampledCounts, 0);
+    Arrays.fill(sampledNanos, 0);
+    traceStart = 0;
+    traceSize = 0;
+    calls = 0;
+    untilSample = sampleEvery;
+    sampling = false;
+  }
+
+  /**
+   * Formats the queries called since the last reset, one line per query with its count and
+   * estimated mean time, most called first.
+   *
+   * @return the report
+   */
+  public String report() {
+    Query[] sorted = QUERIES.clone();
+    Arrays.sort(sorted, (a, b) -> Long.compare(counts[b.ordinal()],
+            counts[a.ordinal()]));
+    StringBuilder out = new StringBuilder();
+    out.append(String.format("%d queries%n", calls));
+    for (Query query : sorted) {
+      if (counts[query.ordinal()] > 0) {
+        out.append(String.format("  %-18s %10d  %8.1f ns%n", query.getMethodName(),
+                counts[query.ordinal()], getMeanNanos(query)));
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * Formats the trace, one sampled call per line, oldest first.
+   *
+   * @return the trace
+   */
+  public String formatTrace() {
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < traceSize; i++) {
+      out.append('#').append(getTraceCall(i)).append(' ')
+              .append(getTraceQuery(i).getMethodName()).append("() ")
+              .append(getTraceNanos(i)).append(" ns").append(System.lineSeparator());
+    }
+    return out.toString();
+  }
+
+  @Override
+  public Player getCurrentPlayer() {
+    long start = begin(Query.GET_CURRENT_PLAYER);
+    Player result = delegate.getCurrentPlayer();
+    end(Query.GET_CURRENT_PLAYER, start);
+    return result;
+  }
+
+  @Override
+  public List<Card> getPlayerHand(Player player) {
+    long start = begin(Query.GET_PLAYER_HAND);
+    List<Card> result = delegate.getPlayerHand(player);
+    end(Query.GET_PLAYER_HAND, start);
+    return result;
+  }
+
+  @Override
+  public int getHandSize(Player player) {
+    long start = begin(Query.GET_HAND_SIZE);
+    int result = delegate.getHandSize(player);
+    end(Query.GET_HAND_SIZE, start);
+    return result;
+  }
+
+  @Override
+  public int getHandCardCost(Player player, int cardIndex) {
+    long start = begin(Query.GET_HAND_CARD_COST);
+    int result = delegate.getHandCardCost(player, cardIndex);
+    end(Query.GET_HAND_CARD_COST, start);
+    return result;
+  }
+
+  @Override
+  public int getHandCardValue(Player player, int cardIndex) {
+    long start = begin(Query.GET_HAND_CARD_VALUE);
+    int result = delegate.getHandCardValue(player, cardIndex);
+    end(Query.GET_HAND_CARD_VALUE, start);
+    return result;
+  }
+
+  @Override
+  public int getHandCardMask(Player player, int cardIndex) {
+    long start = begin(Query.GET_HAND_CARD_MASK);
+    int result = delegate.getHandCardMask(player, cardIndex);
+    end(Query.GET_HAND_CARD_MASK, start);
+    return result;
+  }
+
+  @Override
+  public int getDeckSize(Player player) {
+    long start = begin(Query.GET_DECK_SIZE);
+    int result = delegate.getDeckSize(player);
+    end(Query.GET_DECK_SIZE, start);
+    return result;
+  }
+
+  @Override
+  public int getRows() {
+    long start = begin(Query.GET_ROWS);
+    int result = delegate.getRows();
+    end(Query.GET_ROWS, start);
+    return result;
+  }
+
+  @Override
+  public int getColumns() {
+    long start = begin(Query.GET_COLUMNS);
+    int result = delegate.getColumns();
+    end(Query.GET_COLUMNS, start);
+    return result;
+  }
+
+  @Override
+  public CellContent getCellContent(int row, int col) {
+    long start = begin(Query.GET_CELL_CONTENT);
+    CellContent result = delegate.getCellContent(row, col);
+    end(Query.GET_CELL_CONTENT, start);
+    return result;
+  }
+
+  @Override
+  public Player getCellOwner(int row, int col) {
+    long start = begin(Query.GET_CELL_OWNER);
+    Player result = delegate.getCellOwner(row, col);
+    end(Query.GET_CELL_OWNER, start);
+    return result;
+  }
+
+  @Override
+  public int getPawnCount(int row, int col) {
+    long start = begin(Query.GET_PAWN_COUNT);
+    int result = delegate.getPawnCount(row, col);
+    end(Query.GET_PAWN_COUNT, start);
+    return result;
+  }
+
+  @Override
+  public Card getCard(int row, int col) {
+    long start = begin(Query.GET_CARD);
+    Card result = delegate.getCard(row, col);
+    end(Query.GET_CARD, start);
+    return result;
+  }
+
+  @Override
+  public void readRow(int row, int[] contentOut, int[] ownerOut, int[] pawnsOut) {
+    long start = begin(Query.READ_ROW);
+    delegate.readRow(row, contentOut, ownerOut, pawnsOut);
+    end(Query.READ_ROW, start);
+  }
+
+  @Override
+  public int getRowScore(Player player, int row) {
+    long start = begin(Query.GET_ROW_SCORE);
+    int result = delegate.getRowScore(player, row);
+    end(Query.GET_ROW_SCORE, start);
+    return result;
+  }
+
+  @Override
+  public int getTotalScore(Player player) {
+    long start = begin(Query.GET_TOTAL_SCORE);
+    int result = delegate.getTotalScore(player);
+    end(Query.GET_TOTAL_SCORE, start);
+    return result;
+  }
+
+  @Override
+  public BoardDelta getLastDelta() {
+    long start = begin(Query.GET_LAST_DELTA);
+    BoardDelta result = delegate.getLastDelta();
+    end(Query.GET_LAST_DELTA, start);
+    return result;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    long start = begin(Query.IS_GAME_OVER);
+    boolean result = delegate.isGameOver();
+    end(Query.IS_GAME_OVER, start);
+    return result;
+  }
+
+  @Override
+  public Player getWinner() {
+    long start = begin(Query.GET_WINNER);
+    Player result = delegate.getWinner();
+    end(Query.GET_WINNER, start);
+    return result;
+  }
+
+  @Override
+  public boolean hasPlayerPassed(Player player) {
+    long start = begin(Query.HAS_PLAYER_PASSED);
+    boolean result = delegate.hasPlayerPassed(player);
+    end(Query.HAS_PLAYER_PASSED, start);
+    return result;
+  }
+
+  @Override
+  public boolean isLegalMove(int cardIndex, int row, int col) {
+    long start = begin(Query.IS_LEGAL_MOVE);
+    boolean result = delegate.isLegalMove(cardIndex, row, col);
+    end(Query.IS_LEGAL_MOVE, start);
+    return result;
+  }
+
+  /**
+   * Counts a call and starts timing it if it is sampled.
+   *
+   * @return the start time of a sampled call
+   */
+  private long begin(Query query) {
+    counts[query.ordinal()]++;
+    calls++;
+    if (--untilSample > 0) {
+      // A sampled call that threw never reached end(), so its flag may still be set
+      sampling = false;
+      return 0;
+    }
+    untilSample = sampleEvery;
+    sampling = true;
+    sampledCall = calls - 1;
+    return System.nanoTime();
+  }
+
+  /**
+   * Finishes a call, recording it in the trace if it was sampled.
+   */
+  private void end(Query query, long start) {
+    if (!sampling) {
+      return;
+    }
+    long nanos = System.nanoTime() - start;
+    sampling = false;
+    sampledCounts[query.ordinal()]++;
+    sampledNanos[query.ordinal()] += nanos;
+
+    int slot = (traceStart + traceSize) % traceQueries.length;
+    if (traceSize == traceQueries.length) {
+      traceStart = (traceStart + 1) % traceQueries.length;
+    } else {
+      traceSize++;
+    }
+    traceQueries[slot] = (byte) query.ordinal();
+    traceCalls[slot] = sampledCall;
+    traceNanos[slot] = nanos;
+  }
+
+  private int traceIndex(int index) {
+    if (index < 0 || index >= traceSize) {
+      throw new IllegalArgumentException("Invalid trace index: " + index);
+    }
+    return (traceStart + index) % traceQueries.length;
+  }
+}
@@ -52,6 +52,19 @@ public class MockCard implements Card {
     return influenceGrid[absRow].charAt(absCol) == 'I';
   }
 
+  @Override
+  public int getInfluenceMask() {
+    int mask = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        if (influenceGrid[i].charAt(j) == 'I') {
+          mask |= 1 << (i * 5 + j);
+        }
+      }
+    }
+    return mask;
+  }
+
   @Override
   public String[] getInfluenceGrid() {
     return Arrays.copyOf(influenceGrid, influenceGrid.length);
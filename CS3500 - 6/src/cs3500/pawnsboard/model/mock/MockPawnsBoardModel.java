@@ -1,5 +1,6 @@
 package cs3500.pawnsboard.model.mock;
 
+import cs3500.pawnsboard.model.BoardDelta;
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
 
@@ -74,6 +75,44 @@ public class MockPawnsBoardModel implements ReadonlyPawnsBoardModel {
     return player == Player.RED ? new ArrayList<>(redHand) : new ArrayList<>(blueHand);
   }
 
+  @Override
+  public int getHandSize(Player player) {
+    log.append("getHandSize(").append(player).append(")\n");
+    return (player == Player.RED ? redHand : blueHand).size();
+  }
+
+  @Override
+  public int getHandCardCost(Player player, int cardIndex) {
+    log.append("getHandCardCost(").append(player).append(",").append(cardIndex).append(")\n");
+    return getHandCard(player, cardIndex).getCost();
+  }
+
+  @Override
+  public int getHandCardValue(Player player, int cardIndex) {
+    log.append("getHandCardValue(").append(player).append(",").append(cardIndex).append(")\n");
+    return getHandCard(player, cardIndex).getValueScore();
+  }
+
+  @Override
+  public int getHandCardMask(Player player, int cardIndex) {
+    log.append("getHandCardMask(").append(player).append(",").append(cardIndex).append(")\n");
+    return getHandCard(player, cardIndex).getInfluenceMask();
+  }
+
+  private Card getHandCard(Player player, int cardIndex) {
+    List<Card> hand = player == Player.RED ? redHand : blueHand;
+    if (cardIndex < 0 || cardIndex >= hand.size()) {
+      throw new IllegalArgumentException("Invalid card index: " + cardIndex);
+    }
+    return hand.get(cardIndex);
+  }
+
+  @Override
+  public int getDeckSize(Player player) {
+    log.append("getDeckSize(").append(player).append(")\n");
+    return 0;
+  }
+
   @Override
   public int getRows() {
     log.append("getRows()\n");
@@ -92,6 +131,17 @@ public class MockPawnsBoardModel implements ReadonlyPawnsBoardModel {
     return boardContent.get(row).get(col);
   }
 
+  @Override
+  public void readRow(int row, int[] contentOut, int[] ownerOut, int[] pawnsOut) {
+    log.append("readRow(").append(row).append(")\n");
+    for (int c = 0; c < cols; c++) {
+      Player owner = boardOwners.get(row).get(c);
+      contentOut[c] = boardContent.get(row).get(c).ordinal();
+      ownerOut[c] = owner == null ? -1 : owner.ordinal();
+      pawnsOut[c] = pawnCounts.get(row).get(c);
+    }
+  }
+
   @Override
   public Player getCellOwner(int row, int col) {
     log.append("getCellOwner(").append(row).append(",").append(col).append(")\n");
@@ -130,6 +180,12 @@ public class MockPawnsBoardModel implements ReadonlyPawnsBoardModel {
     return totalScore;
   }
 
+  @Override
+  public BoardDelta getLastDelta() {
+    log.append("getLastDelta()\n");
+    return null;
+  }
+
   @Override
   public boolean isGameOver() {
     log.append("isGameOver()\n");
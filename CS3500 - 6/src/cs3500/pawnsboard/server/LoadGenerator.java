@@ -0,0 +1,304 @@
+package cs3500.pawnsboard.server;
+
+import cs3500.pawnsboard.model.DeckConfigReader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A load-generating client for {@link PawnsBoardServer}.
+ * Each connection plays complete games against the server on its own thread, choosing the
+ * first legal move for whichever player is to move. The client keeps its own copy of the board
+ * up to date from the server's diff pushes instead of polling the full state, and pipelines
+ * every move with the hand query for the next decision. At the end it reports moves per second.
+ */
+public class LoadGenerator {
+  private final int port;
+  private final int connections;
+  private final int gamesPerConnection;
+  private final int rows;
+  private final int cols;
+  private final AtomicLong moves;
+
+  /**
+   * Constructs a new load generator.
+   *
+   * @param port the port the server listens on
+   * @param connections the number of concurrent connections
+   * @param gamesPerConnection the number of games each connection plays
+   * @param rows the number of rows of every game
+   * @param cols the number of columns of every game
+   */
+  public LoadGenerator(int port, int connections, int gamesPerConnection, int rows, int cols) {
+    if (connections <= 0 || gamesPerConnection <= 0) {
+      throw new IllegalArgumentException("Connections and games must be positive");
+    }
+    this.port = port;
+    this.connections = connections;
+    this.gamesPerConnection = gamesPerConnection;
+    this.rows = rows;
+    this.cols = cols;
+    this.moves = new AtomicLong();
+  }
+
+  /**
+   * Runs every connection to completion.
+   *
+   * @return the measured throughput in moves (placements and passes) per second
+   * @throws InterruptedException if interrupted while waiting for the connections
+   */
+  public double run() throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    long start = System.nanoTime();
+
+    for (int i = 0; i < connections; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          playGames();
+        } catch (IOException | RuntimeException e) {
+          synchronized (failures) {
+            failures.add(e);
+          }
+        }
+      }, "load-generator-" + i);
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    if (!failures.isEmpty()) {
+      throw new IllegalStateException("Load generator failed", failures.get(0));
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    return moves.get() / seconds;
+  }
+
+  /**
+   * Gets the number of moves made so far.
+   *
+   * @return the move count
+   */
+  public long getMoveCount() {
+    return moves.get();
+  }
+
+  private void playGames() throws IOException {
+    try (SocketChannel channel = SocketChannel.open(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+      ClientConnection conn = new ClientConnection(channel);
+      for (int g = 0; g < gamesPerConnection; g++) {
+        playGame(conn);
+      }
+    }
+  }
+
+  private void playGame(ClientConnection conn) throws IOException {
+    // Pipeline the whole setup: init, start, the full state and the first hand
+    conn.send(WireProtocol.OP_INIT, out -> {
+      out.putShort((short) rows);
+      out.putShort((short) cols);
+      out.put((byte) 5);
+    });
+    conn.send(WireProtocol.OP_START, out -> { });
+    conn.send(WireProtocol.OP_STATE, out -> { });
+    conn.send(WireProtocol.OP_HAND, out -> out.put((byte) 0));
+    conn.flush();
+
+    conn.expectOk(conn.readResponse());
+    conn.expectOk(conn.readResponse());
+    ByteBuffer state = conn.readResponse();
+    conn.expectOk(state);
+    int boardRows = state.getShort();
+    int boardCols = state.getShort();
+    byte[] cells = new byte[boardRows * boardCols * 3];
+    int current = state.get();
+    // Skip the flags and scores of the status header
+    state.position(state.position() + 9);
+    state.get(cells);
+
+    ByteBuffer hand = conn.readResponse();
+    boolean over = false;
+    while (!over) {
+      conn.expectOk(hand);
+      int[] move = chooseMove(hand, cells, boardCols, current);
+
+      // Pipeline the move with the hand query for the player who moves next
+      if (move == null) {
+        conn.send(WireProtocol.OP_PASS, out -> { });
+      } else {
+        conn.send(WireProtocol.OP_PLACE, out -> {
+          out.put((byte) move[0]);
+          out.putShort((short) move[1]);
+          out.putShort((short) move[2]);
+        });
+      }
+      int next = 1 - current;
+      conn.send(WireProtocol.OP_HAND, out -> out.put((byte) next));
+      conn.flush();
+
+      conn.expectOk(conn.readResponse());
+      ByteBuffer diff = conn.readPush();
+      int count = diff.getShort();
+      for (int i = 0; i < count; i++) {
+        int cell = (diff.getShort() * boardCols + diff.getShort()) * 3;
+        diff.get(cells, cell, 3);
+      }
+      current = diff.get();
+      over = (diff.get() & 1) != 0;
+      moves.incrementAndGet();
+      hand = conn.readResponse();
+    }
+  }
+
+  /**
+   * Picks the first card and cell where the player owns enough pawns.
+   *
+   * @return the card index, row and column, or null to pass
+   */
+  private static int[] chooseMove(ByteBuffer hand, byte[] cells, int cols, int player) {
+    int count = hand.get();
+    for (int cardIndex = 0; cardIndex < count; cardIndex++) {
+      WireProtocol.getString(hand);
+      int cost = hand.get();
+      hand.get();
+      hand.getInt();
+      for (int cell = 0; cell < cells.length; cell += 3) {
+        if (cells[cell] == 1 && cells[cell + 1] == player && cells[cell + 2] >= cost) {
+          return new int[] {cardIndex, cell / 3 / cols, cell / 3 % cols};
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A blocking connection that buffers outgoing frames until flushed.
+   */
+  private static class ClientConnection {
+    private final SocketChannel channel;
+    private final ByteBuffer out;
+    private ByteBuffer in;
+    private int nextRequestId;
+
+    ClientConnection(SocketChannel channel) {
+      this.channel = channel;
+      this.out = ByteBuffer.allocate(4096);
+      this.in = ByteBuffer.allocate(64 * 1024);
+      this.in.flip();
+      this.nextRequestId = 1;
+    }
+
+    void send(byte op, Consumer<ByteBuffer> payload) {
+      int start = WireProtocol.beginFrame(out, op, nextRequestId++);
+      payload.accept(out);
+      WireProtocol.endFrame(out, start);
+    }
+
+    void flush() throws IOException {
+      out.flip();
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+      out.clear();
+    }
+
+    /**
+     * Reads the next response frame, failing if a push arrives instead.
+     *
+     * @return the payload of the response, positioned at its status byte
+     */
+    ByteBuffer readResponse() throws IOException {
+      ByteBuffer frame = readFrame();
+      if (frame.get(Integer.BYTES) == WireProtocol.PUSH_DIFF) {
+        throw new IllegalStateException("Expected a response but received a push");
+      }
+      return frame.position(WireProtocol.HEADER_SIZE);
+    }
+
+    /**
+     * Reads the next push frame.
+     *
+     * @return the payload of the push
+     */
+    ByteBuffer readPush() throws IOException {
+      ByteBuffer frame = readFrame();
+      if (frame.get(Integer.BYTES) != WireProtocol.PUSH_DIFF) {
+        throw new IllegalStateException("Expected a push but received a response");
+      }
+      return frame.position(WireProtocol.HEADER_SIZE);
+    }
+
+    void expectOk(ByteBuffer response) {
+      if (response.get() != WireProtocol.STATUS_OK) {
+        throw new IllegalStateException("Server error: " + WireProtocol.getString(response));
+      }
+    }
+
+    private ByteBuffer readFrame() throws IOException {
+      fill(Integer.BYTES);
+      int length = in.getInt(in.position());
+      if (length > WireProtocol.MAX_FRAME_SIZE) {
+        throw new IOException("Frame too large: " + length);
+      }
+      fill(Integer.BYTES + length);
+      ByteBuffer frame = in.slice(in.position(), Integer.BYTES + length);
+      in.position(in.position() + Integer.BYTES + length);
+      return frame;
+    }
+
+    private void fill(int bytes) throws IOException {
+      if (in.remaining() >= bytes) {
+        return;
+      }
+      if (in.capacity() < bytes) {
+        ByteBuffer bigger = ByteBuffer.allocate(bytes * 2);
+        bigger.put(in);
+        in = bigger;
+      } else {
+        in.compact();
+      }
+      while (in.position() < bytes) {
+        if (channel.read(in) < 0) {
+          throw new EOFException("Server closed the connection");
+        }
+      }
+      in.flip();
+    }
+  }
+
+  /**
+   * Starts an in-process server, runs the load generator against it and prints the results.
+   *
+   * @param args optional connections, games per connection, rows and columns
+   * @throws Exception if the server or a connection fails
+   */
+  public static void main(String[] args) throws Exception {
+    int connections = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+    int games = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    int rows = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+    int cols = args.length > 3 ? Integer.parseInt(args[3]) : 7;
+
+    try (PawnsBoardServer server = new PawnsBoardServer(0,
+            DeckConfigReader.readDeckCached("docs/red_deck.txt"),
+            DeckConfigReader.readDeckCached("docs/blue_deck.txt"))) {
+      server.start();
+      LoadGenerator generator = new LoadGenerator(server.getPort(), connections, games, rows, cols);
+      double movesPerSecond = generator.run();
+      System.out.printf("%d moves over %d connections: %.0f moves/sec%n",
+              generator.getMoveCount(), connections, movesPerSecond);
+    }
+  }
+}
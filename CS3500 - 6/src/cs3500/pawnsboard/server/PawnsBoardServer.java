@@ -0,0 +1,467 @@
+package cs3500.pawnsboard.server;
+
+import cs3500.pawnsboard.model.BoardDelta;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+import cs3500.pawnsboard.session.GameSession;
+import cs3500.pawnsboard.session.GameSessionManager;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A headless Pawns Board server for bots running as separate processes.
+ * It listens on localhost with non-blocking sockets and speaks the binary protocol described
+ * in {@link WireProtocol}. Every connection owns one game, hosted as a session of a
+ * {@link GameSessionManager}. All connections are served by a single selector thread:
+ * each wakeup decodes every complete pipelined request, and all responses and diff pushes
+ * produced by those requests are flushed together. A connection whose client does not read
+ * its responses stops being read once its pending output passes a cap, and is read again
+ * when the output drains.
+ */
+public class PawnsBoardServer implements AutoCloseable {
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+  // Pending output past which a connection's requests are left unread until it drains
+  private static final int MAX_PENDING_OUTPUT = 1 << 20;
+  // Status, board size and game status, ahead of three bytes per cell
+  private static final int STATE_FIXED_BYTES = 15;
+
+  private final List<Card> redDeck;
+  private final List<Card> blueDeck;
+  private final Selector selector;
+  private final ServerSocketChannel serverChannel;
+  private final GameSessionManager sessions;
+  private volatile boolean running;
+
+  /**
+   * Constructs a new server bound to the given port on the loopback interface.
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @param redDeck the deck every game deals to RED
+   * @param blueDeck the deck every game deals to BLUE
+   * @throws IOException if the server socket cannot be opened
+   */
+  public PawnsBoardServer(int port, List<Card> redDeck, List<Card> blueDeck) throws IOException {
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Decks cannot be null");
+    }
+    this.redDeck = redDeck;
+    this.blueDeck = blueDeck;
+    this.selector = Selector.open();
+    this.serverChannel = ServerSocketChannel.open();
+    this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    this.serverChannel.configureBlocking(false);
+    this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    // Every game is played by remote clients, so the manager never schedules computer turns
+    // and the shared pool is only there to satisfy it
+    this.sessions = new GameSessionManager(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Gets the port this server is listening on.
+   *
+   * @return the local port
+   * @throws IOException if the port cannot be determined
+   */
+  public int getPort() throws IOException {
+    return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+  }
+
+  /**
+   * Gets the session manager hosting the games of this server, e.g. to read latency reports.
+   *
+   * @return the session manager
+   */
+  public GameSessionManager getSessions() {
+    return sessions;
+  }
+
+  /**
+   * Starts serving on a new background thread.
+   *
+   * @return the thread running the server
+   */
+  public Thread start() {
+    Thread thread = new Thread(this::runSelector, "pawns-board-server");
+    thread.setDaemon(true);
+    running = true;
+    thread.start();
+    return thread;
+  }
+
+  /**
+   * Serves connections on the calling thread until the server is closed.
+   */
+  public void serve() {
+    running = true;
+    runSelector();
+  }
+
+  // Leaves running alone, so a close() before the thread gets here is not undone
+  private void runSelector() {
+    try {
+      while (running) {
+        selector.select();
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          try {
+            if (!key.isValid()) {
+              continue;
+            }
+            if (key.isAcceptable()) {
+              accept();
+            }
+            if (key.isValid() && key.isReadable()) {
+              read(key);
+            }
+            if (key.isValid() && key.isWritable()) {
+              // Draining may lift the cap, so requests left unread are decoded first
+              serve(key);
+            }
+          } catch (IOException | CancelledKeyException e) {
+            // A key is cancelled under us when close() drops the connection meanwhile
+            closeConnection(key);
+          }
+        }
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      if (running) {
+        System.err.println("Server stopped: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Stops serving, drops every connection and ends their games. Closing twice has no further
+   * effect.
+   *
+   * @throws IOException if a channel cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (!selector.isOpen()) {
+      return;
+    }
+    running = false;
+    selector.wakeup();
+    for (SelectionKey key : selector.keys()) {
+      key.channel().close();
+    }
+    selector.close();
+    sessions.close();
+  }
+
+  private void accept() throws IOException {
+    SocketChannel channel = serverChannel.accept();
+    if (channel == null) {
+      return;
+    }
+    channel.configureBlocking(false);
+    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    try {
+      channel.register(selector, SelectionKey.OP_READ, new Connection());
+    } finally {
+      // A close() that ran meanwhile may have missed this connection
+      if (!running) {
+        channel.close();
+      }
+    }
+  }
+
+  private void read(SelectionKey key) throws IOException {
+    SocketChannel channel = (SocketChannel) key.channel();
+    Connection conn = (Connection) key.attachment();
+
+    if (channel.read(conn.in) < 0) {
+      closeConnection(key);
+      return;
+    }
+    serve(key);
+  }
+
+  /**
+   * Handles the complete requests received so far, stopping early once the pending output
+   * passes its cap, and flushes the responses.
+   */
+  private void serve(SelectionKey key) throws IOException {
+    Connection conn = (Connection) key.attachment();
+    conn.in.flip();
+    while (conn.out.position() < MAX_PENDING_OUTPUT) {
+      ByteBuffer frame;
+      try {
+        frame = WireProtocol.nextFrame(conn.in);
+      } catch (IllegalArgumentException e) {
+        closeConnection(key);
+        return;
+      }
+      if (frame == null) {
+        break;
+      }
+      byte op = frame.get();
+      int requestId = frame.getInt();
+      handle(conn, op, requestId, frame.slice());
+    }
+    conn.in.compact();
+    if (!conn.in.hasRemaining()) {
+      conn.in = grow(conn.in, conn.in.capacity() * 2);
+    }
+
+    flush(key);
+  }
+
+  private void handle(Connection conn, byte op, int requestId, ByteBuffer payload) {
+    try {
+      switch (op) {
+        case WireProtocol.OP_INIT:
+          handleInit(conn, payload);
+          writeOk(conn, op, requestId);
+          break;
+        case WireProtocol.OP_START:
+          handleStart(conn);
+          writeOk(conn, op, requestId);
+          break;
+        case WireProtocol.OP_PLACE:
+          int cardIndex = payload.get();
+          int row = payload.getShort();
+          int col = payload.getShort();
+          requireSession(conn).placeCard(conn.model.getCurrentPlayer(), cardIndex, row, col);
+          writeOk(conn, op, requestId);
+          writeDiff(conn);
+          break;
+        case WireProtocol.OP_PASS:
+          requireSession(conn).passTurn(conn.model.getCurrentPlayer());
+          writeOk(conn, op, requestId);
+          writeDiff(conn);
+          break;
+        case WireProtocol.OP_STATE:
+          writeState(conn, requestId);
+          break;
+        case WireProtocol.OP_HAND:
+          writeHand(conn, requestId, Player.values()[payload.get()]);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown op: " + op);
+      }
+    } catch (IllegalArgumentException | IllegalStateException
+             | IndexOutOfBoundsException | BufferUnderflowException e) {
+      writeError(conn, op, requestId, e.getMessage() == null ? e.toString() : e.getMessage());
+    }
+  }
+
+  private void handleInit(Connection conn, ByteBuffer payload) {
+    int rows = payload.getShort();
+    int cols = payload.getShort();
+    int handSize = payload.get();
+    if (stateFrameLength(rows, cols) > WireProtocol.MAX_FRAME_SIZE) {
+      throw new IllegalArgumentException("Board too large to send: " + rows + "x" + cols);
+    }
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl();
+    model.initGame(rows, cols, redDeck, blueDeck, handSize);
+    endSession(conn);
+    conn.model = model;
+    conn.rowContents = new int[cols];
+    conn.rowOwners = new int[cols];
+    conn.rowPawns = new int[cols];
+  }
+
+  /**
+   * Gets the length field of the state frame of a board, computed in long so that no board
+   * size overflows it.
+   */
+  private static long stateFrameLength(int rows, int cols) {
+    return WireProtocol.HEADER_SIZE - Integer.BYTES + STATE_FIXED_BYTES + 3L * rows * cols;
+  }
+
+  private void handleStart(Connection conn) {
+    if (conn.model == null) {
+      throw new IllegalStateException("Game has not been initialized");
+    }
+    if (conn.session != null) {
+      throw new IllegalStateException("Game has already started");
+    }
+    GameSession session = sessions.createSession(conn.model, null, null);
+    session.start();
+    conn.session = session;
+  }
+
+  private GameSession requireSession(Connection conn) {
+    if (conn.session == null) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return conn.session;
+  }
+
+  private void writeOk(Connection conn, byte op, int requestId) {
+    ensureCapacity(conn, WireProtocol.HEADER_SIZE + 1);
+    int start = WireProtocol.beginFrame(conn.out, op, requestId);
+    conn.out.put(WireProtocol.STATUS_OK);
+    WireProtocol.endFrame(conn.out, start);
+  }
+
+  private void writeError(Connection conn, byte op, int requestId, String message) {
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    ensureCapacity(conn, WireProtocol.HEADER_SIZE + 3 + bytes.length);
+    int start = WireProtocol.beginFrame(conn.out, op, requestId);
+    conn.out.put(WireProtocol.STATUS_ERROR);
+    WireProtocol.putString(conn.out, message);
+    WireProtocol.endFrame(conn.out, start);
+  }
+
+  private void writeState(Connection conn, int requestId) {
+    ReadonlyPawnsBoardModel model = conn.model;
+    if (model == null) {
+      throw new IllegalStateException("Game has not been initialized");
+    }
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    // handleInit bounded the board, so this cannot overflow
+    ensureCapacity(conn, WireProtocol.HEADER_SIZE + STATE_FIXED_BYTES + 3 * rows * cols);
+    int start = WireProtocol.beginFrame(conn.out, WireProtocol.OP_STATE, requestId);
+    conn.out.put(WireProtocol.STATUS_OK);
+    conn.out.putShort((short) rows);
+    conn.out.putShort((short) cols);
+    WireProtocol.putStatus(conn.out, model);
+    for (int r = 0; r < rows; r++) {
+      model.readRow(r, conn.rowContents, conn.rowOwners, conn.rowPawns);
+      for (int c = 0; c < cols; c++) {
+        conn.out.put((byte) conn.rowContents[c]);
+        conn.out.put((byte) conn.rowOwners[c]);
+        conn.out.put((byte) conn.rowPawns[c]);
+      }
+    }
+    WireProtocol.endFrame(conn.out, start);
+  }
+
+  private void writeHand(Connection conn, int requestId, Player player) {
+    if (conn.model == null) {
+      throw new IllegalStateException("Game has not been initialized");
+    }
+    List<Card> hand = conn.model.getPlayerHand(player);
+    ensureCapacity(conn, WireProtocol.HEADER_SIZE + 1 + WireProtocol.handSize(hand));
+    int start = WireProtocol.beginFrame(conn.out, WireProtocol.OP_HAND, requestId);
+    conn.out.put(WireProtocol.STATUS_OK);
+    WireProtocol.putHand(conn.out, hand);
+    WireProtocol.endFrame(conn.out, start);
+  }
+
+  /**
+   * Pushes the cells changed by the last move, followed by the game status.
+   */
+  private void writeDiff(Connection conn) {
+    BoardDelta delta = conn.model.getLastDelta();
+    int changed = delta.getChangedCellCount();
+
+    ensureCapacity(conn, WireProtocol.HEADER_SIZE + 12 + 7 * changed);
+    int start = WireProtocol.beginFrame(conn.out, WireProtocol.PUSH_DIFF, 0);
+    conn.out.putShort((short) changed);
+    for (int i = 0; i < changed; i++) {
+      conn.out.putShort((short) delta.getChangedRow(i));
+      conn.out.putShort((short) delta.getChangedCol(i));
+      WireProtocol.putCell(conn.out, delta.getChangedContent(i), delta.getChangedOwner(i),
+              delta.getChangedPawnCount(i));
+    }
+    WireProtocol.putStatus(conn.out, conn.model);
+    WireProtocol.endFrame(conn.out, start);
+  }
+
+  private void flush(SelectionKey key) throws IOException {
+    Connection conn = (Connection) key.attachment();
+    SocketChannel channel = (SocketChannel) key.channel();
+    conn.out.flip();
+    channel.write(conn.out);
+    conn.out.compact();
+
+    // Only ask for write readiness while there is still data the socket would not take,
+    // and stop reading requests while too much of it is pending
+    int ops = conn.out.position() < MAX_PENDING_OUTPUT ? SelectionKey.OP_READ : 0;
+    if (conn.out.position() > 0) {
+      ops |= SelectionKey.OP_WRITE;
+    }
+    key.interestOps(ops);
+  }
+
+  private void ensureCapacity(Connection conn, int bytes) {
+    if (conn.out.remaining() < bytes) {
+      conn.out = grow(conn.out, Math.max(conn.out.capacity() * 2, conn.out.position() + bytes));
+    }
+  }
+
+  private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+    ByteBuffer bigger = ByteBuffer.allocate(capacity);
+    buffer.flip();
+    bigger.put(buffer);
+    return bigger;
+  }
+
+  private void closeConnection(SelectionKey key) {
+    Connection conn = (Connection) key.attachment();
+    if (conn != null) {
+      endSession(conn);
+    }
+    key.cancel();
+    try {
+      key.channel().close();
+    } catch (IOException e) {
+      // The connection is being dropped anyway
+    }
+  }
+
+  private void endSession(Connection conn) {
+    if (conn.session != null) {
+      sessions.removeSession(conn.session.getId());
+      conn.session = null;
+    }
+  }
+
+  /**
+   * The per-connection state: buffers and the game owned by the connection.
+   */
+  private static class Connection {
+    private ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer out = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private PawnsBoardModelImpl model;
+    private GameSession session;
+    // Rows read from the model while writing the state, sized to the board
+    private int[] rowContents;
+    private int[] rowOwners;
+    private int[] rowPawns;
+  }
+
+  /**
+   * Runs the server in the foreground.
+   *
+   * @param args optional port, red deck path and blue deck path
+   * @throws IOException if the server cannot be started
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 5353;
+    String redDeckPath = args.length > 1 ? args[1] : "docs/red_deck.txt";
+    String blueDeckPath = args.length > 2 ? args[2] : "docs/blue_deck.txt";
+
+    try (PawnsBoardServer server = new PawnsBoardServer(port,
+            DeckConfigReader.readDeckCached(redDeckPath),
+            DeckConfigReader.readDeckCached(blueDeckPath))) {
+      System.out.println("Pawns Board server listening on port " + server.getPort());
+      server.serve();
+    }
+  }
+}
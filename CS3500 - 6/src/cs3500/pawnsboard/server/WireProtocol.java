@@ -0,0 +1,191 @@
+package cs3500.pawnsboard.server;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Constants and encoding helpers for the compact binary protocol spoken by
+ * {@link PawnsBoardServer}.
+ *
+ * <p>Every frame is {@code int length, byte op, int requestId, payload}, where length counts
+ * the op, request id and payload. Requests may be pipelined: a client can send any number of
+ * frames without waiting, and responses come back in request order with the same request id.
+ * Every response payload starts with a status byte ({@link #STATUS_OK} or
+ * {@link #STATUS_ERROR} followed by a message). After each accepted move the server also
+ * pushes a {@link #PUSH_DIFF} frame (request id 0) listing only the cells that changed,
+ * taken from the model's {@link cs3500.pawnsboard.model.BoardDelta}.</p>
+ *
+ * <p>Cells are encoded as three bytes: content ordinal, owner ordinal (-1 for none) and pawn
+ * count.</p>
+ */
+public final class WireProtocol {
+  /** Request: short rows, short cols, byte handSize. */
+  public static final byte OP_INIT = 1;
+  /** Request: no payload. */
+  public static final byte OP_START = 2;
+  /** Request: byte cardIndex, short row, short col. */
+  public static final byte OP_PLACE = 3;
+  /** Request: no payload. */
+  public static final byte OP_PASS = 4;
+  /** Request: no payload. Response: status header then every cell in row-major order. */
+  public static final byte OP_STATE = 5;
+  /** Request: byte player. Response: byte count then per card UTF name, cost, value, mask. */
+  public static final byte OP_HAND = 6;
+  /** Push: short count, per cell short row, short col, cell bytes, then a status header. */
+  public static final byte PUSH_DIFF = 32;
+
+  public static final byte STATUS_OK = 0;
+  public static final byte STATUS_ERROR = 1;
+
+  /** Size of the length, op and request id fields that start every frame. */
+  public static final int HEADER_SIZE = 9;
+  /** Largest frame either side accepts. */
+  public static final int MAX_FRAME_SIZE = 16 << 20;
+
+  private WireProtocol() {
+  }
+
+  /**
+   * Starts a frame at the current position of the buffer. The length is filled in by
+   * {@link #endFrame(ByteBuffer, int)}.
+   *
+   * @param out the buffer to write to
+   * @param op the op code of the frame
+   * @param requestId the request id of the frame
+   * @return the position of the frame start, to pass to endFrame
+   */
+  public static int beginFrame(ByteBuffer out, byte op, int requestId) {
+    int start = out.position();
+    out.putInt(0);
+    out.put(op);
+    out.putInt(requestId);
+    return start;
+  }
+
+  /**
+   * Fills in the length of a frame started with {@link #beginFrame(ByteBuffer, byte, int)}.
+   *
+   * @param out the buffer the frame was written to
+   * @param start the position returned by beginFrame
+   */
+  public static void endFrame(ByteBuffer out, int start) {
+    out.putInt(start, out.position() - start - Integer.BYTES);
+  }
+
+  /**
+   * Takes the next complete frame from received bytes. The buffer is only advanced when a
+   * whole frame is available, so bytes of a partial frame stay put until the rest arrives.
+   *
+   * @param in the received bytes, ready for reading
+   * @return the frame without its length field, positioned at its op, or null if the next
+   *     frame is not complete yet
+   * @throws IllegalArgumentException if the next frame's length is shorter than its header
+   *     or longer than {@link #MAX_FRAME_SIZE}
+   */
+  public static ByteBuffer nextFrame(ByteBuffer in) {
+    if (in.remaining() < Integer.BYTES) {
+      return null;
+    }
+    int length = in.getInt(in.position());
+    if (length < HEADER_SIZE - Integer.BYTES || length > MAX_FRAME_SIZE) {
+      throw new IllegalArgumentException("Invalid frame length: " + length);
+    }
+    if (in.remaining() < Integer.BYTES + length) {
+      return null;
+    }
+    ByteBuffer frame = in.slice(in.position() + Integer.BYTES, length);
+    in.position(in.position() + Integer.BYTES + length);
+    return frame;
+  }
+
+  /**
+   * Writes the game status header: current player, flags and both total scores.
+   * Flags are bit 0 game over, bit 1 red passed, bit 2 blue passed.
+   *
+   * @param out the buffer to write to
+   * @param model the model to describe
+   */
+  public static void putStatus(ByteBuffer out, ReadonlyPawnsBoardModel model) {
+    out.put((byte) model.getCurrentPlayer().ordinal());
+    int flags = (model.isGameOver() ? 1 : 0)
+            | (model.hasPlayerPassed(Player.RED) ? 2 : 0)
+            | (model.hasPlayerPassed(Player.BLUE) ? 4 : 0);
+    out.put((byte) flags);
+    out.putInt(model.getTotalScore(Player.RED));
+    out.putInt(model.getTotalScore(Player.BLUE));
+  }
+
+  /**
+   * Writes a single cell as three bytes.
+   *
+   * @param out the buffer to write to
+   * @param content the content of the cell
+   * @param owner the owner of the cell, or null
+   * @param pawns the pawn count of the cell
+   */
+  public static void putCell(ByteBuffer out, CellContent content, Player owner, int pawns) {
+    out.put((byte) content.ordinal());
+    out.put((byte) (owner == null ? -1 : owner.ordinal()));
+    out.put((byte) pawns);
+  }
+
+  /**
+   * Writes a hand of cards.
+   *
+   * @param out the buffer to write to
+   * @param hand the cards to write
+   */
+  public static void putHand(ByteBuffer out, List<Card> hand) {
+    out.put((byte) hand.size());
+    for (Card card : hand) {
+      putString(out, card.getName());
+      out.put((byte) card.getCost());
+      out.put((byte) card.getValueScore());
+      out.putInt(card.getInfluenceMask());
+    }
+  }
+
+  /**
+   * Gets the number of bytes a hand takes on the wire.
+   *
+   * @param hand the cards to measure
+   * @return the encoded size in bytes
+   */
+  public static int handSize(List<Card> hand) {
+    int size = 1;
+    for (Card card : hand) {
+      size += Short.BYTES + card.getName().getBytes(StandardCharsets.UTF_8).length + 6;
+    }
+    return size;
+  }
+
+  /**
+   * Writes a length-prefixed UTF-8 string.
+   *
+   * @param out the buffer to write to
+   * @param s the string to write
+   */
+  public static void putString(ByteBuffer out, String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.putShort((short) bytes.length);
+    out.put(bytes);
+  }
+
+  /**
+   * Reads a length-prefixed UTF-8 string.
+   *
+   * @param in the buffer to read from
+   * @return the string read
+   */
+  public static String getString(ByteBuffer in) {
+    byte[] bytes = new byte[in.getShort() & 0xFFFF];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
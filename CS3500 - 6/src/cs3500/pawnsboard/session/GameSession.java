@@ -0,0 +1,385 @@
+package cs3500.pawnsboard.session;
+
+import cs3500.pawnsboard.Strategy.PonderingStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.metrics.Metrics;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A single game hosted by a {@link GameSessionManager}.
+ * All moves and queries on the underlying model are serialized by a lock owned by this
+ * session only, so independent games never contend with each other. Computer-controlled
+ * turns are scheduled on the manager's executor, one task per turn. A strategy decides on a
+ * copy of the model taken under the lock, so queries are not held up while it thinks.
+ */
+public class GameSession implements AutoCloseable {
+  private final long id;
+  private final PawnsBoardModel model;
+  private final Strategy redStrategy;
+  private final Strategy blueStrategy;
+  private final Executor aiExecutor;
+  private final ReentrantLock lock;
+  private final CompletableFuture<Void> gameOver;
+  private volatile boolean closed;
+
+  // Counts the moves applied, guarded by the session lock; a computer move decided on an
+  // older copy of the model is dropped
+  private long version;
+
+  // Latency statistics, guarded by the session lock
+  private long moveCount;
+  private long totalMoveNanos;
+  private long maxMoveNanos;
+
+  /**
+   * Constructs a new session around an initialized (but not started) model.
+   *
+   * @param id the identifier of this session
+   * @param model the model to host, already initialized with initGame
+   * @param redStrategy the strategy playing RED, or null if RED is a human
+   * @param blueStrategy the strategy playing BLUE, or null if BLUE is a human
+   * @param aiExecutor the executor computer-controlled turns are scheduled on
+   */
+  GameSession(long id, PawnsBoardModel model, Strategy redStrategy, Strategy blueStrategy,
+              Executor aiExecutor) {
+    if (model == null || aiExecutor == null) {
+      throw new IllegalArgumentException("Model and executor cannot be null");
+    }
+    this.id = id;
+    this.model = model;
+    this.redStrategy = redStrategy;
+    this.blueStrategy = blueStrategy;
+    this.aiExecutor = aiExecutor;
+    this.lock = new ReentrantLock();
+    this.gameOver = new CompletableFuture<>();
+  }
+
+  /**
+   * Gets the identifier of this session.
+   *
+   * @return the session id
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Starts the game and schedules the first computer turn if RED is computer-controlled.
+   *
+   * @throws IllegalStateException if the game has already started
+   */
+  public void start() {
+    lock.lock();
+    try {
+      model.startGame();
+    } finally {
+      lock.unlock();
+    }
+    scheduleComputerTurnIfNeeded();
+  }
+
+  /**
+   * Places a card for a human player.
+   *
+   * @param player the player making the move
+   * @param cardIndex the index of the card in the player's hand
+   * @param row the row to place the card
+   * @param col the column to place the card
+   * @throws IllegalArgumentException if it is not the player's turn or the move is invalid
+   * @throws IllegalStateException if the game is over
+   */
+  public void placeCard(Player player, int cardIndex, int row, int col) {
+    lock.lock();
+    try {
+      checkTurn(player);
+      long start = System.nanoTime();
+      model.placeCard(cardIndex, row, col);
+      version++;
+      recordMove(System.nanoTime() - start);
+    } finally {
+      lock.unlock();
+    }
+    afterMove();
+  }
+
+  /**
+   * Passes the turn for a human player.
+   *
+   * @param player the player passing
+   * @throws IllegalArgumentException if it is not the player's turn
+   * @throws IllegalStateException if the game is over
+   */
+  public void passTurn(Player player) {
+    lock.lock();
+    try {
+      checkTurn(player);
+      long start = System.nanoTime();
+      model.passTurn();
+      version++;
+      recordMove(System.nanoTime() - start);
+    } finally {
+      lock.unlock();
+    }
+    afterMove();
+  }
+
+  /**
+   * Runs a read-only query against the model while holding the session lock.
+   *
+   * @param query the query to run
+   * @param <T> the result type of the query
+   * @return the result of the query
+   */
+  public <T> T query(Function<ReadonlyPawnsBoardModel, T> query) {
+    lock.lock();
+    try {
+      return query.apply(model);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a future that completes once the game in this session is over.
+   *
+   * @return a future completed when the game ends
+   */
+  public CompletableFuture<Void> onGameOver() {
+    return gameOver;
+  }
+
+  /**
+   * Gets a snapshot of the move latency recorded in this session so far.
+   * Latency covers the time from a turn being picked up until the move has been applied,
+   * including strategy computation for computer-controlled players.
+   *
+   * @return the latency statistics of this session
+   */
+  public MoveLatency getMoveLatency() {
+    lock.lock();
+    try {
+      return new MoveLatency(moveCount, totalMoveNanos, maxMoveNanos);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Closes this session: no more computer turns are scheduled, a computer move still being
+   * decided is dropped, and strategies that run background work, such as a
+   * {@link PonderingStrategy}, are closed. A game that is not over never completes its
+   * {@link #onGameOver()} future normally.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    closeStrategies();
+    gameOver.cancel(false);
+  }
+
+  /**
+   * Checks whether this session has been closed.
+   *
+   * @return true if {@link #close()} was called
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Plays one computer-controlled turn. Runs on the manager's executor.
+   */
+  private void playComputerTurn() {
+    Player player;
+    Strategy strategy;
+    ReadonlyPawnsBoardModel snapshot;
+    long decidedAt;
+    long start = System.nanoTime();
+    lock.lock();
+    try {
+      if (closed || model.isGameOver()) {
+        return;
+      }
+      player = model.getCurrentPlayer();
+      strategy = strategyFor(player);
+      if (strategy == null) {
+        return;
+      }
+      snapshot = model.copy();
+      decidedAt = version;
+    } finally {
+      lock.unlock();
+    }
+
+    Move move;
+    try {
+      move = strategy.chooseMove(snapshot, player);
+    } catch (RuntimeException e) {
+      gameOver.completeExceptionally(e);
+      return;
+    }
+    Metrics.global().chooseMoveLatency(strategy.getClass())
+            .record(System.nanoTime() - start);
+
+    lock.lock();
+    try {
+      if (closed || version != decidedAt) {
+        return;
+      }
+      if (move == null) {
+        model.passTurn();
+      } else {
+        model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+      }
+      version++;
+      recordMove(System.nanoTime() - start);
+    } catch (RuntimeException e) {
+      gameOver.completeExceptionally(e);
+      return;
+    } finally {
+      lock.unlock();
+    }
+    afterMove();
+  }
+
+  /**
+   * Completes the game-over future or schedules the next computer turn.
+   */
+  private void afterMove() {
+    boolean over = query(ReadonlyPawnsBoardModel::isGameOver);
+    if (over) {
+      closeStrategies();
+      gameOver.complete(null);
+    } else {
+      scheduleComputerTurnIfNeeded();
+    }
+  }
+
+  /**
+   * Schedules a computer turn if the current player is computer-controlled. On a human's
+   * turn, a {@link PonderingStrategy} playing against them starts preparing its replies.
+   */
+  private void scheduleComputerTurnIfNeeded() {
+    Player current = query(ReadonlyPawnsBoardModel::getCurrentPlayer);
+    if (closed || gameOver.isDone()) {
+      return;
+    }
+    if (strategyFor(current) != null) {
+      try {
+        aiExecutor.execute(this::playComputerTurn);
+      } catch (RejectedExecutionException e) {
+        // The manager was closed; nobody is left to play this game
+        close();
+      }
+    } else if (strategyFor(current.opponent()) instanceof PonderingStrategy) {
+      PonderingStrategy ponderer = (PonderingStrategy) strategyFor(current.opponent());
+      lock.lock();
+      try {
+        // The human may already have moved
+        if (model.getCurrentPlayer() == current) {
+          ponderer.ponder(model);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void closeStrategies() {
+    for (Strategy strategy : new Strategy[] {redStrategy, blueStrategy}) {
+      if (strategy instanceof AutoCloseable) {
+        try {
+          ((AutoCloseable) strategy).close();
+        } catch (Exception e) {
+          // Closing only stops background work; the game is unaffected
+        }
+      }
+    }
+  }
+
+  private Strategy strategyFor(Player player) {
+    return player == Player.RED ? redStrategy : blueStrategy;
+  }
+
+  private void checkTurn(Player player) {
+    if (model.getCurrentPlayer() != player) {
+      throw new IllegalArgumentException("It is not " + player + "'s turn");
+    }
+    if (strategyFor(player) != null) {
+      throw new IllegalArgumentException(player + " is controlled by a strategy");
+    }
+  }
+
+  private void recordMove(long nanos) {
+    moveCount++;
+    totalMoveNanos += nanos;
+    maxMoveNanos = Math.max(maxMoveNanos, nanos);
+  }
+
+  /**
+   * An immutable snapshot of the move latency of a session.
+   */
+  public static class MoveLatency {
+    private final long moveCount;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a new latency snapshot.
+     *
+     * @param moveCount the number of moves recorded
+     * @param totalNanos the total time spent on those moves in nanoseconds
+     * @param maxNanos the slowest move in nanoseconds
+     */
+    public MoveLatency(long moveCount, long totalNanos, long maxNanos) {
+      this.moveCount = moveCount;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the number of moves recorded.
+     *
+     * @return the move count
+     */
+    public long getMoveCount() {
+      return moveCount;
+    }
+
+    /**
+     * Gets the average move latency.
+     *
+     * @return the average latency in nanoseconds, or 0 if no moves were made
+     */
+    public long getAverageNanos() {
+      return moveCount == 0 ? 0 : totalNanos / moveCount;
+    }
+
+    /**
+     * Gets the slowest move latency.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxNanos() {
+      return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+      return "MoveLatency{moves=" + moveCount + ", avgNanos=" + getAverageNanos()
+              + ", maxNanos=" + maxNanos + "}";
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package cs3500.pawnsboard.session;
+
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many concurrent Pawns Board games in one JVM.
+ * Each {@link GameSession} serializes its own moves with a per-game lock, so there is no
+ * global lock between games. Computer-controlled turns of every session are scheduled on a
+ * shared executor, one short task per turn, which keeps hundreds of bot games interleaved.
+ */
+public class GameSessionManager implements AutoCloseable {
+  private final Map<Long, GameSession> sessions;
+  private final AtomicLong nextId;
+  private final ExecutorService aiExecutor;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new manager that runs computer turns on a pool sized to the machine.
+   */
+  public GameSessionManager() {
+    this(Executors.newWorkStealingPool());
+  }
+
+  /**
+   * Constructs a new manager that runs computer turns on the given executor.
+   * On runtimes with virtual threads, a virtual-thread-per-task executor can be passed here.
+   *
+   * @param aiExecutor the executor computer turns are scheduled on
+   * @throws IllegalArgumentException if the executor is null
+   */
+  public GameSessionManager(ExecutorService aiExecutor) {
+    if (aiExecutor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    this.sessions = new ConcurrentHashMap<>();
+    this.nextId = new AtomicLong(1);
+    this.aiExecutor = aiExecutor;
+  }
+
+  /**
+   * Creates a new session around an initialized model. The session is not started until
+   * {@link GameSession#start()} is called.
+   *
+   * @param model the model to host, already initialized with initGame
+   * @param redStrategy the strategy playing RED, or null if RED is a human
+   * @param blueStrategy the strategy playing BLUE, or null if BLUE is a human
+   * @return the new session
+   * @throws IllegalStateException if this manager has been closed
+   */
+  public GameSession createSession(PawnsBoardModel model, Strategy redStrategy,
+                                   Strategy blueStrategy) {
+    if (closed) {
+      throw new IllegalStateException("Session manager is closed");
+    }
+    long id = nextId.getAndIncrement();
+    GameSession session = new GameSession(id, model, redStrategy, blueStrategy, aiExecutor);
+    sessions.put(id, session);
+    return session;
+  }
+
+  /**
+   * Gets the session with the given id.
+   *
+   * @param id the session id
+   * @return the session
+   * @throws IllegalArgumentException if no session has that id
+   */
+  public GameSession getSession(long id) {
+    GameSession session = sessions.get(id);
+    if (session == null) {
+      throw new IllegalArgumentException("No session with id: " + id);
+    }
+    return session;
+  }
+
+  /**
+   * Removes a session from this manager and closes it, so its pending computer turns and
+   * background work stop.
+   *
+   * @param id the session id
+   */
+  public void removeSession(long id) {
+    GameSession session = sessions.remove(id);
+    if (session != null) {
+      session.close();
+    }
+  }
+
+  /**
+   * Gets all sessions currently hosted.
+   *
+   * @return an unmodifiable view of the hosted sessions
+   */
+  public Collection<GameSession> getSessions() {
+    return Collections.unmodifiableCollection(sessions.values());
+  }
+
+  /**
+   * Reports the move latency of every hosted session, ordered by session id.
+   *
+   * @return a map from session id to its latency statistics
+   */
+  public Map<Long, GameSession.MoveLatency> latencyReport() {
+    Map<Long, GameSession.MoveLatency> report = new LinkedHashMap<>();
+    sessions.keySet().stream().sorted().forEach(id -> {
+      GameSession session = sessions.get(id);
+      if (session != null) {
+        report.put(id, session.getMoveLatency());
+      }
+    });
+    return report;
+  }
+
+  /**
+   * Closes every session, stops the executor and waits briefly for running turns to finish,
+   * interrupting them if they do not. No sessions can be created afterwards.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (GameSession session : sessions.values()) {
+      session.close();
+    }
+    sessions.clear();
+    aiExecutor.shutdown();
+    try {
+      if (!aiExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        aiExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      aiExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
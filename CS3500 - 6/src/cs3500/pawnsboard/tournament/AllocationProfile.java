@@ -0,0 +1,123 @@
+package cs3500.pawnsboard.tournament;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Allocated bytes recorded by a {@link TournamentRunner} in allocation-profiling mode.
+ * Bytes are measured with the JVM's per-thread allocation counter, so a measurement only
+ * covers allocations made on the thread playing the game.
+ */
+public class AllocationProfile {
+  private final com.sun.management.ThreadMXBean threads;
+  private final Map<Class<?>, long[]> strategyCalls;
+  private long moves;
+  private long moveBytes;
+  private long maxMoveBytes;
+
+  /**
+   * Constructs a new, empty profile.
+   *
+   * @throws IllegalStateException if the JVM cannot measure per-thread allocation
+   */
+  AllocationProfile() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      throw new IllegalStateException("This JVM cannot measure per-thread allocation");
+    }
+    this.threads = (com.sun.management.ThreadMXBean) bean;
+    if (!threads.isThreadAllocatedMemorySupported()) {
+      throw new IllegalStateException("This JVM cannot measure per-thread allocation");
+    }
+    threads.setThreadAllocatedMemoryEnabled(true);
+    this.strategyCalls = new LinkedHashMap<>();
+  }
+
+  /**
+   * Gets the bytes allocated so far by the current thread.
+   *
+   * @return the allocated byte count
+   */
+  long allocatedBytes() {
+    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Records the bytes allocated by one move, including the strategy call that chose it.
+   *
+   * @param bytes the allocated bytes
+   */
+  void recordMove(long bytes) {
+    moves++;
+    moveBytes += bytes;
+    maxMoveBytes = Math.max(maxMoveBytes, bytes);
+  }
+
+  /**
+   * Records the bytes allocated by one strategy call.
+   *
+   * @param strategy the class of the strategy called
+   * @param bytes the allocated bytes
+   */
+  void recordStrategyCall(Class<?> strategy, long bytes) {
+    long[] stats = strategyCalls.computeIfAbsent(strategy, k -> new long[3]);
+    stats[0]++;
+    stats[1] += bytes;
+    stats[2] = Math.max(stats[2], bytes);
+  }
+
+  /**
+   * Gets the number of moves recorded.
+   *
+   * @return the move count
+   */
+  public long getMoves() {
+    return moves;
+  }
+
+  /**
+   * Gets the average bytes allocated per move.
+   *
+   * @return the average, or 0 if no moves were recorded
+   */
+  public long getBytesPerMove() {
+    return moves == 0 ? 0 : moveBytes / moves;
+  }
+
+  /**
+   * Gets the average bytes allocated per call of a strategy.
+   *
+   * @param strategy the class of the strategy
+   * @return the average, or 0 if the strategy was never called
+   */
+  public long getBytesPerCall(Class<?> strategy) {
+    long[] stats = strategyCalls.get(strategy);
+    return stats == null || stats[0] == 0 ? 0 : stats[1] / stats[0];
+  }
+
+  /**
+   * Formats the profile as a text report, one line per strategy.
+   *
+   * @return the report
+   */
+  public String report() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("moves: ").append(moves)
+            .append(", bytes/move: ").append(getBytesPerMove())
+            .append(", max bytes/move: ").append(maxMoveBytes).append("\n");
+    for (Map.Entry<Class<?>, long[]> entry : strategyCalls.entrySet()) {
+      long[] stats = entry.getValue();
+      sb.append(entry.getKey().getSimpleName())
+              .append(": calls: ").append(stats[0])
+              .append(", bytes/call: ").append(stats[1] / stats[0])
+              .append(", max bytes/call: ").append(stats[2]).append("\n");
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return report();
+  }
+}
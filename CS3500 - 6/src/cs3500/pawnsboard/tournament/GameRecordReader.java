@@ -0,0 +1,540 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reads a game-record file written by {@link GameRecordWriter}. Opening a record reads only
+ * the game results and strategy names; plies are read one chunk at a time while scanning and
+ * handed out through a single reused {@link Ply} cursor, so a scan allocates nothing per ply
+ * and its memory does not grow with the size of the record.
+ */
+public final class GameRecordReader {
+  private static final CellContent[] CONTENTS = CellContent.values();
+  private static final Player[] PLAYERS = Player.values();
+
+  private final Path path;
+  private final int rows;
+  private final int cols;
+  private final List<String> strategies;
+  private final long[] plyChunks;
+  private final long plyCount;
+  private final int gameCount;
+  private byte[] winners;
+  private int[] redFinals;
+  private int[] blueFinals;
+
+  private GameRecordReader(Path path, int rows, int cols) {
+    this.path = path;
+    this.rows = rows;
+    this.cols = cols;
+    this.strategies = new ArrayList<>();
+    this.winners = new byte[16];
+    this.redFinals = new int[16];
+    this.blueFinals = new int[16];
+    Arrays.fill(winners, (byte) -1);
+
+    List<Long> chunks = new ArrayList<>();
+    long plies = 0;
+    int games = 0;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(GameRecordWriter.CHUNK_HEADER_SIZE);
+      long position = GameRecordWriter.HEADER_SIZE;
+      long size = channel.size();
+      while (position < size) {
+        header.clear();
+        readFully(channel, header, position);
+        byte type = header.get();
+        int length = header.getInt();
+        int count = header.getInt();
+        long payload = position + GameRecordWriter.CHUNK_HEADER_SIZE;
+        if (length < 0 || count < 0 || payload + length > size) {
+          throw new IllegalArgumentException("Corrupt game record: " + path);
+        }
+        if (type == GameRecordWriter.PLY_CHUNK) {
+          chunks.add(position);
+          plies += count;
+          if (count > 0) {
+            games = Math.max(games, readGameId(channel, payload, count) + 1);
+          }
+        } else if (type == GameRecordWriter.GAME_CHUNK) {
+          readResults(readPayload(channel, payload, length), count);
+        } else if (type == GameRecordWriter.STRATEGY_CHUNK) {
+          ByteBuffer in = readPayload(channel, payload, length);
+          int id = in.get();
+          byte[] name = new byte[in.getShort() & 0xFFFF];
+          in.get(name);
+          if (id != strategies.size()) {
+            throw new IllegalArgumentException("Corrupt game record: " + path);
+          }
+          strategies.add(new String(name, StandardCharsets.UTF_8));
+        }
+        position = payload + length;
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read game record: " + path, e);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated game record: " + path, e);
+    }
+
+    this.plyChunks = new long[chunks.size()];
+    for (int i = 0; i < plyChunks.length; i++) {
+      plyChunks[i] = chunks.get(i);
+    }
+    this.plyCount = plies;
+    this.gameCount = games;
+  }
+
+  /**
+   * Opens a game record, reading its game results and strategy names.
+   *
+   * @param path the game-record file
+   * @return a reader for the record
+   * @throws IllegalArgumentException if the file cannot be read or is not a valid game record
+   */
+  public static GameRecordReader open(Path path) {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(GameRecordWriter.HEADER_SIZE);
+      if (channel.size() < GameRecordWriter.HEADER_SIZE) {
+        throw new IllegalArgumentException("Not a game record: " + path);
+      }
+      readFully(channel, header, 0);
+      if (header.getInt() != GameRecordWriter.MAGIC) {
+        throw new IllegalArgumentException("Not a game record: " + path);
+      }
+      int version = header.getInt();
+      if (version != GameRecordWriter.VERSION) {
+        throw new IllegalArgumentException("Unsupported game record version: " + version);
+      }
+      int rows = header.getInt();
+      int cols = header.getInt();
+      if (rows <= 0 || cols <= 0) {
+        throw new IllegalArgumentException("Corrupt game record: " + path);
+      }
+      return new GameRecordReader(path, rows, cols);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read game record: " + path, e);
+    }
+  }
+
+  /**
+   * Gets the number of rows of the recorded games' board.
+   *
+   * @return the number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the recorded games' board.
+   *
+   * @return the number of columns
+   */
+  public int getColumns() {
+    return cols;
+  }
+
+  /**
+   * Gets the number of recorded plies.
+   *
+   * @return the ply count
+   */
+  public long getPlyCount() {
+    return plyCount;
+  }
+
+  /**
+   * Gets the number of games with at least one recorded ply.
+   *
+   * @return the game count
+   */
+  public int getGameCount() {
+    return gameCount;
+  }
+
+  /**
+   * Gets the names of the recorded strategies, indexed by strategy id.
+   *
+   * @return an unmodifiable list of strategy names
+   */
+  public List<String> getStrategyNames() {
+    return Collections.unmodifiableList(strategies);
+  }
+
+  /**
+   * Gets the winner of a recorded game.
+   *
+   * @param game the game id
+   * @return the winner, or null for a tie
+   * @throws IllegalArgumentException if the record holds no result for the game
+   */
+  public Player getWinner(int game) {
+    int winner = winnerCode(game);
+    if (winner < 0) {
+      throw new IllegalArgumentException("No result recorded for game " + game);
+    }
+    return winner == GameRecordWriter.TIE ? null : PLAYERS[winner];
+  }
+
+  /**
+   * Gets a player's final score in a recorded game.
+   *
+   * @param game the game id
+   * @param player the player
+   * @return the player's total score when the game ended
+   * @throws IllegalArgumentException if the record holds no result for the game
+   */
+  public int getFinalScore(int game, Player player) {
+    getWinner(game);
+    return player == Player.RED ? redFinals[game] : blueFinals[game];
+  }
+
+  /**
+   * Visits every recorded ply in order. The cursor passed to the visitor is reused for every
+   * ply and is only valid during the call.
+   *
+   * @param visitor receives each ply
+   * @throws IllegalArgumentException if the visitor is null or the file cannot be read
+   */
+  public void scan(Consumer<Ply> visitor) {
+    if (visitor == null) {
+      throw new IllegalArgumentException("Visitor cannot be null");
+    }
+    if (plyChunks.length == 0) {
+      return;
+    }
+    Ply ply = new Ply();
+    ByteBuffer chunk = null;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(GameRecordWriter.CHUNK_HEADER_SIZE);
+      for (long position : plyChunks) {
+        header.clear();
+        readFully(channel, header, position);
+        header.get();
+        int length = header.getInt();
+        int count = header.getInt();
+        if (chunk == null || chunk.capacity() < length) {
+          chunk = ByteBuffer.allocate(length);
+        }
+        chunk.clear().limit(length);
+        readFully(channel, chunk, position + GameRecordWriter.CHUNK_HEADER_SIZE);
+        ply.setChunk(chunk, count);
+        for (int i = 0; i < count; i++) {
+          ply.index = i;
+          visitor.accept(ply);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read game record: " + path, e);
+    }
+  }
+
+  /**
+   * Computes how often the player making a ply went on to win, grouped by a feature of the
+   * ply. Plies of games without a recorded result, and plies whose feature falls outside
+   * {@code [0, buckets)}, are skipped; a tie counts as a loss for both players.
+   *
+   * @param feature maps a ply to its bucket
+   * @param buckets the number of buckets
+   * @return the win rate of each bucket, or NaN for a bucket with no plies
+   * @throws IllegalArgumentException if the feature is null or buckets is not positive
+   */
+  public double[] winRateBy(ToIntFunction<Ply> feature, int buckets) {
+    if (feature == null || buckets <= 0) {
+      throw new IllegalArgumentException("Need a feature and a positive number of buckets");
+    }
+    long[] wins = new long[buckets];
+    long[] totals = new long[buckets];
+    scan(ply -> {
+      if (!ply.hasResult()) {
+        return;
+      }
+      int bucket = feature.applyAsInt(ply);
+      if (bucket >= 0 && bucket < buckets) {
+        totals[bucket]++;
+        if (ply.moverWon()) {
+          wins[bucket]++;
+        }
+      }
+    });
+    double[] rates = new double[buckets];
+    for (int i = 0; i < buckets; i++) {
+      rates[i] = totals[i] == 0 ? Double.NaN : (double) wins[i] / totals[i];
+    }
+    return rates;
+  }
+
+  /**
+   * A cursor over the recorded plies. Positions are as they were before the ply's move.
+   */
+  public final class Ply {
+    private ByteBuffer chunk;
+    private int count;
+    private int index;
+
+    private Ply() {
+    }
+
+    private void setChunk(ByteBuffer chunk, int count) {
+      this.chunk = chunk;
+      this.count = count;
+    }
+
+    /**
+     * Gets the id of the game this ply belongs to, counting games from 0.
+     *
+     * @return the game id
+     */
+    public int getGame() {
+      return chunk.getInt(4 * index);
+    }
+
+    /**
+     * Gets the number of this ply within its game, counting from 0.
+     *
+     * @return the ply number
+     */
+    public int getPly() {
+      return chunk.getShort(4 * count + 2 * index);
+    }
+
+    /**
+     * Gets the player making this ply.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+      return PLAYERS[chunk.get(6 * count + index)];
+    }
+
+    /**
+     * Gets the id of the strategy that chose this ply.
+     *
+     * @return the strategy id, an index into {@link #getStrategyNames()}
+     */
+    public int getStrategyId() {
+      return chunk.get(7 * count + index);
+    }
+
+    /**
+     * Gets the name of the strategy that chose this ply.
+     *
+     * @return the strategy's simple class name
+     */
+    public String getStrategy() {
+      return strategies.get(getStrategyId());
+    }
+
+    /**
+     * Whether the player passed.
+     *
+     * @return true if this ply is a pass
+     */
+    public boolean isPass() {
+      return getRow() < 0;
+    }
+
+    /**
+     * Gets the cost of the card played.
+     *
+     * @return the cost, or 0 for a pass
+     */
+    public int getCardCost() {
+      return chunk.get(8 * count + index) & 0xFF;
+    }
+
+    /**
+     * Gets the value score of the card played.
+     *
+     * @return the value, or 0 for a pass
+     */
+    public int getCardValue() {
+      return chunk.get(9 * count + index) & 0xFF;
+    }
+
+    /**
+     * Gets the influence mask of the card played, as returned by
+     * {@link cs3500.pawnsboard.model.Card#getInfluenceMask()}.
+     *
+     * @return the mask, or 0 for a pass
+     */
+    public int getCardMask() {
+      return chunk.getInt(10 * count + 4 * index);
+    }
+
+    /**
+     * Gets the row the card was placed in.
+     *
+     * @return the row, or -1 for a pass
+     */
+    public int getRow() {
+      return chunk.getShort(14 * count + 2 * index);
+    }
+
+    /**
+     * Gets the column the card was placed in.
+     *
+     * @return the column, or -1 for a pass
+     */
+    public int getCol() {
+      return chunk.getShort(16 * count + 2 * index);
+    }
+
+    /**
+     * Gets a player's total score before this ply.
+     *
+     * @param player the player
+     * @return the total score
+     */
+    public int getScore(Player player) {
+      int column = player == Player.RED ? 18 : 22;
+      return chunk.getInt(column * count + 4 * index);
+    }
+
+    /**
+     * Gets the content of a cell before this ply.
+     *
+     * @param row the row
+     * @param col the column
+     * @return the content
+     * @throws IllegalArgumentException if the cell is outside the board
+     */
+    public CellContent getContent(int row, int col) {
+      return CONTENTS[cell(row, col) & 0x3];
+    }
+
+    /**
+     * Gets the owner of a cell before this ply.
+     *
+     * @param row the row
+     * @param col the column
+     * @return the owner, or null if the cell has no owner
+     * @throws IllegalArgumentException if the cell is outside the board
+     */
+    public Player getOwner(int row, int col) {
+      int owner = (cell(row, col) >> 2 & 0x3) - 1;
+      return owner < 0 ? null : PLAYERS[owner];
+    }
+
+    /**
+     * Gets the pawn count of a cell before this ply.
+     *
+     * @param row the row
+     * @param col the column
+     * @return the pawn count
+     * @throws IllegalArgumentException if the cell is outside the board
+     */
+    public int getPawns(int row, int col) {
+      return cell(row, col) >> 4 & 0x3;
+    }
+
+    /**
+     * Whether the record holds the result of this ply's game.
+     *
+     * @return true if the game's result was recorded
+     */
+    public boolean hasResult() {
+      return winnerCode(getGame()) >= 0;
+    }
+
+    /**
+     * Gets the winner of this ply's game.
+     *
+     * @return the winner, or null for a tie
+     * @throws IllegalArgumentException if the record holds no result for the game
+     */
+    public Player getWinner() {
+      return GameRecordReader.this.getWinner(getGame());
+    }
+
+    /**
+     * Whether the player making this ply won the game.
+     *
+     * @return true if the mover won
+     * @throws IllegalArgumentException if the record holds no result for the game
+     */
+    public boolean moverWon() {
+      return getWinner() == getPlayer();
+    }
+
+    private int cell(int row, int col) {
+      if (row < 0 || row >= rows || col < 0 || col >= cols) {
+        throw new IllegalArgumentException("Invalid cell: " + row + ", " + col);
+      }
+      int plane = GameRecordWriter.PLY_FIXED_BYTES * count + index * rows * cols;
+      return chunk.get(plane + row * cols + col);
+    }
+  }
+
+  private int winnerCode(int game) {
+    return game >= 0 && game < winners.length ? winners[game] : -1;
+  }
+
+  private void readResults(ByteBuffer in, int count) {
+    for (int i = 0; i < count; i++) {
+      int game = in.getInt(4 * i);
+      if (game < 0) {
+        throw new IllegalArgumentException("Corrupt game record: " + path);
+      }
+      if (game >= winners.length) {
+        int size = Math.max(game + 1, winners.length * 2);
+        int old = winners.length;
+        winners = Arrays.copyOf(winners, size);
+        Arrays.fill(winners, old, size, (byte) -1);
+        redFinals = Arrays.copyOf(redFinals, size);
+        blueFinals = Arrays.copyOf(blueFinals, size);
+      }
+      winners[game] = in.get(4 * count + i);
+      redFinals[game] = in.getInt(5 * count + 4 * i);
+      blueFinals[game] = in.getInt(9 * count + 4 * i);
+    }
+  }
+
+  /**
+   * Reads the id of the last game in a ply chunk, which is the highest since games are
+   * recorded in order.
+   */
+  private static int readGameId(FileChannel channel, long payload, int count)
+          throws IOException {
+    ByteBuffer id = ByteBuffer.allocate(4);
+    readFully(channel, id, payload + 4L * (count - 1));
+    return id.getInt();
+  }
+
+  private static ByteBuffer readPayload(FileChannel channel, long position, int length)
+          throws IOException {
+    ByteBuffer payload = ByteBuffer.allocate(length);
+    readFully(channel, payload, position);
+    return payload;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+          throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new BufferUnderflowException();
+      }
+      position += read;
+    }
+    buffer.flip();
+  }
+}
@@ -0,0 +1,362 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streams every ply of the games a {@link TournamentRunner} plays into a game-record file,
+ * for offline analysis with {@link GameRecordReader}. Attach a writer with
+ * {@link TournamentRunner#setMoveListener} and close it once the games are played.
+ *
+ * <p>The file is a header ({@code int} magic, {@code int} version, {@code int} rows,
+ * {@code int} columns) followed by chunks, each a {@code byte} type, an {@code int} payload
+ * length, an {@code int} record count and the payload. Records are stored column by column
+ * within a chunk, so a scan that needs one column touches little else:</p>
+ * <ul>
+ *   <li>ply chunks hold, per ply, the game id, ply number, mover, strategy id, card cost,
+ *       value and influence mask, row and column (-1 for a pass), both total scores before
+ *       the move, and the position before the move as one byte per cell: content in bits
+ *       0-1, owner + 1 in bits 2-3 and pawns in bits 4-5;</li>
+ *   <li>game chunks hold, per finished game, the game id, the winner (0 RED, 1 BLUE, 2 tie)
+ *       and both final scores;</li>
+ *   <li>strategy chunks name a strategy id the first time it is used.</li>
+ * </ul>
+ *
+ * <p>Plies and results are buffered in chunks sized by a byte budget, at least one ply each,
+ * and each chunk is written with one write call, so memory stays bounded however many games
+ * are recorded. A writer follows one game at a time and every game must use the board size
+ * the writer was created for.</p>
+ */
+public class GameRecordWriter implements TournamentRunner.MoveListener, Closeable {
+  public static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+  static final int MAGIC = 0x50424752;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int CHUNK_HEADER_SIZE = 9;
+  static final byte PLY_CHUNK = 1;
+  static final byte GAME_CHUNK = 2;
+  static final byte STRATEGY_CHUNK = 3;
+  static final int PLY_FIXED_BYTES = 26;
+  static final int GAME_BYTES = 13;
+  static final int TIE = 2;
+  // Largest chunk buffer, leaving room for the array header
+  static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8;
+
+  private final FileChannel channel;
+  private final int rows;
+  private final int cols;
+  private final int chunkPlies;
+  private final ByteBuffer buffer;
+
+  // The ply chunk being filled, one array per column
+  private final int[] games;
+  private final short[] plies;
+  private final byte[] players;
+  private final byte[] strategies;
+  private final byte[] costs;
+  private final byte[] values;
+  private final int[] masks;
+  private final short[] moveRows;
+  private final short[] moveCols;
+  private final int[] redScores;
+  private final int[] blueScores;
+  private final byte[] planes;
+  private int plyCount;
+
+  // The game chunk being filled
+  private final int[] resultGames;
+  private final byte[] winners;
+  private final int[] redFinals;
+  private final int[] blueFinals;
+  private int resultCount;
+
+  private final Map<String, Integer> strategyIds;
+  private final int[] rowContent;
+  private final int[] rowOwner;
+  private final int[] rowPawns;
+  private int game;
+  private int ply;
+  private final int[] currentStrategies;
+  private long totalPlies;
+  private boolean closed;
+
+  /**
+   * Creates a writer with the default chunk size, replacing any existing file.
+   *
+   * @param path the file to write
+   * @param rows the number of rows of every recorded game's board
+   * @param cols the number of columns of every recorded game's board
+   * @throws IllegalArgumentException if the board size is not positive or the file cannot
+   *                                  be created
+   */
+  public GameRecordWriter(Path path, int rows, int cols) {
+    this(path, rows, cols, DEFAULT_CHUNK_BYTES);
+  }
+
+  /**
+   * Creates a writer, replacing any existing file.
+   *
+   * @param path the file to write
+   * @param rows the number of rows of every recorded game's board
+   * @param cols the number of columns of every recorded game's board
+   * @param chunkBytes the number of bytes of plies buffered per chunk; a chunk holds at least
+   *                   one ply, and as many game results as plies
+   * @throws IllegalArgumentException if a size is not positive, a one-ply chunk of the board
+   *                                  would not fit in a buffer or the file cannot be created
+   */
+  public GameRecordWriter(Path path, int rows, int cols, int chunkBytes) {
+    if (rows <= 0 || cols <= 0 || chunkBytes <= 0) {
+      throw new IllegalArgumentException("Board and chunk sizes must be positive");
+    }
+    long plyBytes = PLY_FIXED_BYTES + (long) rows * cols;
+    long perChunk = Math.max(1, chunkBytes / plyBytes);
+    if (CHUNK_HEADER_SIZE + perChunk * Math.max(plyBytes, GAME_BYTES) > MAX_CHUNK_SIZE) {
+      throw new IllegalArgumentException("Board too large for a game record: " + rows + "x"
+              + cols);
+    }
+    // Every chunk size below is at most the buffer's, so none of them overflows
+    this.rows = rows;
+    this.cols = cols;
+    this.chunkPlies = (int) perChunk;
+    int cells = rows * cols;
+    this.buffer = ByteBuffer.allocate(CHUNK_HEADER_SIZE
+            + chunkPlies * Math.max(PLY_FIXED_BYTES + cells, GAME_BYTES));
+    this.games = new int[chunkPlies];
+    this.plies = new short[chunkPlies];
+    this.players = new byte[chunkPlies];
+    this.strategies = new byte[chunkPlies];
+    this.costs = new byte[chunkPlies];
+    this.values = new byte[chunkPlies];
+    this.masks = new int[chunkPlies];
+    this.moveRows = new short[chunkPlies];
+    this.moveCols = new short[chunkPlies];
+    this.redScores = new int[chunkPlies];
+    this.blueScores = new int[chunkPlies];
+    this.planes = new byte[chunkPlies * cells];
+    this.resultGames = new int[chunkPlies];
+    this.winners = new byte[chunkPlies];
+    this.redFinals = new int[chunkPlies];
+    this.blueFinals = new int[chunkPlies];
+    this.strategyIds = new HashMap<>();
+    this.rowContent = new int[cols];
+    this.rowOwner = new int[cols];
+    this.rowPawns = new int[cols];
+    this.currentStrategies = new int[2];
+    this.game = -1;
+
+    try {
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+      buffer.clear();
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols);
+      writeBuffer();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot create game record: " + path, e);
+    }
+  }
+
+  @Override
+  public void onGameStart(ReadonlyPawnsBoardModel model, Strategy red, Strategy blue) {
+    checkOpen();
+    if (model.getRows() != rows || model.getColumns() != cols) {
+      throw new IllegalArgumentException("Game record is for " + rows + "x" + cols
+              + " boards");
+    }
+    game++;
+    ply = 0;
+    currentStrategies[0] = strategyId(red);
+    currentStrategies[1] = strategyId(blue);
+  }
+
+  @Override
+  public void onMove(ReadonlyPawnsBoardModel model, Player player, Move move) {
+    checkOpen();
+    if (game < 0) {
+      throw new IllegalStateException("No game started");
+    }
+    int i = plyCount;
+    games[i] = game;
+    plies[i] = (short) Math.min(ply++, Short.MAX_VALUE);
+    players[i] = (byte) player.ordinal();
+    strategies[i] = (byte) currentStrategies[player.ordinal()];
+    if (move == null) {
+      costs[i] = 0;
+      values[i] = 0;
+      masks[i] = 0;
+      moveRows[i] = -1;
+      moveCols[i] = -1;
+    } else {
+      int card = move.getCardIndex();
+      costs[i] = (byte) model.getHandCardCost(player, card);
+      values[i] = (byte) Math.min(model.getHandCardValue(player, card), 0xFF);
+      masks[i] = model.getHandCardMask(player, card);
+      moveRows[i] = (short) move.getRow();
+      moveCols[i] = (short) move.getCol();
+    }
+    redScores[i] = model.getTotalScore(Player.RED);
+    blueScores[i] = model.getTotalScore(Player.BLUE);
+
+    int plane = i * rows * cols;
+    for (int row = 0; row < rows; row++) {
+      model.readRow(row, rowContent, rowOwner, rowPawns);
+      for (int col = 0; col < cols; col++) {
+        planes[plane++] = (byte) (rowContent[col] | (rowOwner[col] + 1) << 2
+                | rowPawns[col] << 4);
+      }
+    }
+
+    totalPlies++;
+    if (++plyCount == chunkPlies) {
+      flushPlies();
+    }
+  }
+
+  @Override
+  public void onGameOver(ReadonlyPawnsBoardModel model) {
+    checkOpen();
+    Player winner = model.getWinner();
+    resultGames[resultCount] = game;
+    winners[resultCount] = (byte) (winner == null ? TIE : winner.ordinal());
+    redFinals[resultCount] = model.getTotalScore(Player.RED);
+    blueFinals[resultCount] = model.getTotalScore(Player.BLUE);
+    if (++resultCount == chunkPlies) {
+      flushResults();
+    }
+  }
+
+  /**
+   * Gets the number of plies recorded so far.
+   *
+   * @return the ply count
+   */
+  public long getPlyCount() {
+    return totalPlies;
+  }
+
+  /**
+   * Gets the number of games started so far.
+   *
+   * @return the game count
+   */
+  public int getGameCount() {
+    return game + 1;
+  }
+
+  /**
+   * Writes the buffered plies and results and closes the file.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      flushPlies();
+      flushResults();
+    } finally {
+      closed = true;
+      channel.close();
+    }
+  }
+
+  private int strategyId(Strategy strategy) {
+    String name = strategy.getClass().getSimpleName();
+    Integer id = strategyIds.get(name);
+    if (id == null) {
+      if (strategyIds.size() > Byte.MAX_VALUE) {
+        throw new IllegalStateException("Too many strategies for one game record");
+      }
+      id = strategyIds.size();
+      strategyIds.put(name, id);
+      // Names are not bounded by the chunk size, so they get a buffer of their own
+      byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+      ByteBuffer chunk = ByteBuffer.allocate(CHUNK_HEADER_SIZE + 3 + bytes.length);
+      chunk.put(STRATEGY_CHUNK).putInt(3 + bytes.length).putInt(1);
+      chunk.put((byte) (int) id).putShort((short) bytes.length).put(bytes);
+      write(chunk);
+    }
+    return id;
+  }
+
+  private void flushPlies() {
+    if (plyCount == 0) {
+      return;
+    }
+    int n = plyCount;
+    int cells = rows * cols;
+    buffer.clear();
+    buffer.put(PLY_CHUNK).putInt(n * (PLY_FIXED_BYTES + cells)).putInt(n);
+    buffer.asIntBuffer().put(games, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.asShortBuffer().put(plies, 0, n);
+    buffer.position(buffer.position() + 2 * n);
+    buffer.put(players, 0, n).put(strategies, 0, n).put(costs, 0, n).put(values, 0, n);
+    buffer.asIntBuffer().put(masks, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.asShortBuffer().put(moveRows, 0, n);
+    buffer.position(buffer.position() + 2 * n);
+    buffer.asShortBuffer().put(moveCols, 0, n);
+    buffer.position(buffer.position() + 2 * n);
+    buffer.asIntBuffer().put(redScores, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.asIntBuffer().put(blueScores, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.put(planes, 0, n * cells);
+    writeBuffer();
+    plyCount = 0;
+  }
+
+  private void flushResults() {
+    if (resultCount == 0) {
+      return;
+    }
+    int n = resultCount;
+    buffer.clear();
+    buffer.put(GAME_CHUNK).putInt(n * GAME_BYTES).putInt(n);
+    buffer.asIntBuffer().put(resultGames, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.put(winners, 0, n);
+    buffer.asIntBuffer().put(redFinals, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    buffer.asIntBuffer().put(blueFinals, 0, n);
+    buffer.position(buffer.position() + 4 * n);
+    writeBuffer();
+    resultCount = 0;
+  }
+
+  private void writeBuffer() {
+    write(buffer);
+  }
+
+  private void write(ByteBuffer chunk) {
+    chunk.flip();
+    try {
+      while (chunk.hasRemaining()) {
+        channel.write(chunk);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot write game record", e);
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Game record is closed");
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.OpeningBook;
+import cs3500.pawnsboard.Strategy.PositionHash;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Builds an {@link OpeningBook} by watching self-play games. Attach a builder to a
+ * {@link TournamentRunner} with {@link TournamentRunner#setMoveListener}; it records the
+ * first few moves of every game and, once the game is over, credits each move with the
+ * mover's final score margin. The book keeps, per position, the move with the best average
+ * margin among those played often enough.
+ */
+public class OpeningBookBuilder implements TournamentRunner.MoveListener {
+  private final int maxPly;
+  private final int minGames;
+  private final Map<Long, Map<BookMove, long[]>> positions;
+  private final List<Long> gameKeys;
+  private final List<BookMove> gameMoves;
+  private final List<Player> gamePlayers;
+  private int ply;
+
+  /**
+   * Constructs a new, empty builder.
+   *
+   * @param maxPly the number of moves at the start of each game to record
+   * @param minGames the number of games a move must be played in to enter the book
+   * @throws IllegalArgumentException if maxPly or minGames is not positive
+   */
+  public OpeningBookBuilder(int maxPly, int minGames) {
+    if (maxPly <= 0 || minGames <= 0) {
+      throw new IllegalArgumentException("Ply limit and minimum games must be positive");
+    }
+    this.maxPly = maxPly;
+    this.minGames = minGames;
+    this.positions = new HashMap<>();
+    this.gameKeys = new ArrayList<>();
+    this.gameMoves = new ArrayList<>();
+    this.gamePlayers = new ArrayList<>();
+  }
+
+  @Override
+  public void onMove(ReadonlyPawnsBoardModel model, Player player, Move move) {
+    if (ply++ >= maxPly || move == null) {
+      return;
+    }
+    int cardIndex = move.getCardIndex();
+    gameKeys.add(PositionHash.of(model, player));
+    gameMoves.add(new BookMove(model.getHandCardCost(player, cardIndex),
+            model.getHandCardValue(player, cardIndex),
+            model.getHandCardMask(player, cardIndex), move.getRow(), move.getCol()));
+    gamePlayers.add(player);
+  }
+
+  @Override
+  public void onGameOver(ReadonlyPawnsBoardModel model) {
+    int redMargin = model.getTotalScore(Player.RED) - model.getTotalScore(Player.BLUE);
+    for (int i = 0; i < gameKeys.size(); i++) {
+      long[] stats = positions.computeIfAbsent(gameKeys.get(i), k -> new HashMap<>())
+              .computeIfAbsent(gameMoves.get(i), k -> new long[2]);
+      stats[0]++;
+      stats[1] += gamePlayers.get(i) == Player.RED ? redMargin : -redMargin;
+    }
+    gameKeys.clear();
+    gameMoves.clear();
+    gamePlayers.clear();
+    ply = 0;
+  }
+
+  /**
+   * Gets the number of distinct positions seen so far.
+   *
+   * @return the position count
+   */
+  public int getPositionCount() {
+    return positions.size();
+  }
+
+  /**
+   * Chooses the book move of every position seen: the move with the best average margin
+   * among those played in at least minGames games, preferring the more played on ties.
+   *
+   * @return the book entries
+   */
+  public List<OpeningBook.Entry> getEntries() {
+    List<OpeningBook.Entry> entries = new ArrayList<>();
+    for (Map.Entry<Long, Map<BookMove, long[]>> position : positions.entrySet()) {
+      BookMove best = null;
+      long bestGames = 0;
+      double bestMargin = 0;
+      for (Map.Entry<BookMove, long[]> candidate : position.getValue().entrySet()) {
+        long games = candidate.getValue()[0];
+        double margin = (double) candidate.getValue()[1] / games;
+        if (games >= minGames && (best == null || margin > bestMargin
+                || (margin == bestMargin && games > bestGames))) {
+          best = candidate.getKey();
+          bestGames = games;
+          bestMargin = margin;
+        }
+      }
+      if (best != null) {
+        entries.add(new OpeningBook.Entry(position.getKey(), best.cost, best.value, best.mask,
+                best.row, best.col, (int) Math.min(bestGames, Integer.MAX_VALUE),
+                (float) bestMargin));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Writes the book built so far.
+   *
+   * @param path the file to write
+   * @throws IllegalArgumentException if the file cannot be written
+   */
+  public void write(Path path) {
+    OpeningBook.write(path, getEntries());
+  }
+
+  /**
+   * Wraps a strategy so that it sometimes plays a random legal move instead, so that
+   * self-play between deterministic strategies explores more than one line.
+   *
+   * @param strategy the strategy to wrap
+   * @param rate the chance of playing a random move, between 0 and 1
+   * @param seed the seed of the random choices
+   * @return the exploring strategy
+   * @throws IllegalArgumentException if the rate is not between 0 and 1
+   */
+  public static Strategy exploring(Strategy strategy, double rate, long seed) {
+    if (rate < 0 || rate > 1) {
+      throw new IllegalArgumentException("Exploration rate must be between 0 and 1");
+    }
+    Random random = new Random(seed);
+    return (model, player) -> {
+      if (random.nextDouble() >= rate) {
+        return strategy.chooseMove(model, player);
+      }
+      List<Move> legal = new ArrayList<>();
+      int handSize = model.getHandSize(player);
+      for (int row = 0; row < model.getRows(); row++) {
+        for (int col = 0; col < model.getColumns(); col++) {
+          for (int card = 0; card < handSize; card++) {
+            if (model.isLegalMove(card, row, col)) {
+              legal.add(new Move(card, row, col));
+            }
+          }
+        }
+      }
+      return legal.isEmpty() ? null : legal.get(random.nextInt(legal.size()));
+    };
+  }
+
+  /**
+   * Builds a book from self-play with the decks in docs/ on a 5x7 board.
+   *
+   * @param args optional number of games and output file
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+    Path output = Paths.get(args.length > 1 ? args[1] : "opening.book");
+
+    List<Card> redDeck = DeckConfigReader.readDeckCached("docs/red_deck.txt");
+    List<Card> blueDeck = DeckConfigReader.readDeckCached("docs/blue_deck.txt");
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+    OpeningBookBuilder builder = new OpeningBookBuilder(6, 3);
+    runner.setMoveListener(builder);
+    runner.play(exploring(new MaximizeRowScoreStrategy(), 0.3, 1),
+            exploring(new ControlBoardStrategy(), 0.3, 2), games, 0);
+
+    builder.write(output);
+    System.out.println("Positions seen: " + builder.getPositionCount()
+            + ", book entries: " + builder.getEntries().size() + ", written to " + output);
+  }
+
+  /**
+   * A move identified by the card's properties rather than its index in the hand.
+   */
+  private static final class BookMove {
+    private final int cost;
+    private final int value;
+    private final int mask;
+    private final int row;
+    private final int col;
+
+    private BookMove(int cost, int value, int mask, int row, int col) {
+      this.cost = cost;
+      this.value = value;
+      this.mask = mask;
+      this.row = row;
+      this.col = col;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BookMove)) {
+        return false;
+      }
+      BookMove other = (BookMove) o;
+      return cost == other.cost && value == other.value && mask == other.mask
+              && row == other.row && col == other.col;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(cost, value, mask, row, col);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.EndgameSolverStrategy;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.MinMaxStrategy;
+import cs3500.pawnsboard.Strategy.ParallelMinMaxStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+import cs3500.pawnsboard.model.TracingPawnsBoardModel;
+import cs3500.pawnsboard.model.TracingPawnsBoardModel.Query;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plays headless games and counts the model queries a strategy issues per decision, by
+ * handing the strategy a {@link TracingPawnsBoardModel} instead of the game. The strategy
+ * plays RED in the first half of the games and BLUE in the second, so both sides of the
+ * board are covered.
+ */
+public class QueryProfiler {
+  private final TournamentRunner runner;
+
+  /**
+   * Constructs a new profiler that plays every game with the same decks and board size.
+   *
+   * @param redDeck the deck of the red player
+   * @param blueDeck the deck of the blue player
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the initial hand size
+   * @throws IllegalArgumentException if a deck is null
+   */
+  public QueryProfiler(List<Card> redDeck, List<Card> blueDeck, int rows, int cols,
+                       int handSize) {
+    this.runner = new TournamentRunner(redDeck, blueDeck, rows, cols, handSize);
+  }
+
+  /**
+   * Plays a series of games and counts the queries one strategy issues.
+   *
+   * @param strategy the strategy to profile
+   * @param opponent the strategy it plays against, which is not profiled
+   * @param games the number of games to play
+   * @param seed the seed of the first game; game i uses seed + i
+   * @return the queries the strategy issued
+   * @throws IllegalArgumentException if a strategy is null or games is not positive
+   */
+  public QueryProfile profile(Strategy strategy, Strategy opponent, int games, long seed) {
+    if (strategy == null || opponent == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+    if (games <= 0) {
+      throw new IllegalArgumentException("Number of games must be positive");
+    }
+    QueryProfile profile = new QueryProfile(strategy.getClass().getSimpleName());
+    Strategy traced = (model, player) -> profile.trace(strategy, model, player);
+    int asRed = (games + 1) / 2;
+    runner.play(traced, opponent, asRed, seed);
+    if (games > asRed) {
+      runner.play(opponent, traced, games - asRed, seed + asRed);
+    }
+    return profile;
+  }
+
+  /**
+   * Profiles every built-in strategy against FillFirstStrategy using the decks in docs/.
+   *
+   * @param args optional number of games per strategy
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    QueryProfiler profiler = new QueryProfiler(
+            DeckConfigReader.readDeckCached("docs/red_deck.txt"),
+            DeckConfigReader.readDeckCached("docs/blue_deck.txt"), 5, 7, 5);
+    Strategy[] strategies = {new FillFirstStrategy(), new MaximizeRowScoreStrategy(),
+        new ControlBoardStrategy(), new MinMaxStrategy(),
+        new EndgameSolverStrategy(new MaximizeRowScoreStrategy()),
+        new ParallelMinMaxStrategy()};
+    for (Strategy strategy : strategies) {
+      System.out.print(profiler.profile(strategy, new FillFirstStrategy(), games, 0).report());
+    }
+  }
+
+  /**
+   * The model queries one strategy issued while choosing its moves.
+   */
+  public static class QueryProfile {
+    private static final Query[] QUERIES = Query.values();
+
+    private final String strategy;
+    private final long[] counts;
+    private long decisions;
+    private long queries;
+    private long maxQueries;
+
+    private QueryProfile(String strategy) {
+      this.strategy = strategy;
+      this.counts = new long[QUERIES.length];
+    }
+
+    private Strategy.Move trace(Strategy inner, ReadonlyPawnsBoardModel model, Player player) {
+      TracingPawnsBoardModel tracing = new TracingPawnsBoardModel(model, 1, Integer.MAX_VALUE);
+      Strategy.Move move = inner.chooseMove(tracing, player);
+      for (Query query : QUERIES) {
+        counts[query.ordinal()] += tracing.getCount(query);
+      }
+      decisions++;
+      queries += tracing.getTotalCount();
+      maxQueries = Math.max(maxQueries, tracing.getTotalCount());
+      return move;
+    }
+
+    /**
+     * Gets the simple class name of the profiled strategy.
+     *
+     * @return the strategy name
+     */
+    public String getStrategy() {
+      return strategy;
+    }
+
+    /**
+     * Gets the number of moves the strategy chose.
+     *
+     * @return the decision count
+     */
+    public long getDecisions() {
+      return decisions;
+    }
+
+    /**
+     * Gets the number of queries the strategy issued in all.
+     *
+     * @return the query count
+     */
+    public long getQueries() {
+      return queries;
+    }
+
+    /**
+     * Gets the number of calls the strategy made to one query.
+     *
+     * @param query the query
+     * @return the call count
+     */
+    public long getCount(Query query) {
+      return counts[query.ordinal()];
+    }
+
+    /**
+     * Gets the average number of queries per decision.
+     *
+     * @return the queries per decision, or 0 if the strategy chose no moves
+     */
+    public double getQueriesPerDecision() {
+      return decisions == 0 ? 0 : (double) queries / decisions;
+    }
+
+    /**
+     * Gets the most queries the strategy issued for a single decision.
+     *
+     * @return the maximum query count
+     */
+    public long getMaxQueriesPerDecision() {
+      return maxQueries;
+    }
+
+    /**
+     * Formats the profile: queries per decision, then the queries per decision of each
+     * method the strategy called, most called first.
+     *
+     * @return the report
+     */
+    public String report() {
+      StringBuilder out = new StringBuilder();
+      out.append(String.format("%s: %d decisions, %.1f queries per decision (max %d)%n",
+              strategy, decisions, getQueriesPerDecision(), maxQueries));
+      Query[] sorted = QUERIES.clone();
+      Arrays.sort(sorted, (a, b) -> Long.compare(counts[b.ordinal()],
+              counts[a.ordinal()]));
+      for (Query query : sorted) {
+        if (counts[query.ordinal()] > 0) {
+          out.append(String.format("  %-18s %10.1f%n", query.getMethodName(),
+                  (double) counts[query.ordinal()] / Math.max(decisions, 1)));
+        }
+      }
+      return out.toString();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s: %.1f queries per decision", strategy,
+              getQueriesPerDecision());
+    }
+  }
+}
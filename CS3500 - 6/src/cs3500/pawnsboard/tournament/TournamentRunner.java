@@ -0,0 +1,429 @@
+package cs3500.pawnsboard.tournament;
+
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.FillFirstStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.MinMaxStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.Strategy.Strategy.Move;
+import cs3500.pawnsboard.metrics.Metrics;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.DeckBundle;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.PawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Plays headless games between two strategies, without a view or controller.
+ * Optionally records how many bytes each move and each strategy call allocates, see
+ * {@link #setAllocationProfiling(boolean)}.
+ */
+public class TournamentRunner {
+  private final List<Card> redDeck;
+  private final List<Card> blueDeck;
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+  private AllocationProfile allocationProfile;
+  private MoveListener moveListener;
+
+  /**
+   * Constructs a new runner that plays every game with the same decks and board size.
+   *
+   * @param redDeck the deck of the red player
+   * @param blueDeck the deck of the blue player
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the initial hand size
+   */
+  public TournamentRunner(List<Card> redDeck, List<Card> blueDeck, int rows, int cols,
+                          int handSize) {
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Decks cannot be null");
+    }
+    this.redDeck = redDeck;
+    this.blueDeck = blueDeck;
+    this.rows = rows;
+    this.cols = cols;
+    this.handSize = handSize;
+  }
+
+  /**
+   * Turns allocation profiling on or off. Turning it on starts a new, empty profile.
+   *
+   * @param enabled whether to record allocated bytes per move and per strategy call
+   * @throws IllegalStateException if the JVM cannot measure per-thread allocation
+   */
+  public void setAllocationProfiling(boolean enabled) {
+    this.allocationProfile = enabled ? new AllocationProfile() : null;
+  }
+
+  /**
+   * Gets the allocation profile recorded since profiling was turned on.
+   *
+   * @return the profile, or null if profiling is off
+   */
+  public AllocationProfile getAllocationProfile() {
+    return allocationProfile;
+  }
+
+  /**
+   * Sets the listener told about every move of every game played from now on.
+   *
+   * @param listener the listener, or null for none
+   */
+  public void setMoveListener(MoveListener listener) {
+    this.moveListener = listener;
+  }
+
+  /**
+   * Plays a series of games between two strategies.
+   *
+   * @param red the strategy playing RED
+   * @param blue the strategy playing BLUE
+   * @param games the number of games to play
+   * @param seed the seed of the first game; game i uses seed + i
+   * @return the combined result of all games
+   */
+  public TournamentResult play(Strategy red, Strategy blue, int games, long seed) {
+    TournamentResult result = new TournamentResult();
+    for (int i = 0; i < games; i++) {
+      result.add(playGame(red, blue, seed + i));
+    }
+    return result;
+  }
+
+  /**
+   * Plays a series of games between two strategies, dealing each game from its own stream
+   * split off a generator. The streams are split in game order, so a generator created from
+   * the same seed always replays the same games.
+   *
+   * @param red the strategy playing RED
+   * @param blue the strategy playing BLUE
+   * @param games the number of games to play
+   * @param random the generator to split a stream per game from
+   * @return the combined result of all games
+   */
+  public TournamentResult play(Strategy red, Strategy blue, int games,
+                               RandomGenerator.SplittableGenerator random) {
+    TournamentResult result = new TournamentResult();
+    for (int i = 0; i < games; i++) {
+      result.add(playGame(red, blue, random.split()));
+    }
+    return result;
+  }
+
+  /**
+   * Plays a series of games on several threads. Every game gets new strategies from the
+   * suppliers, since strategies may keep state between moves, and its own stream split off
+   * the generator, in game order, before any game starts. The result is the same as playing
+   * the games one after another from the same generator, whatever the number of threads.
+   *
+   * @param red supplies the strategy playing RED in each game
+   * @param blue supplies the strategy playing BLUE in each game
+   * @param games the number of games to play
+   * @param random the generator to split a stream per game from
+   * @param pool the pool to play the games in
+   * @return the combined result of all games
+   * @throws IllegalStateException if allocation profiling or a move listener is set, since
+   *                               neither can follow several games at once
+   */
+  public TournamentResult playParallel(Supplier<Strategy> red, Supplier<Strategy> blue,
+                                       int games, RandomGenerator.SplittableGenerator random,
+                                       ForkJoinPool pool) {
+    if (allocationProfile != null || moveListener != null) {
+      throw new IllegalStateException("Parallel games cannot be profiled or listened to");
+    }
+    RandomGenerator[] streams = new RandomGenerator[games];
+    for (int i = 0; i < games; i++) {
+      streams[i] = random.split();
+    }
+    GameResult[] results = pool.submit(() -> IntStream.range(0, games).parallel()
+            .mapToObj(i -> playGame(red.get(), blue.get(), streams[i]))
+            .toArray(GameResult[]::new)).join();
+
+    TournamentResult result = new TournamentResult();
+    for (GameResult game : results) {
+      result.add(game);
+    }
+    return result;
+  }
+
+  /**
+   * Plays one game between two strategies. A strategy that returns no move passes.
+   *
+   * @param red the strategy playing RED
+   * @param blue the strategy playing BLUE
+   * @param seed the seed used to deal cards
+   * @return the result of the game
+   */
+  public GameResult playGame(Strategy red, Strategy blue, long seed) {
+    return playGame(red, blue, new Random(seed));
+  }
+
+  /**
+   * Plays one game between two strategies. A strategy that returns no move passes.
+   *
+   * @param red the strategy playing RED
+   * @param blue the strategy playing BLUE
+   * @param random the generator used to deal cards
+   * @return the result of the game
+   */
+  public GameResult playGame(Strategy red, Strategy blue, RandomGenerator random) {
+    PawnsBoardModel model = new PawnsBoardModelImpl(random);
+    model.initGame(rows, cols, redDeck, blueDeck, handSize);
+    model.startGame();
+    if (moveListener != null) {
+      moveListener.onGameStart(model, red, blue);
+    }
+
+    int moves = 0;
+    while (!model.isGameOver()) {
+      Player player = model.getCurrentPlayer();
+      Strategy strategy = player == Player.RED ? red : blue;
+
+      if (allocationProfile == null) {
+        long start = System.nanoTime();
+        Move move = strategy.chooseMove(model, player);
+        Metrics.global().chooseMoveLatency(strategy.getClass())
+                .record(System.nanoTime() - start);
+        notifyMove(model, player, move);
+        applyMove(model, move);
+      } else {
+        long start = allocationProfile.allocatedBytes();
+        long startNanos = System.nanoTime();
+        Move move = strategy.chooseMove(model, player);
+        long choiceNanos = System.nanoTime() - startNanos;
+        long afterChoice = allocationProfile.allocatedBytes();
+        // Recorded after afterChoice, so the metrics are not charged to the strategy
+        Metrics.global().chooseMoveLatency(strategy.getClass()).record(choiceNanos);
+        notifyMove(model, player, move);
+        long afterListener = allocationProfile.allocatedBytes();
+        applyMove(model, move);
+        long end = allocationProfile.allocatedBytes();
+        allocationProfile.recordStrategyCall(strategy.getClass(), afterChoice - start);
+        allocationProfile.recordMove(afterChoice - start + end - afterListener);
+      }
+      moves++;
+    }
+    if (moveListener != null) {
+      moveListener.onGameOver(model);
+    }
+
+    return new GameResult(model.getWinner(), model.getTotalScore(Player.RED),
+            model.getTotalScore(Player.BLUE), moves);
+  }
+
+  /**
+   * Plays every built-in strategy against FillFirstStrategy using the decks in docs/.
+   * Pass --alloc to print the allocation profile, --metrics to print the global
+   * {@link Metrics} every second and once the games are played, and --bundle followed by a
+   * file to take the red and blue decks from a {@link DeckBundle} instead.
+   *
+   * @param args optional number of games per pairing, --alloc, --metrics, and --bundle with a
+   *             file
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 && !args[0].startsWith("--") ? Integer.parseInt(args[0]) : 100;
+    List<String> options = List.of(args);
+    boolean profile = options.contains("--alloc");
+    boolean metrics = options.contains("--metrics");
+    int bundle = options.indexOf("--bundle");
+
+    List<Card> redDeck;
+    List<Card> blueDeck;
+    if (bundle >= 0 && bundle + 1 < args.length) {
+      DeckBundle decks = DeckBundle.read(Paths.get(args[bundle + 1]));
+      redDeck = decks.getDeck("red");
+      blueDeck = decks.getDeck("blue");
+    } else {
+      redDeck = DeckConfigReader.readDeckCached("docs/red_deck.txt");
+      blueDeck = DeckConfigReader.readDeckCached("docs/blue_deck.txt");
+    }
+    TournamentRunner runner = new TournamentRunner(redDeck, blueDeck, 5, 7, 5);
+    runner.setAllocationProfiling(profile);
+
+    Strategy[] strategies = {new FillFirstStrategy(), new MaximizeRowScoreStrategy(),
+        new ControlBoardStrategy(), new MinMaxStrategy()};
+    ScheduledFuture<?> dump = metrics
+            ? Metrics.global().dumpEvery(System.out, 1, TimeUnit.SECONDS) : null;
+    for (Strategy strategy : strategies) {
+      TournamentResult result = runner.play(strategy, new FillFirstStrategy(), games, 0);
+      System.out.println(strategy.getClass().getSimpleName() + " vs FillFirstStrategy: "
+              + result);
+    }
+    if (profile) {
+      System.out.print(runner.getAllocationProfile().report());
+    }
+    if (dump != null) {
+      dump.cancel(false);
+      System.out.print(Metrics.global().dump());
+    }
+  }
+
+  private void notifyMove(ReadonlyPawnsBoardModel model, Player player, Move move) {
+    if (moveListener != null) {
+      moveListener.onMove(model, player, move);
+    }
+  }
+
+  private static void applyMove(PawnsBoardModel model, Move move) {
+    if (move == null) {
+      model.passTurn();
+    } else {
+      model.placeCard(move.getCardIndex(), move.getRow(), move.getCol());
+    }
+  }
+
+  /**
+   * Observes the games played by a runner, for example to mine them for good moves.
+   */
+  public interface MoveListener {
+
+    /**
+     * Called once a game has started, before the first move. Does nothing by default.
+     *
+     * @param model the game, with the starting hands dealt
+     * @param red the strategy playing RED
+     * @param blue the strategy playing BLUE
+     */
+    default void onGameStart(ReadonlyPawnsBoardModel model, Strategy red, Strategy blue) {
+    }
+
+    /**
+     * Called after a strategy chose a move and before the move is made.
+     *
+     * @param model the game, in the state the move was chosen in
+     * @param player the player making the move
+     * @param move the chosen move, or null for a pass
+     */
+    void onMove(ReadonlyPawnsBoardModel model, Player player, Move move);
+
+    /**
+     * Called once a game is over.
+     *
+     * @param model the finished game
+     */
+    void onGameOver(ReadonlyPawnsBoardModel model);
+  }
+
+  /**
+   * The outcome of a single game.
+   */
+  public static class GameResult {
+    private final Player winner;
+    private final int redScore;
+    private final int blueScore;
+    private final int moves;
+
+    /**
+     * Constructs a new game result.
+     *
+     * @param winner the winner, or null for a tie
+     * @param redScore the final score of RED
+     * @param blueScore the final score of BLUE
+     * @param moves the number of moves (placements and passes) made
+     */
+    public GameResult(Player winner, int redScore, int blueScore, int moves) {
+      this.winner = winner;
+      this.redScore = redScore;
+      this.blueScore = blueScore;
+      this.moves = moves;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return the winner, or null for a tie
+     */
+    public Player getWinner() {
+      return winner;
+    }
+
+    /**
+     * Gets the final score of a player.
+     *
+     * @param player the player
+     * @return the final score
+     */
+    public int getScore(Player player) {
+      return player == Player.RED ? redScore : blueScore;
+    }
+
+    /**
+     * Gets the number of moves made, counting passes.
+     *
+     * @return the number of moves
+     */
+    public int getMoves() {
+      return moves;
+    }
+  }
+
+  /**
+   * The combined outcome of a series of games.
+   */
+  public static class TournamentResult {
+    private int redWins;
+    private int blueWins;
+    private int ties;
+    private long moves;
+
+    private void add(GameResult game) {
+      if (game.getWinner() == Player.RED) {
+        redWins++;
+      } else if (game.getWinner() == Player.BLUE) {
+        blueWins++;
+      } else {
+        ties++;
+      }
+      moves += game.getMoves();
+    }
+
+    /**
+     * Gets the number of games a player won.
+     *
+     * @param player the player
+     * @return the number of wins
+     */
+    public int getWins(Player player) {
+      return player == Player.RED ? redWins : blueWins;
+    }
+
+    /**
+     * Gets the number of tied games.
+     *
+     * @return the number of ties
+     */
+    public int getTies() {
+      return ties;
+    }
+
+    /**
+     * Gets the total number of moves made across all games.
+     *
+     * @return the number of moves
+     */
+    public long getMoves() {
+      return moves;
+    }
+
+    @Override
+    public String toString() {
+      return "RED wins: " + redWins + ", BLUE wins: " + blueWins + ", ties: " + ties
+              + ", moves: " + moves;
+    }
+  }
+}
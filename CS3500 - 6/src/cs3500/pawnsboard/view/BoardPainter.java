@@ -0,0 +1,337 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Draws the board and the current player's hand onto any {@link Graphics2D}, so the GUI's
+ * panels and the {@link HeadlessBoardRenderer} share one drawing routine. Painting only reads
+ * the model, and only the cells that intersect the graphics' clip.
+ */
+final class BoardPainter {
+  static final int CARD_WIDTH = 100;
+  static final int CARD_HEIGHT = 150;
+  static final int CARD_SPACING = 10;
+  static final int HAND_HEIGHT = 200;
+
+  // Cells smaller than this, in either direction, are painted as summary colors
+  static final int DETAIL_CELL_SIZE = 16;
+
+  private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 14);
+  private static final Color RED_CARD = new Color(255, 200, 200);
+  private static final Color BLUE_CARD = new Color(200, 200, 255);
+
+  // Summary colors: empty, selected, red with 1 to 3 pawns, blue with 1 to 3 pawns,
+  // red card and blue card
+  private static final int SELECTED = 1;
+  private static final Color[] SUMMARY_COLORS = {
+      Color.WHITE, Color.CYAN,
+      new Color(255, 210, 210), new Color(255, 160, 160), new Color(255, 110, 110),
+      new Color(210, 210, 255), new Color(160, 160, 255), new Color(110, 110, 255),
+      new Color(200, 0, 0), new Color(0, 0, 200),
+  };
+
+  private BoardPainter() {
+  }
+
+  /**
+   * Paints the board: every cell, its content and the row scores of both players.
+   *
+   * @param g2d the graphics to paint with
+   * @param model the game to paint
+   * @param width the width of the area to fill
+   * @param height the height of the area to fill
+   * @param selectedRow the row of the highlighted cell, or -1 for none
+   * @param selectedCol the column of the highlighted cell, or -1 for none
+   */
+  static void paintBoard(Graphics2D g2d, ReadonlyPawnsBoardModel model, int width, int height,
+                         int selectedRow, int selectedCol) {
+    int cellWidth = Math.max(1, width / model.getColumns());
+    int cellHeight = Math.max(1, height / model.getRows());
+
+    paintCells(g2d, model, cellWidth, cellHeight, selectedRow, selectedCol);
+    paintRowScores(g2d, model, cellHeight, 5, width - 15);
+  }
+
+  /**
+   * Paints the cells of the board that intersect the clip, with the top-left cell at the
+   * origin. Cells smaller than {@link #DETAIL_CELL_SIZE} are painted as summary colors only,
+   * with neighbouring cells of the same color filled together, so painting depends on the
+   * size of the clip rather than the size of the board.
+   *
+   * @param g2d the graphics to paint with
+   * @param model the game to paint
+   * @param cellWidth the width of a cell
+   * @param cellHeight the height of a cell
+   * @param selectedRow the row of the highlighted cell, or -1 for none
+   * @param selectedCol the column of the highlighted cell, or -1 for none
+   */
+  static void paintCells(Graphics2D g2d, ReadonlyPawnsBoardModel model, int cellWidth,
+                         int cellHeight, int selectedRow, int selectedCol) {
+    int rows = model.getRows();
+    int cols = model.getColumns();
+    Rectangle clip = g2d.getClipBounds();
+    int firstRow = 0;
+    int lastRow = rows - 1;
+    int firstCol = 0;
+    int lastCol = cols - 1;
+    if (clip != null) {
+      firstRow = Math.max(firstRow, Math.floorDiv(clip.y, cellHeight));
+      lastRow = Math.min(lastRow, Math.floorDiv(clip.y + clip.height - 1, cellHeight));
+      firstCol = Math.max(firstCol, Math.floorDiv(clip.x, cellWidth));
+      lastCol = Math.min(lastCol, Math.floorDiv(clip.x + clip.width - 1, cellWidth));
+    }
+
+    if (cellWidth < DETAIL_CELL_SIZE || cellHeight < DETAIL_CELL_SIZE) {
+      paintSummary(g2d, model, cellWidth, cellHeight, firstRow, lastRow, firstCol, lastCol,
+              selectedRow, selectedCol);
+      return;
+    }
+
+    // Draw the board
+    for (int r = firstRow; r <= lastRow; r++) {
+      for (int c = firstCol; c <= lastCol; c++) {
+        // Determine cell color based on content and selection
+        Color cellColor = Color.WHITE;
+        if (r == selectedRow && c == selectedCol) {
+          cellColor = Color.CYAN;
+        }
+
+        // Draw cell background
+        g2d.setColor(cellColor);
+        g2d.fillRect(c * cellWidth, r * cellHeight, cellWidth, cellHeight);
+
+        // Draw cell border
+        g2d.setColor(Color.BLACK);
+        g2d.drawRect(c * cellWidth, r * cellHeight, cellWidth, cellHeight);
+
+        // Draw cell content
+        drawCellContent(g2d, model, r, c, cellWidth, cellHeight);
+      }
+    }
+  }
+
+  /**
+   * Paints the row scores of both players for the rows that intersect the clip. Nothing is
+   * painted when rows are too short to hold the text.
+   *
+   * @param g2d the graphics to paint with
+   * @param model the game to paint
+   * @param cellHeight the height of a row
+   * @param redX where to draw red's scores
+   * @param blueX where to draw blue's scores
+   */
+  static void paintRowScores(Graphics2D g2d, ReadonlyPawnsBoardModel model, int cellHeight,
+                             int redX, int blueX) {
+    if (cellHeight < DETAIL_CELL_SIZE) {
+      return;
+    }
+    int firstRow = 0;
+    int lastRow = model.getRows() - 1;
+    Rectangle clip = g2d.getClipBounds();
+    if (clip != null) {
+      firstRow = Math.max(firstRow, Math.floorDiv(clip.y, cellHeight));
+      lastRow = Math.min(lastRow, Math.floorDiv(clip.y + clip.height - 1, cellHeight));
+    }
+
+    // Draw row scores
+    for (int r = firstRow; r <= lastRow; r++) {
+      int redScore = model.getRowScore(Player.RED, r);
+      int blueScore = model.getRowScore(Player.BLUE, r);
+
+      g2d.setColor(Color.RED);
+      g2d.drawString(String.valueOf(redScore), redX, r * cellHeight + cellHeight / 2);
+
+      g2d.setColor(Color.BLUE);
+      g2d.drawString(String.valueOf(blueScore), blueX, r * cellHeight + cellHeight / 2);
+    }
+  }
+
+  /**
+   * Paints the hand of the player whose turn it is, with each card's influence grid.
+   *
+   * @param g2d the graphics to paint with
+   * @param model the game to paint
+   * @param selectedCardIndex the index of the highlighted card, or -1 for none
+   */
+  static void paintHand(Graphics2D g2d, ReadonlyPawnsBoardModel model, int selectedCardIndex) {
+    Player currentPlayer = model.getCurrentPlayer();
+    List<Card> hand = model.getPlayerHand(currentPlayer);
+
+    // Draw the hand title
+    g2d.setColor(currentPlayer == Player.RED ? Color.RED : Color.BLUE);
+    g2d.setFont(TITLE_FONT);
+    g2d.drawString(currentPlayer + "'s Hand", 10, 20);
+
+    // Draw each card in the hand
+    for (int i = 0; i < hand.size(); i++) {
+      Card card = hand.get(i);
+      int x = i * (CARD_WIDTH + CARD_SPACING) + 10;
+      int y = 30;
+
+      // Determine card color based on selection
+      Color cardColor = (i == selectedCardIndex) ? Color.CYAN : Color.WHITE;
+
+      // Draw card background
+      g2d.setColor(cardColor);
+      g2d.fillRect(x, y, CARD_WIDTH, CARD_HEIGHT);
+
+      // Draw card border
+      g2d.setColor(Color.BLACK);
+      g2d.drawRect(x, y, CARD_WIDTH, CARD_HEIGHT);
+
+      // Draw card details
+      g2d.drawString(card.getName(), x + 5, y + 15);
+      g2d.drawString("Cost: " + card.getCost(), x + 5, y + 30);
+      g2d.drawString("Value: " + card.getValueScore(), x + 5, y + 45);
+
+      // Draw influence grid
+      drawInfluenceGrid(g2d, card, x, y + 60, currentPlayer);
+    }
+  }
+
+  /**
+   * Gets the index of the hand card drawn at a horizontal position.
+   *
+   * @param x the position within the hand
+   * @return the card index, which may be outside the hand
+   */
+  static int cardIndexAt(int x) {
+    return (x - 10) / (CARD_WIDTH + CARD_SPACING);
+  }
+
+  private static void paintSummary(Graphics2D g2d, ReadonlyPawnsBoardModel model,
+                                   int cellWidth, int cellHeight, int firstRow, int lastRow,
+                                   int firstCol, int lastCol, int selectedRow,
+                                   int selectedCol) {
+    for (int r = firstRow; r <= lastRow; r++) {
+      int runStart = firstCol;
+      int runColor = -1;
+      for (int c = firstCol; c <= lastCol + 1; c++) {
+        int color = c > lastCol ? -1
+                : r == selectedRow && c == selectedCol ? SELECTED : summaryColor(model, r, c);
+        if (color != runColor) {
+          if (runColor >= 0) {
+            g2d.setColor(SUMMARY_COLORS[runColor]);
+            g2d.fillRect(runStart * cellWidth, r * cellHeight, (c - runStart) * cellWidth,
+                    cellHeight);
+          }
+          runStart = c;
+          runColor = color;
+        }
+      }
+    }
+  }
+
+  private static int summaryColor(ReadonlyPawnsBoardModel model, int row, int col) {
+    CellContent content = model.getCellContent(row, col);
+    if (content == CellContent.EMPTY) {
+      return 0;
+    }
+    int owner = model.getCellOwner(row, col) == Player.RED ? 0 : 1;
+    if (content == CellContent.CARD) {
+      return 8 + owner;
+    }
+    return 2 + owner * 3 + Math.min(3, model.getPawnCount(row, col)) - 1;
+  }
+
+  private static void drawCellContent(Graphics2D g2d, ReadonlyPawnsBoardModel model, int row,
+                                      int col, int cellWidth, int cellHeight) {
+    CellContent content = model.getCellContent(row, col);
+    Player owner = model.getCellOwner(row, col);
+
+    int x = col * cellWidth;
+    int y = row * cellHeight;
+
+    switch (content) {
+      case EMPTY:
+        // Draw an empty cell
+        g2d.setColor(Color.LIGHT_GRAY);
+        g2d.drawString("_", x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
+        break;
+      case PAWN:
+        // Draw pawns
+        g2d.setColor(owner == Player.RED ? Color.RED : Color.BLUE);
+        int pawnCount = model.getPawnCount(row, col);
+        g2d.drawString(String.valueOf(pawnCount), x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
+        break;
+      case CARD:
+        // Draw card
+        drawCard(g2d, model, row, col, x, y, cellWidth, cellHeight);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static void drawCard(Graphics2D g2d, ReadonlyPawnsBoardModel model, int row, int col,
+                               int x, int y, int cellWidth, int cellHeight) {
+    Card card = model.getCard(row, col);
+    Player owner = model.getCellOwner(row, col);
+
+    if (card != null) {
+      // Draw card outline
+      g2d.setColor(owner == Player.RED ? RED_CARD : BLUE_CARD);
+      g2d.fillRect(x + 2, y + 2, cellWidth - 4, cellHeight - 4);
+
+      g2d.setColor(owner == Player.RED ? Color.RED : Color.BLUE);
+      g2d.drawRect(x + 2, y + 2, cellWidth - 4, cellHeight - 4);
+
+      // Draw card name and value
+      g2d.drawString(card.getName(), x + 5, y + 15);
+      g2d.drawString("" + card.getValueScore(), x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
+    }
+  }
+
+  private static void drawInfluenceGrid(Graphics2D g2d, Card card, int x, int y,
+                                        Player player) {
+    String[] grid = card.getInfluenceGrid();
+    int cellSize = 10;
+
+    // For blue player, we need to mirror the influence grid horizontally
+    if (player == Player.BLUE) {
+      for (int r = 0; r < 5; r++) {
+        for (int c = 0; c < 5; c++) {
+          // For blue, read the character from the mirrored position
+          char ch = grid[r].charAt(4 - c);
+          drawInfluenceCell(g2d, ch, x + c * cellSize, y + r * cellSize, cellSize);
+        }
+      }
+    } else {
+      // For red player, display the grid as is
+      for (int r = 0; r < 5; r++) {
+        for (int c = 0; c < 5; c++) {
+          char ch = grid[r].charAt(c);
+          drawInfluenceCell(g2d, ch, x + c * cellSize, y + r * cellSize, cellSize);
+        }
+      }
+    }
+  }
+
+  private static void drawInfluenceCell(Graphics2D g2d, char ch, int x, int y, int cellSize) {
+    if (ch == 'I') {
+      g2d.setColor(Color.GREEN);
+      g2d.fillRect(x, y, cellSize, cellSize);
+    } else if (ch == 'C') {
+      g2d.setColor(Color.RED);
+      g2d.fillRect(x, y, cellSize, cellSize);
+    } else {
+      g2d.setColor(Color.WHITE);
+      g2d.fillRect(x, y, cellSize, cellSize);
+    }
+
+    g2d.setColor(Color.BLACK);
+    g2d.drawRect(x, y, cellSize, cellSize);
+
+    // Draw the character in the cell
+    g2d.drawString(String.valueOf(ch), x + 2, y + cellSize - 2);
+  }
+}
@@ -0,0 +1,231 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.Strategy.ControlBoardStrategy;
+import cs3500.pawnsboard.Strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.Strategy.Strategy;
+import cs3500.pawnsboard.model.DeckConfigReader;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.tournament.TournamentRunner;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.IntStream;
+
+/**
+ * Renders positions to images without a window, using the same drawing routine as the GUI's
+ * board and hand panels. Works with {@code java.awt.headless=true}.
+ *
+ * <p>Each thread renders into its own image and {@link Graphics2D}, created on the thread's
+ * first render and reused after that, so rendering many positions in parallel neither
+ * shares drawing state nor allocates an image per position. An image returned by
+ * {@link #render} is therefore only valid until the same thread renders again, and stays
+ * reachable from that thread until it calls {@link #release()}. {@link #writeAll} renders
+ * on a pool of its own that is shut down after the batch, so its images do not outlive
+ * it.</p>
+ */
+public class HeadlessBoardRenderer {
+  private final int width;
+  private final int boardHeight;
+  private final boolean includeHand;
+  private final int height;
+  private final ThreadLocal<Canvas> canvases;
+
+  /**
+   * A thread's image, its graphics and a buffer to encode it into.
+   */
+  private static final class Canvas {
+    final BufferedImage image;
+    final Graphics2D g2d;
+    final AffineTransform transform;
+    final Font font;
+    final ByteArrayOutputStream png;
+
+    Canvas(int width, int height) {
+      this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+      this.g2d = image.createGraphics();
+      g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+              RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      this.transform = g2d.getTransform();
+      this.font = g2d.getFont();
+      this.png = new ByteArrayOutputStream();
+    }
+  }
+
+  /**
+   * Constructs a renderer for images of a fixed size.
+   *
+   * @param width the width of each image
+   * @param boardHeight the height of the board area
+   * @param includeHand whether to draw the current player's hand below the board
+   * @throws IllegalArgumentException if a size is not positive
+   */
+  public HeadlessBoardRenderer(int width, int boardHeight, boolean includeHand) {
+    if (width <= 0 || boardHeight <= 0) {
+      throw new IllegalArgumentException("Image size must be positive");
+    }
+    this.width = width;
+    this.boardHeight = boardHeight;
+    this.includeHand = includeHand;
+    this.height = boardHeight + (includeHand ? BoardPainter.HAND_HEIGHT : 0);
+    this.canvases = new ThreadLocal<>();
+  }
+
+  /**
+   * Renders a position into the calling thread's image.
+   *
+   * @param model the position to render
+   * @return the thread's image, valid until the thread renders again
+   * @throws IllegalArgumentException if the model is null
+   */
+  public BufferedImage render(ReadonlyPawnsBoardModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    Canvas canvas = canvases.get();
+    if (canvas == null) {
+      canvas = new Canvas(width, height);
+      canvases.set(canvas);
+    }
+    return draw(canvas, model).image;
+  }
+
+  /**
+   * Drops the calling thread's image, so it can be collected even if the thread lives on.
+   * The next render on the thread creates a new image.
+   */
+  public void release() {
+    Canvas canvas = canvases.get();
+    if (canvas != null) {
+      canvas.g2d.dispose();
+      canvases.remove();
+    }
+  }
+
+  /**
+   * Renders positions in parallel and writes each one as a PNG file named with a prefix and
+   * its index in the list.
+   *
+   * @param positions the positions to render
+   * @param dir the directory to write to, created if needed
+   * @param prefix the start of every file name
+   * @param parallelism the number of threads to render on
+   * @return the files written, in the order of the positions
+   * @throws IllegalArgumentException if an argument is null, the parallelism is not positive
+   *     or a file cannot be written
+   */
+  public List<Path> writeAll(List<? extends ReadonlyPawnsBoardModel> positions, Path dir,
+                             String prefix, int parallelism) {
+    if (positions == null || dir == null || prefix == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    Path[] files = new Path[positions.size()];
+    // The batch's canvases live only on the pool's threads, which end with the pool
+    ThreadLocal<Canvas> batchCanvases = ThreadLocal.withInitial(() -> new Canvas(width, height));
+    ForkJoinPool pool = new ForkJoinPool(parallelism, p -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+      thread.setName("headless-render-" + thread.getPoolIndex());
+      return thread;
+    }, null, false);
+    try {
+      Files.createDirectories(dir);
+      pool.submit(() -> IntStream.range(0, files.length).parallel().forEach(i -> {
+        Canvas canvas = draw(batchCanvases.get(), positions.get(i));
+        files[i] = dir.resolve(String.format("%s%05d.png", prefix, i));
+        try {
+          canvas.png.reset();
+          ImageIO.write(canvas.image, "png", canvas.png);
+          Files.write(files[i], canvas.png.toByteArray());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      })).get();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write to " + dir, e);
+    } catch (ExecutionException e) {
+      throw new IllegalArgumentException("Cannot write images to " + dir, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing images", e);
+    } finally {
+      pool.shutdown();
+    }
+    return List.of(files);
+  }
+
+  private Canvas draw(Canvas canvas, ReadonlyPawnsBoardModel model) {
+    Graphics2D g2d = canvas.g2d;
+    g2d.setTransform(canvas.transform);
+    g2d.setClip(null);
+    g2d.setFont(canvas.font);
+
+    g2d.setColor(Color.WHITE);
+    g2d.fillRect(0, 0, width, boardHeight);
+    BoardPainter.paintBoard(g2d, model, width, boardHeight, -1, -1);
+
+    if (includeHand) {
+      g2d.setTransform(canvas.transform);
+      g2d.setFont(canvas.font);
+      g2d.setColor(Color.LIGHT_GRAY);
+      g2d.fillRect(0, boardHeight, width, BoardPainter.HAND_HEIGHT);
+      g2d.translate(0, boardHeight);
+      BoardPainter.paintHand(g2d, model, -1);
+    }
+    return canvas;
+  }
+
+  /**
+   * Plays headless games and writes a PNG of each final position.
+   *
+   * @param args optional number of games and output directory, by default 100 games into
+   *             thumbnails/
+   */
+  public static void main(String[] args) {
+    System.setProperty("java.awt.headless", "true");
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+    Path dir = Paths.get(args.length > 1 ? args[1] : "thumbnails");
+
+    List<ReadonlyPawnsBoardModel> finals = new ArrayList<>();
+    TournamentRunner runner = new TournamentRunner(
+            DeckConfigReader.readDeckCached("docs/red_deck.txt"),
+            DeckConfigReader.readDeckCached("docs/blue_deck.txt"), 5, 7, 5);
+    runner.setMoveListener(new TournamentRunner.MoveListener() {
+      @Override
+      public void onMove(ReadonlyPawnsBoardModel model, ReadonlyPawnsBoardModel.Player player,
+                         Strategy.Move move) {
+        // Only final positions are rendered
+      }
+
+      @Override
+      public void onGameOver(ReadonlyPawnsBoardModel model) {
+        // Every game is played on a new model, so keeping it is safe
+        finals.add(model);
+      }
+    });
+    runner.play(new MaximizeRowScoreStrategy(), new ControlBoardStrategy(), games, 0);
+
+    long start = System.nanoTime();
+    List<Path> files = new HeadlessBoardRenderer(700, 500, true).writeAll(finals, dir,
+            "game", Runtime.getRuntime().availableProcessors());
+    System.out.printf("Wrote %d images to %s in %d ms%n", files.size(), dir,
+            (System.nanoTime() - start) / 1_000_000);
+  }
+}
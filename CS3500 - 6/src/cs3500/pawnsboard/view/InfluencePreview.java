@@ -0,0 +1,314 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.model.InfluenceFootprints;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import javax.swing.SwingUtilities;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes which cells a card in the current player's hand would change if it were placed on
+ * the hovered cell. Requests made while the mouse moves are debounced: only a hover that
+ * stays put for the debounce delay is computed, on a background thread, and the finished
+ * preview is handed back on the event dispatch thread.
+ *
+ * <p>The cells a card reaches from a cell come from the model's cached
+ * {@link InfluenceFootprints}, or, on boards too large for that cache, from walking the card's
+ * influence mask around the cell, so a preview only has to look at those cells. The background
+ * thread never reads the model: each request takes a {@link Snapshot} of the cells within the
+ * card's reach on the event dispatch thread, and the preview is computed from it. A preview
+ * whose model changed while it was computed, see {@link #invalidate()}, is dropped. Apart
+ * from {@link #compute(Snapshot)}, all methods must be called on the event dispatch
+ * thread.</p>
+ */
+final class InfluencePreview {
+  static final byte ADD_PAWN = 1;
+  static final byte TAKE_OVER = 2;
+  static final long DEFAULT_DEBOUNCE_MILLIS = 40;
+
+  // A card reaches at most this many cells from where it is placed, in each direction
+  private static final int REACH = 2;
+  private static final int WINDOW = 2 * REACH + 1;
+
+  private final ReadonlyPawnsBoardModel model;
+  private final long debounceMillis;
+  private final Runnable onReady;
+  private final ScheduledThreadPoolExecutor executor;
+
+  private ScheduledFuture<?> pending;
+  private int requestedCard = -1;
+  private int requestedRow = -1;
+  private int requestedCol = -1;
+  private int generation;
+  private Preview current;
+
+  /**
+   * A computed preview: the cells a placement would change and how.
+   */
+  static final class Preview {
+    final int cardIndex;
+    final int row;
+    final int col;
+    final int[] rows;
+    final int[] cols;
+    final byte[] effects;
+
+    private Preview(int cardIndex, int row, int col, int[] rows, int[] cols, byte[] effects) {
+      this.cardIndex = cardIndex;
+      this.row = row;
+      this.col = col;
+      this.rows = rows;
+      this.cols = cols;
+      this.effects = effects;
+    }
+
+    /**
+     * Gets the number of cells the placement would change.
+     *
+     * @return the cell count
+     */
+    int size() {
+      return effects.length;
+    }
+  }
+
+  /**
+   * What computing a preview needs to know about the model: the placement, whether it is
+   * legal, the card's influence and the cells within its reach.
+   */
+  static final class Snapshot {
+    private final int cardIndex;
+    private final int row;
+    private final int col;
+    private final int rows;
+    private final int cols;
+    private final Player player;
+    private final boolean legal;
+    private final int mask;
+    // The WINDOW x WINDOW cells centered on the placement, row by row
+    private final CellContent[] contents;
+    private final Player[] owners;
+    private final int[] pawns;
+
+    private Snapshot(ReadonlyPawnsBoardModel model, int cardIndex, int row, int col) {
+      this.cardIndex = cardIndex;
+      this.row = row;
+      this.col = col;
+      this.rows = model.getRows();
+      this.cols = model.getColumns();
+      this.player = model.getCurrentPlayer();
+      this.legal = !model.isGameOver() && model.isLegalMove(cardIndex, row, col);
+      this.mask = legal ? model.getHandCardMask(player, cardIndex) : 0;
+      this.contents = new CellContent[WINDOW * WINDOW];
+      this.owners = new Player[WINDOW * WINDOW];
+      this.pawns = new int[WINDOW * WINDOW];
+      if (!legal) {
+        return;
+      }
+      for (int r = Math.max(0, row - REACH); r <= Math.min(rows - 1, row + REACH); r++) {
+        for (int c = Math.max(0, col - REACH); c <= Math.min(cols - 1, col + REACH); c++) {
+          int i = window(r, c);
+          contents[i] = model.getCellContent(r, c);
+          owners[i] = model.getCellOwner(r, c);
+          pawns[i] = model.getPawnCount(r, c);
+        }
+      }
+    }
+
+    private int window(int targetRow, int targetCol) {
+      return (targetRow - row + REACH) * WINDOW + targetCol - col + REACH;
+    }
+  }
+
+  /**
+   * Constructs a preview for a model.
+   *
+   * @param model the model to preview placements on
+   * @param debounceMillis how long a hover must stay on a cell before it is computed
+   * @param onReady called on the event dispatch thread when a new preview is ready
+   */
+  InfluencePreview(ReadonlyPawnsBoardModel model, long debounceMillis, Runnable onReady) {
+    this.model = model;
+    this.debounceMillis = debounceMillis;
+    this.onReady = onReady;
+    this.executor = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, "influence-preview");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Asks for the preview of placing a card on a cell, replacing any earlier request. Asking
+   * again for the request already made does nothing.
+   *
+   * @param cardIndex the index of the card in the current player's hand, or -1 for none
+   * @param row the hovered row, or -1 for none
+   * @param col the hovered column, or -1 for none
+   */
+  void request(int cardIndex, int row, int col) {
+    if (cardIndex == requestedCard && row == requestedRow && col == requestedCol) {
+      return;
+    }
+    requestedCard = cardIndex;
+    requestedRow = row;
+    requestedCol = col;
+    if (pending != null) {
+      pending.cancel(false);
+      pending = null;
+    }
+    if (current != null) {
+      current = null;
+      onReady.run();
+    }
+    if (cardIndex < 0 || row < 0 || col < 0) {
+      return;
+    }
+
+    int requestGeneration = generation;
+    Snapshot snapshot = snapshot(cardIndex, row, col);
+    pending = executor.schedule(() -> {
+      Preview preview = compute(snapshot);
+      SwingUtilities.invokeLater(() -> accept(preview, requestGeneration));
+    }, debounceMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Drops the current preview and any preview being computed, because the model changed.
+   */
+  void invalidate() {
+    generation++;
+    int card = requestedCard;
+    int row = requestedRow;
+    int col = requestedCol;
+    requestedCard = -1;
+    requestedRow = -1;
+    requestedCol = -1;
+    request(card, row, col);
+  }
+
+  /**
+   * Gets the preview of the latest request.
+   *
+   * @return the preview, or null if it is not ready or nothing was requested
+   */
+  Preview getCurrent() {
+    return current;
+  }
+
+  /**
+   * Stops the background thread.
+   */
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void accept(Preview preview, int requestGeneration) {
+    if (requestGeneration != generation || preview.cardIndex != requestedCard
+            || preview.row != requestedRow || preview.col != requestedCol) {
+      return;
+    }
+    current = preview;
+    onReady.run();
+  }
+
+  /**
+   * Reads what previewing a placement of a card of the current player needs from the model.
+   *
+   * @param cardIndex the index of the card in the current player's hand
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the snapshot
+   */
+  Snapshot snapshot(int cardIndex, int row, int col) {
+    return new Snapshot(model, cardIndex, row, col);
+  }
+
+  /**
+   * Computes the cells a placement would change, or an empty preview if the placement was
+   * not legal when the snapshot was taken. Safe to call from any thread.
+   *
+   * @param snapshot the placement and the cells around it
+   * @return the preview
+   */
+  Preview compute(Snapshot snapshot) {
+    if (!snapshot.legal) {
+      return new Preview(snapshot.cardIndex, snapshot.row, snapshot.col, new int[0],
+              new int[0], new byte[0]);
+    }
+
+    int cols = snapshot.cols;
+    int[] changedRows = new int[WINDOW * WINDOW];
+    int[] changedCols = new int[WINDOW * WINDOW];
+    byte[] effects = new byte[WINDOW * WINDOW];
+    int count = 0;
+    InfluenceFootprints.Table footprint = InfluenceFootprints.get(snapshot.rows, cols,
+            snapshot.mask, snapshot.player);
+    if (footprint != null) {
+      int cell = snapshot.row * cols + snapshot.col;
+      for (int i = footprint.start(cell); i < footprint.end(cell); i++) {
+        int target = footprint.target(i);
+        count = addEffect(snapshot, target / cols, target % cols, changedRows, changedCols,
+                effects, count);
+      }
+    } else {
+      // Boards too large for cached footprints walk the card's mask around the cell
+      for (int bits = snapshot.mask; bits != 0; bits &= bits - 1) {
+        int bit = Integer.numberOfTrailingZeros(bits);
+        int targetRow = snapshot.row + bit / WINDOW - REACH;
+        int relCol = bit % WINDOW - REACH;
+        // Blue's cards are mirrored left to right
+        int targetCol = snapshot.player == Player.RED ? snapshot.col + relCol
+                : snapshot.col - relCol;
+        if (targetRow >= 0 && targetRow < snapshot.rows && targetCol >= 0 && targetCol < cols) {
+          count = addEffect(snapshot, targetRow, targetCol, changedRows, changedCols, effects,
+                  count);
+        }
+      }
+    }
+    return new Preview(snapshot.cardIndex, snapshot.row, snapshot.col,
+            Arrays.copyOf(changedRows, count), Arrays.copyOf(changedCols, count),
+            Arrays.copyOf(effects, count));
+  }
+
+  /**
+   * Records what the placement would do to one cell it reaches, if anything.
+   *
+   * @param snapshot the placement and the cells around it
+   * @param targetRow the row of the reached cell
+   * @param targetCol the column of the reached cell
+   * @param changedRows the rows of the changed cells recorded so far
+   * @param changedCols the columns of the changed cells recorded so far
+   * @param effects the effects recorded so far
+   * @param count the number of changed cells recorded so far
+   * @return the number of changed cells recorded, including this one if it changes
+   */
+  private static int addEffect(Snapshot snapshot, int targetRow, int targetCol,
+                               int[] changedRows, int[] changedCols, byte[] effects, int count) {
+    int window = snapshot.window(targetRow, targetCol);
+    CellContent content = snapshot.contents[window];
+    byte effect = 0;
+    if (content == CellContent.EMPTY) {
+      effect = ADD_PAWN;
+    } else if (content == CellContent.PAWN) {
+      if (snapshot.owners[window] != snapshot.player) {
+        effect = TAKE_OVER;
+      } else if (snapshot.pawns[window] < 3) {
+        effect = ADD_PAWN;
+      }
+    }
+    if (effect == 0) {
+      return count;
+    }
+    changedRows[count] = targetRow;
+    changedCols[count] = targetCol;
+    effects[count] = effect;
+    return count + 1;
+  }
+}
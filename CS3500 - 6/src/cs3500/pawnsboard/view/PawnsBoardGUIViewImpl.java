@@ -3,7 +3,6 @@ package cs3500.pawnsboard.view;
 import cs3500.pawnsboard.Controller.PawnsBoardStubController;
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
 import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
 
 import javax.swing.*;
@@ -18,6 +17,10 @@ import java.util.List;
  * A graphical user interface for the Pawns Board game using Java Swing.
  */
 public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
+  // Green where a preview adds a pawn, orange where it takes one over
+  private static final Color PREVIEW_ADD = new Color(0, 200, 0, 90);
+  private static final Color PREVIEW_TAKE_OVER = new Color(255, 165, 0, 110);
+
   private final ReadonlyPawnsBoardModel model;
   public PawnsBoardStubController controller;
 
@@ -29,6 +32,11 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
   int selectedRow = -1;
   int selectedCol = -1;
 
+  // The cell under the mouse, and the preview of placing the selected card there
+  int hoverRow = -1;
+  int hoverCol = -1;
+  final InfluencePreview preview;
+
   /**
    * Constructs a new GUI view for the given model.
    *
@@ -45,6 +53,8 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
     boardPanel = new BoardPanel();
     handPanel = new HandPanel();
     infoPanel = new InfoPanel();
+    preview = new InfluencePreview(model, InfluencePreview.DEFAULT_DEBOUNCE_MILLIS,
+            boardPanel::repaint);
 
     // Add panels to the frame
     add(boardPanel, BorderLayout.CENTER);
@@ -74,6 +84,9 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
           } else if (e.getKeyCode() == KeyEvent.VK_SPACE) {
             // Pass turn
             controller.handlePassTurn();
+          } else if (e.getKeyCode() == KeyEvent.VK_0 && e.isControlDown()) {
+            // Fit the board back into the window
+            boardPanel.zoomToFit();
           }
         }
       }
@@ -86,6 +99,7 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
 
   @Override
   public void refresh() {
+    preview.invalidate();
     boardPanel.repaint();
     handPanel.repaint();
     infoPanel.repaint();
@@ -94,6 +108,7 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
   @Override
   public void highlightCard(int cardIndex) {
     this.selectedCardIndex = cardIndex;
+    preview.request(selectedCardIndex, hoverRow, hoverCol);
     handPanel.repaint();
   }
 
@@ -109,6 +124,7 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
     this.selectedCardIndex = -1;
     this.selectedRow = -1;
     this.selectedCol = -1;
+    preview.request(selectedCardIndex, hoverRow, hoverCol);
     boardPanel.repaint();
     handPanel.repaint();
   }
@@ -118,10 +134,33 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
     JOptionPane.showMessageDialog(this, message);
   }
 
+  @Override
+  public void dispose() {
+    preview.shutdown();
+    super.dispose();
+  }
+
   /**
-   * Panel for displaying the game board.
+   * Panel for displaying the game board. By default the board is stretched to fill the panel,
+   * but cells never get smaller than {@link #MIN_FIT_CELL_SIZE}; a larger board scrolls.
+   * Ctrl and the mouse wheel zoom around the mouse, the wheel scrolls (vertically, or
+   * horizontally with shift) and dragging pans. Only the cells in view are painted.
    */
   class BoardPanel extends JPanel {
+    static final int MIN_FIT_CELL_SIZE = 20;
+    static final int MIN_CELL_SIZE = 2;
+    static final int MAX_CELL_SIZE = 160;
+
+    // The size of a square cell once zoomed, or 0 to fit the panel
+    private int cellSize;
+
+    // The board position shown at the top-left corner of the panel
+    private int originX;
+    private int originY;
+
+    private int dragX;
+    private int dragY;
+
     public BoardPanel() {
       setBackground(Color.WHITE);
 
@@ -137,105 +176,155 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
             controller.handleCellClick(clickedRow, clickedCol);
           }
         }
-      });
-    }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-      super.paintComponent(g);
-      Graphics2D g2d = (Graphics2D) g;
-
-      int rows = model.getRows();
-      int cols = model.getColumns();
+        @Override
+        public void mousePressed(MouseEvent e) {
+          dragX = e.getX();
+          dragY = e.getY();
+        }
 
-      int cellWidth = getWidth() / cols;
-      int cellHeight = getHeight() / rows;
+        @Override
+        public void mouseExited(MouseEvent e) {
+          hover(-1, -1);
+        }
+      });
 
-      // Draw the board
-      for (int r = 0; r < rows; r++) {
-        for (int c = 0; c < cols; c++) {
-          // Determine cell color based on content and selection
-          Color cellColor = Color.WHITE;
-          if (r == selectedRow && c == selectedCol) {
-            cellColor = Color.CYAN;
+      // Preview the selected card on the hovered cell, and pan by dragging
+      addMouseMotionListener(new MouseAdapter() {
+        @Override
+        public void mouseMoved(MouseEvent e) {
+          int row = getRowFromY(e.getY());
+          int col = getColFromX(e.getX());
+          if (row >= 0 && row < model.getRows() && col >= 0 && col < model.getColumns()) {
+            hover(row, col);
+          } else {
+            hover(-1, -1);
           }
+        }
 
-          // Draw cell background
-          g2d.setColor(cellColor);
-          g2d.fillRect(c * cellWidth, r * cellHeight, cellWidth, cellHeight);
-
-          // Draw cell border
-          g2d.setColor(Color.BLACK);
-          g2d.drawRect(c * cellWidth, r * cellHeight, cellWidth, cellHeight);
+        @Override
+        public void mouseDragged(MouseEvent e) {
+          scrollTo(originX + dragX - e.getX(), originY + dragY - e.getY());
+          dragX = e.getX();
+          dragY = e.getY();
+        }
+      });
 
-          // Draw cell content
-          drawCellContent(g2d, r, c, cellWidth, cellHeight);
+      addMouseWheelListener(e -> {
+        int notches = e.getWheelRotation();
+        if (e.isControlDown()) {
+          int size = Math.min(cellWidth(), cellHeight());
+          zoom(notches < 0 ? size + Math.max(1, size / 4) : size - Math.max(1, size / 5),
+                  e.getX(), e.getY());
+        } else if (e.isShiftDown()) {
+          scrollTo(originX + notches * cellWidth(), originY);
+        } else {
+          scrollTo(originX, originY + notches * cellHeight());
         }
-      }
+      });
+    }
 
-      // Draw row scores
-      for (int r = 0; r < rows; r++) {
-        int redScore = model.getRowScore(Player.RED, r);
-        int blueScore = model.getRowScore(Player.BLUE, r);
+    private void hover(int row, int col) {
+      hoverRow = row;
+      hoverCol = col;
+      preview.request(selectedCardIndex, row, col);
+    }
 
-        g2d.setColor(Color.RED);
-        g2d.drawString(String.valueOf(redScore), 5, r * cellHeight + cellHeight / 2);
+    /**
+     * Zooms to square cells of a size, keeping the board position under a point in place.
+     *
+     * @param size the new cell size, clamped to the allowed sizes
+     * @param x the horizontal position in the panel to zoom around
+     * @param y the vertical position in the panel to zoom around
+     */
+    void zoom(int size, int x, int y) {
+      int oldWidth = cellWidth();
+      int oldHeight = cellHeight();
+      cellSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, size));
+      scrollTo((int) ((long) (originX + x) * cellSize / oldWidth) - x,
+              (int) ((long) (originY + y) * cellSize / oldHeight) - y);
+    }
 
-        g2d.setColor(Color.BLUE);
-        g2d.drawString(String.valueOf(blueScore), getWidth() - 15, r * cellHeight + cellHeight / 2);
-      }
+    /**
+     * Goes back to stretching the board to fill the panel.
+     */
+    void zoomToFit() {
+      cellSize = 0;
+      scrollTo(0, 0);
     }
 
-    private void drawCellContent(Graphics2D g2d, int row, int col, int cellWidth, int cellHeight) {
-      CellContent content = model.getCellContent(row, col);
-      Player owner = model.getCellOwner(row, col);
-
-      int x = col * cellWidth;
-      int y = row * cellHeight;
-
-      switch (content) {
-        case EMPTY:
-          // Draw an empty cell
-          g2d.setColor(Color.LIGHT_GRAY);
-          g2d.drawString("_", x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
-          break;
-        case PAWN:
-          // Draw pawns
-          g2d.setColor(owner == Player.RED ? Color.RED : Color.BLUE);
-          int pawnCount = model.getPawnCount(row, col);
-          g2d.drawString(String.valueOf(pawnCount), x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
-          break;
-        case CARD:
-          // Draw card
-          drawCard(g2d, row, col, x, y, cellWidth, cellHeight);
-          break;
-      }
+    /**
+     * Scrolls so that a board position is at the top-left corner of the panel, as far as the
+     * board allows.
+     *
+     * @param x the horizontal board position
+     * @param y the vertical board position
+     */
+    void scrollTo(int x, int y) {
+      originX = x;
+      originY = y;
+      clampOrigin();
+      repaint();
+    }
+
+    private void clampOrigin() {
+      int maxX = Math.max(0, model.getColumns() * cellWidth() - getWidth());
+      int maxY = Math.max(0, model.getRows() * cellHeight() - getHeight());
+      originX = Math.max(0, Math.min(maxX, originX));
+      originY = Math.max(0, Math.min(maxY, originY));
     }
 
-    private void drawCard(Graphics2D g2d, int row, int col, int x, int y, int cellWidth, int cellHeight) {
-      Card card = model.getCard(row, col);
-      Player owner = model.getCellOwner(row, col);
+    private int cellWidth() {
+      return cellSize > 0 ? cellSize
+              : Math.max(MIN_FIT_CELL_SIZE, getWidth() / model.getColumns());
+    }
 
-      if (card != null) {
-        // Draw card outline
-        g2d.setColor(owner == Player.RED ? new Color(255, 200, 200) : new Color(200, 200, 255));
-        g2d.fillRect(x + 2, y + 2, cellWidth - 4, cellHeight - 4);
+    private int cellHeight() {
+      return cellSize > 0 ? cellSize
+              : Math.max(MIN_FIT_CELL_SIZE, getHeight() / model.getRows());
+    }
 
-        g2d.setColor(owner == Player.RED ? Color.RED : Color.BLUE);
-        g2d.drawRect(x + 2, y + 2, cellWidth - 4, cellHeight - 4);
+    @Override
+    protected void paintComponent(Graphics g) {
+      super.paintComponent(g);
+      Graphics2D g2d = (Graphics2D) g.create();
+      try {
+        // The panel may have been resized since the last scroll
+        clampOrigin();
+        int cellWidth = cellWidth();
+        int cellHeight = cellHeight();
+
+        // Paint in board coordinates, clipped to the part of the board in view
+        g2d.translate(-originX, -originY);
+        g2d.clipRect(originX, originY, getWidth(), getHeight());
+        BoardPainter.paintCells(g2d, model, cellWidth, cellHeight, selectedRow, selectedCol);
+        drawPreview(g2d, cellWidth, cellHeight);
+        BoardPainter.paintRowScores(g2d, model, cellHeight, originX + 5,
+                originX + getWidth() - 15);
+      } finally {
+        g2d.dispose();
+      }
+    }
 
-        // Draw card name and value
-        g2d.drawString(card.getName(), x + 5, y + 15);
-        g2d.drawString("" + card.getValueScore(), x + cellWidth / 2 - 5, y + cellHeight / 2 + 5);
+    private void drawPreview(Graphics2D g2d, int cellWidth, int cellHeight) {
+      InfluencePreview.Preview current = preview.getCurrent();
+      if (current == null) {
+        return;
+      }
+      for (int i = 0; i < current.size(); i++) {
+        g2d.setColor(current.effects[i] == InfluencePreview.TAKE_OVER
+                ? PREVIEW_TAKE_OVER : PREVIEW_ADD);
+        g2d.fillRect(current.cols[i] * cellWidth, current.rows[i] * cellHeight, cellWidth,
+                cellHeight);
       }
     }
 
     private int getRowFromY(int y) {
-      return y / (getHeight() / model.getRows());
+      return (originY + y) / cellHeight();
     }
 
     private int getColFromX(int x) {
-      return x / (getWidth() / model.getColumns());
+      return (originX + x) / cellWidth();
     }
 
     @Override
@@ -268,100 +357,16 @@ public class PawnsBoardGUIViewImpl extends JFrame implements PawnsBoardGUIView {
     @Override
     protected void paintComponent(Graphics g) {
       super.paintComponent(g);
-      Graphics2D g2d = (Graphics2D) g;
-
-      Player currentPlayer = model.getCurrentPlayer();
-      List<Card> hand = model.getPlayerHand(currentPlayer);
-
-      int cardWidth = 100;
-      int cardHeight = 150;
-      int spacing = 10;
-
-      // Draw the hand title
-      g2d.setColor(currentPlayer == Player.RED ? Color.RED : Color.BLUE);
-      g2d.setFont(new Font("Arial", Font.BOLD, 14));
-      g2d.drawString(currentPlayer + "'s Hand", 10, 20);
-
-      // Draw each card in the hand
-      for (int i = 0; i < hand.size(); i++) {
-        Card card = hand.get(i);
-        int x = i * (cardWidth + spacing) + 10;
-        int y = 30;
-
-        // Determine card color based on selection
-        Color cardColor = (i == selectedCardIndex) ? Color.CYAN : Color.WHITE;
-
-        // Draw card background
-        g2d.setColor(cardColor);
-        g2d.fillRect(x, y, cardWidth, cardHeight);
-
-        // Draw card border
-        g2d.setColor(Color.BLACK);
-        g2d.drawRect(x, y, cardWidth, cardHeight);
-
-        // Draw card details
-        g2d.drawString(card.getName(), x + 5, y + 15);
-        g2d.drawString("Cost: " + card.getCost(), x + 5, y + 30);
-        g2d.drawString("Value: " + card.getValueScore(), x + 5, y + 45);
-
-        // Draw influence grid
-        drawInfluenceGrid(g2d, card, x, y + 60, currentPlayer);
-      }
-    }
-
-    private void drawInfluenceGrid(Graphics2D g2d, Card card, int x, int y, Player player) {
-      String[] grid = card.getInfluenceGrid();
-      int cellSize = 10;
-
-      // For blue player, we need to mirror the influence grid horizontally
-      if (player == Player.BLUE) {
-        for (int r = 0; r < 5; r++) {
-          for (int c = 0; c < 5; c++) {
-            // For blue, read the character from the mirrored position
-            char ch = grid[r].charAt(4 - c);
-            drawInfluenceCell(g2d, ch, x + c * cellSize, y + r * cellSize, cellSize);
-          }
-        }
-      } else {
-        // For red player, display the grid as is
-        for (int r = 0; r < 5; r++) {
-          for (int c = 0; c < 5; c++) {
-            char ch = grid[r].charAt(c);
-            drawInfluenceCell(g2d, ch, x + c * cellSize, y + r * cellSize, cellSize);
-          }
-        }
-      }
-    }
-
-    private void drawInfluenceCell(Graphics2D g2d, char ch, int x, int y, int cellSize) {
-      if (ch == 'I') {
-        g2d.setColor(Color.GREEN);
-        g2d.fillRect(x, y, cellSize, cellSize);
-      } else if (ch == 'C') {
-        g2d.setColor(Color.RED);
-        g2d.fillRect(x, y, cellSize, cellSize);
-      } else {
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(x, y, cellSize, cellSize);
-      }
-
-      g2d.setColor(Color.BLACK);
-      g2d.drawRect(x, y, cellSize, cellSize);
-
-      // Draw the character in the cell
-      g2d.drawString(String.valueOf(ch), x + 2, y + cellSize - 2);
+      BoardPainter.paintHand((Graphics2D) g, model, selectedCardIndex);
     }
 
     private int getCardIndexFromX(int x) {
-      int cardWidth = 100;
-      int spacing = 10;
-
-      return (x - 10) / (cardWidth + spacing);
+      return BoardPainter.cardIndexAt(x);
     }
 
     @Override
     public Dimension getPreferredSize() {
-      return new Dimension(800, 200);
+      return new Dimension(800, BoardPainter.HAND_HEIGHT);
     }
   }
 
@@ -0,0 +1,228 @@
+package cs3500.pawnsboard.view;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.CellContent;
+import cs3500.pawnsboard.model.ReadonlyPawnsBoardModel.Player;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A textual view of the game for logs. Every cell is two characters: {@code ..} for an empty
+ * cell, {@code r2} or {@code b2} for two red or blue pawns, and {@code R3} or {@code B3} for a
+ * red or blue card worth 3 ({@code +} for 10 or more). A full render looks like
+ *
+ * <pre>
+ * RED to play, score 3 1
+ * 3 R3 r1 .. .. b1 1
+ * 0 r1 .. .. .. b1 0
+ * </pre>
+ *
+ * <p>and a diff render lists only the cells changed since the last render of either kind,
+ * on one line: {@code BLUE to play, score 3 1: 0,0=R3 0,1=r1}. The first diff lists every
+ * cell that is not empty.</p>
+ *
+ * <p>Rendering reads the board a row at a time into arrays owned by the view and appends
+ * characters and numbers directly, so it allocates no strings. A view is not thread safe.</p>
+ */
+public class PawnsBoardTextualView {
+  private static final int EMPTY_CODE = '.' << 16 | '.';
+
+  private final ReadonlyPawnsBoardModel model;
+  private final StringBuilder builder;
+
+  private int[] contentRow;
+  private int[] ownerRow;
+  private int[] pawnsRow;
+
+  // The two characters of every cell as of the last render, row by row
+  private int[] previous;
+
+  /**
+   * Constructs a textual view of a model.
+   *
+   * @param model the model to view
+   * @throws IllegalArgumentException if the model is null
+   */
+  public PawnsBoardTextualView(ReadonlyPawnsBoardModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    this.model = model;
+    this.builder = new StringBuilder();
+    this.contentRow = new int[0];
+    this.ownerRow = new int[0];
+    this.pawnsRow = new int[0];
+    this.previous = new int[0];
+  }
+
+  /**
+   * Renders the whole board into the view's own builder, replacing its last contents.
+   *
+   * @return the view's builder, valid until the view renders into it again
+   */
+  public StringBuilder render() {
+    builder.setLength(0);
+    try {
+      render(builder);
+    } catch (IOException e) {
+      // A StringBuilder never throws
+      throw new IllegalStateException(e);
+    }
+    return builder;
+  }
+
+  /**
+   * Renders only the cells changed since the last render into the view's own builder,
+   * replacing its last contents.
+   *
+   * @return the view's builder, valid until the view renders into it again
+   */
+  public StringBuilder renderDiff() {
+    builder.setLength(0);
+    try {
+      renderDiff(builder);
+    } catch (IOException e) {
+      // A StringBuilder never throws
+      throw new IllegalStateException(e);
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the whole board: a header line, then one line per row with red's row score, the
+   * cells and blue's row score.
+   *
+   * @param out where to append
+   * @throws IOException if appending fails
+   * @throws IllegalArgumentException if out is null
+   */
+  public void render(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    int cols = prepare();
+    appendHeader(out);
+    out.append('\n');
+    for (int row = 0; row < model.getRows(); row++) {
+      model.readRow(row, contentRow, ownerRow, pawnsRow);
+      appendInt(out, model.getRowScore(Player.RED, row));
+      for (int col = 0; col < cols; col++) {
+        int code = code(row, col);
+        previous[row * cols + col] = code;
+        out.append(' ');
+        appendCode(out, code);
+      }
+      out.append(' ');
+      appendInt(out, model.getRowScore(Player.BLUE, row));
+      out.append('\n');
+    }
+  }
+
+  /**
+   * Appends one line with the header and every cell changed since the last render, as
+   * {@code row,col=cell}.
+   *
+   * @param out where to append
+   * @throws IOException if appending fails
+   * @throws IllegalArgumentException if out is null
+   */
+  public void renderDiff(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    int cols = prepare();
+    appendHeader(out);
+    out.append(':');
+    for (int row = 0; row < model.getRows(); row++) {
+      model.readRow(row, contentRow, ownerRow, pawnsRow);
+      for (int col = 0; col < cols; col++) {
+        int code = code(row, col);
+        if (previous[row * cols + col] != code) {
+          previous[row * cols + col] = code;
+          out.append(' ');
+          appendInt(out, row);
+          out.append(',');
+          appendInt(out, col);
+          out.append('=');
+          appendCode(out, code);
+        }
+      }
+    }
+    out.append('\n');
+  }
+
+  @Override
+  public String toString() {
+    return render().toString();
+  }
+
+  /**
+   * Sizes the row arrays and the snapshot for the model's board, forgetting the snapshot if
+   * the board changed size.
+   *
+   * @return the number of columns
+   */
+  private int prepare() {
+    int cols = model.getColumns();
+    int cells = model.getRows() * cols;
+    if (contentRow.length != cols) {
+      contentRow = new int[cols];
+      ownerRow = new int[cols];
+      pawnsRow = new int[cols];
+    }
+    if (previous.length != cells) {
+      previous = new int[cells];
+      Arrays.fill(previous, EMPTY_CODE);
+    }
+    return cols;
+  }
+
+  private void appendHeader(Appendable out) throws IOException {
+    if (model.isGameOver()) {
+      out.append("game over");
+    } else {
+      out.append(model.getCurrentPlayer() == Player.RED ? "RED" : "BLUE").append(" to play");
+    }
+    out.append(", score ");
+    appendInt(out, model.getTotalScore(Player.RED));
+    out.append(' ');
+    appendInt(out, model.getTotalScore(Player.BLUE));
+  }
+
+  /**
+   * Gets the two characters of a cell of the row last read, packed into one int.
+   */
+  private int code(int row, int col) {
+    int content = contentRow[col];
+    if (content == CellContent.EMPTY.ordinal()) {
+      return EMPTY_CODE;
+    }
+    boolean red = ownerRow[col] == Player.RED.ordinal();
+    if (content == CellContent.PAWN.ordinal()) {
+      return (red ? 'r' : 'b') << 16 | '0' + pawnsRow[col];
+    }
+    Card card = model.getCard(row, col);
+    int value = card == null ? 0 : card.getValueScore();
+    return (red ? 'R' : 'B') << 16 | (value < 10 ? '0' + value : '+');
+  }
+
+  private static void appendCode(Appendable out, int code) throws IOException {
+    out.append((char) (code >>> 16)).append((char) (code & 0xFFFF));
+  }
+
+  private static void appendInt(Appendable out, int value) throws IOException {
+    if (value < 0) {
+      out.append('-');
+      value = -value;
+    }
+    int divisor = 1;
+    while (value / divisor >= 10) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      out.append((char) ('0' + value / divisor % 10));
+    }
+  }
+}